@@ -0,0 +1,96 @@
+package com.project.common.messaging;
+
+import com.project.common.model.ContentMessage;
+import com.project.common.model.ContentPriority;
+import com.project.common.model.ContentStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON(Jackson) / 바이너리 와이어 포맷 직렬화 비교
+ * payloadSize 0 은 클레임 체크(참조만 전달), 그 외는 인라인 청크 데이터 크기
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"0", "1048576"})
+    private int payloadSize;
+
+    private final Jackson2JsonMessageConverter json = new Jackson2JsonMessageConverter();
+    private final BinaryMessageConverter binary = new BinaryMessageConverter();
+
+    private ContentMessage message;
+    private Message jsonMessage;
+    private Message binaryMessage;
+
+    @Setup
+    public void setUp() {
+        message = new ContentMessage();
+        message.setId("3f6c1a52-8d0e-4a7b-9d51-2b7f0c4e9a13");
+        message.setUserId("user-1024");
+        message.setFileName("holiday-photo-0001.jpg");
+        message.setContentType("image/jpeg");
+        message.inferFileTypeFromContentType();
+        message.setFileSize(8L * 1024 * 1024);
+        message.setChunkIndex(3);
+        message.setTotalChunks(8);
+        message.setStatus(ContentStatus.UPLOADING);
+        message.setPriority(ContentPriority.MEDIUM);
+        message.setTimestamp(System.currentTimeMillis());
+        message.setTempFilePath("/app/uploads/temp/3f6c1a52/chunk_3");
+
+        if (payloadSize > 0) {
+            byte[] data = new byte[payloadSize];
+            new Random(42).nextBytes(data);
+            message.setContentData(data);
+        } else {
+            message.setPayloadRef("3f6c1a52-8d0e-4a7b-9d51-2b7f0c4e9a13/chunk_3");
+            message.setPayloadLength(1024 * 1024);
+            message.setPayloadChecksum("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08");
+        }
+
+        jsonMessage = json.toMessage(message, new MessageProperties());
+        jsonMessage.getMessageProperties().setInferredArgumentType(ContentMessage.class);
+        binaryMessage = binary.toMessage(message, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message jsonSerialize() {
+        return json.toMessage(message, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return json.fromMessage(jsonMessage);
+    }
+
+    @Benchmark
+    public Message binarySerialize() {
+        return binary.toMessage(message, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object binaryDeserialize() {
+        return binary.fromMessage(binaryMessage);
+    }
+}
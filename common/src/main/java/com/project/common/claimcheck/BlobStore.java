@@ -0,0 +1,38 @@
+package com.project.common.claimcheck;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * 클레임 체크 페이로드를 보관하는 블롭 저장소 인터페이스
+ * 메시지에는 키만 싣고, 실제 바이트는 이 저장소를 통해 주고받는다
+ */
+public interface BlobStore {
+
+    /**
+     * 스트림을 지정한 키로 저장
+     *
+     * @param key    저장 키
+     * @param data   저장할 데이터 스트림
+     * @param length 데이터 길이 (바이트)
+     */
+    void put(String key, InputStream data, long length) throws IOException;
+
+    /**
+     * 저장된 데이터를 스트림으로 조회
+     */
+    InputStream get(String key) throws IOException;
+
+    /**
+     * 저장된 데이터 삭제 (존재하지 않으면 무시)
+     */
+    void delete(String key);
+
+    /**
+     * 지정한 시각 이전에 저장된 데이터 정리
+     *
+     * @return 삭제된 항목 수
+     */
+    int purgeOlderThan(Instant threshold);
+}
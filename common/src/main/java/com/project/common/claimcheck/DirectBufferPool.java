@@ -0,0 +1,128 @@
+package com.project.common.claimcheck;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 재사용 가능한 다이렉트 버퍼 풀
+ *
+ * 스트림 복사 시 요청마다 힙 배열을 만들지 않고 고정 크기 다이렉트 버퍼를 빌려 쓴다.
+ * 버퍼 수가 상한에 도달하면 반납될 때까지 대기하므로 동시 요청 수와 무관하게
+ * 복사용 메모리 사용량이 bufferSize * maxBuffers 로 제한된다.
+ */
+@Slf4j
+public class DirectBufferPool {
+
+    private final int bufferSize;
+    private final int maxBuffers;
+    private final long acquireTimeoutMillis;
+    private final BlockingQueue<ByteBuffer> idle;
+    private final AtomicInteger allocated = new AtomicInteger();
+
+    public DirectBufferPool(int bufferSize, int maxBuffers, long acquireTimeoutMillis) {
+        if (bufferSize <= 0 || maxBuffers <= 0) {
+            throw new IllegalArgumentException("bufferSize and maxBuffers must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.maxBuffers = maxBuffers;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.idle = new ArrayBlockingQueue<>(maxBuffers);
+    }
+
+    /**
+     * 버퍼 대여 (필요 시 상한까지 새로 할당, 이후에는 반납 대기)
+     */
+    public ByteBuffer acquire() throws IOException {
+        ByteBuffer buffer = idle.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+
+        // 상한 이내라면 지연 할당
+        int current;
+        while ((current = allocated.get()) < maxBuffers) {
+            if (allocated.compareAndSet(current, current + 1)) {
+                return ByteBuffer.allocateDirect(bufferSize);
+            }
+        }
+
+        try {
+            buffer = idle.poll(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for transfer buffer", e);
+        }
+        if (buffer == null) {
+            throw new IOException("Transfer buffer pool exhausted (" + maxBuffers + " buffers in use)");
+        }
+        return buffer;
+    }
+
+    /**
+     * 버퍼 반납
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null) {
+            return;
+        }
+        buffer.clear();
+        if (!idle.offer(buffer)) {
+            log.warn("Direct buffer pool overflow, dropping buffer");
+        }
+    }
+
+    /**
+     * 입력 스트림을 채널로 복사 (풀 버퍼 하나만 사용)
+     *
+     * @return 복사한 바이트 수
+     */
+    public long transfer(InputStream in, WritableByteChannel out) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(in);
+        ByteBuffer buffer = acquire();
+        long total = 0;
+        try {
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                // 버퍼가 찰 때까지 모아서 기록
+                if (read > 0 && buffer.hasRemaining()) {
+                    continue;
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    total += out.write(buffer);
+                }
+                buffer.clear();
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                total += out.write(buffer);
+            }
+            return total;
+        } finally {
+            release(buffer);
+        }
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getMaxBuffers() {
+        return maxBuffers;
+    }
+
+    public int getAllocated() {
+        return allocated.get();
+    }
+}
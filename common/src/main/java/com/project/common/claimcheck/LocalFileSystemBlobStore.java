@@ -0,0 +1,122 @@
+package com.project.common.claimcheck;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 로컬(또는 공유 볼륨) 파일 시스템 기반 블롭 저장소
+ */
+@Slf4j
+public class LocalFileSystemBlobStore implements BlobStore {
+
+    private final Path baseDir;
+    private final DirectBufferPool bufferPool;
+
+    public LocalFileSystemBlobStore(Path baseDir) {
+        this(baseDir, null);
+    }
+
+    public LocalFileSystemBlobStore(Path baseDir, DirectBufferPool bufferPool) {
+        this.baseDir = baseDir.toAbsolutePath().normalize();
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    public void put(String key, InputStream data, long length) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+
+        // 임시 파일에 먼저 쓰고 이동하여 읽는 쪽이 부분 파일을 보지 않도록 함
+        Path tempFile = Files.createTempFile(target.getParent(), ".blob-", ".tmp");
+        try {
+            long written = write(data, tempFile);
+            if (length >= 0 && written != length) {
+                throw new IOException(String.format(
+                        "Blob length mismatch for %s: expected %d, written %d", key, length, written));
+            }
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 버퍼 풀이 있으면 다이렉트 버퍼로 파일 채널에 직접 기록
+     */
+    private long write(InputStream data, Path file) throws IOException {
+        if (bufferPool == null) {
+            return Files.copy(data, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return bufferPool.transfer(data, channel);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            log.warn("Failed to delete blob: {}", key, e);
+        }
+    }
+
+    @Override
+    public int purgeOlderThan(Instant threshold) {
+        if (!Files.isDirectory(baseDir)) {
+            return 0;
+        }
+
+        int purged = 0;
+        try (Stream<Path> files = Files.walk(baseDir)) {
+            List<Path> expired = files
+                    .filter(Files::isRegularFile)
+                    .filter(path -> isOlderThan(path, threshold))
+                    .toList();
+
+            for (Path path : expired) {
+                if (Files.deleteIfExists(path)) {
+                    purged++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Error purging expired blobs under: {}", baseDir, e);
+        }
+        return purged;
+    }
+
+    private boolean isOlderThan(Path path, Instant threshold) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(threshold);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 키를 기본 디렉토리 하위 경로로 변환 (디렉토리 탈출 방지)
+     */
+    private Path resolve(String key) {
+        Path path = baseDir.resolve(key).normalize();
+        if (!path.startsWith(baseDir)) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return path;
+    }
+}
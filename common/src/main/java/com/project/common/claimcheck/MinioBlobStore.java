@@ -0,0 +1,127 @@
+package com.project.common.claimcheck;
+
+import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
+import io.minio.ListObjectsArgs;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.Result;
+import io.minio.messages.Item;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * MinIO(S3 호환) 버킷 기반 블롭 저장소
+ * 다이렉트 버퍼 풀을 쓰지 않는다. MinIO 클라이언트가 스트림을 파트 단위(최소 5MiB)로 힙에 모아 전송하므로
+ * 요청당 힙 사용량은 청크 크기가 아니라 파트 크기로 제한된다.
+ */
+@Slf4j
+public class MinioBlobStore implements BlobStore {
+
+    private final MinioClient minioClient;
+    private final String bucket;
+    private volatile boolean bucketReady;
+
+    public MinioBlobStore(MinioClient minioClient, String bucket) {
+        this.minioClient = minioClient;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public void put(String key, InputStream data, long length) throws IOException {
+        try {
+            ensureBucket();
+            minioClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(key)
+                            .stream(data, length, -1)
+                            .contentType("application/octet-stream")
+                            .build()
+            );
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Failed to store blob: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        try {
+            return minioClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(key)
+                            .build()
+            );
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Failed to read blob: " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            minioClient.removeObject(
+                    RemoveObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(key)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.warn("Failed to delete blob: bucket={}, key={}", bucket, key, e);
+        }
+    }
+
+    @Override
+    public int purgeOlderThan(Instant threshold) {
+        int purged = 0;
+        try {
+            Iterable<Result<Item>> objects = minioClient.listObjects(
+                    ListObjectsArgs.builder()
+                            .bucket(bucket)
+                            .recursive(true)
+                            .build()
+            );
+
+            for (Result<Item> result : objects) {
+                Item item = result.get();
+                if (item.lastModified() != null && item.lastModified().toInstant().isBefore(threshold)) {
+                    delete(item.objectName());
+                    purged++;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Error purging expired blobs in bucket: {}", bucket, e);
+        }
+        return purged;
+    }
+
+    /**
+     * 버킷이 없으면 생성 (최초 1회)
+     */
+    private void ensureBucket() throws Exception {
+        if (bucketReady) {
+            return;
+        }
+        synchronized (this) {
+            if (bucketReady) {
+                return;
+            }
+            boolean exists = minioClient.bucketExists(BucketExistsArgs.builder().bucket(bucket).build());
+            if (!exists) {
+                minioClient.makeBucket(MakeBucketArgs.builder().bucket(bucket).build());
+                log.info("Created claim-check bucket: {}", bucket);
+            }
+            bucketReady = true;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.project.common.claimcheck;
+
+import com.project.common.model.ContentMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLConnection;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * ContentMessage 페이로드 전달 방식 (인라인 / 클레임 체크)
+ *
+ * 클레임 체크 모드에서는 바이트를 블롭 저장소에 두고 메시지에는
+ * 참조 키, 길이, SHA-256 체크섬만 실어 브로커 부하를 줄인다.
+ * 비활성화 시에는 기존처럼 contentData에 바이트를 직접 싣는다.
+ *
+ * 이미 객체 저장소에 있는 데이터는 복사하지 않고 URL 참조로 넘길 수 있다 (payloadUrl).
+ * 이때 페이로드는 객체의 끝 payloadLength 바이트이며 읽는 쪽이 범위 요청으로 가져온다.
+ */
+@Slf4j
+public class PayloadTransport {
+
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+
+    private final BlobStore blobStore;
+    private final boolean claimCheckEnabled;
+
+    public PayloadTransport(BlobStore blobStore, boolean claimCheckEnabled) {
+        this.blobStore = blobStore;
+        this.claimCheckEnabled = claimCheckEnabled;
+    }
+
+    public boolean isClaimCheckEnabled() {
+        return claimCheckEnabled;
+    }
+
+    /**
+     * 바이트 배열 페이로드를 메시지에 첨부
+     */
+    public void attach(ContentMessage message, byte[] data) throws IOException {
+        attach(message, new ByteArrayInputStream(data), data.length);
+    }
+
+    /**
+     * 스트림 페이로드를 메시지에 첨부
+     * 클레임 체크 모드에서는 스트림을 그대로 블롭 저장소로 흘려 보낸다.
+     * 인라인 모드는 메시지 본문에 바이트를 실어야 하므로 청크 전체가 힙에 올라간다
+     * (길이를 알면 정확한 크기로 한 번만 할당)
+     */
+    public void attach(ContentMessage message, InputStream data, long length) throws IOException {
+        if (!claimCheckEnabled) {
+            message.setContentData(length >= 0 && length <= Integer.MAX_VALUE
+                    ? readExactly(data, (int) length) : data.readAllBytes());
+            return;
+        }
+
+        String key = String.format("%s/%d-%s", message.getId(), message.getChunkIndex(), UUID.randomUUID());
+        MessageDigest digest = newDigest();
+
+        try (DigestInputStream digestStream = new DigestInputStream(data, digest)) {
+            blobStore.put(key, digestStream, length);
+        }
+
+        message.setContentData(null);
+        message.setPayloadRef(key);
+        message.setPayloadLength(length);
+        message.setPayloadChecksum(HexFormat.of().formatHex(digest.digest()));
+
+        log.debug("Payload stored by claim-check: contentId={}, key={}, length={}",
+                message.getId(), key, length);
+    }
+
+    private static byte[] readExactly(InputStream data, int length) throws IOException {
+        byte[] bytes = data.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException(String.format("Payload ended after %d of %d bytes", bytes.length, length));
+        }
+        return bytes;
+    }
+
+    /**
+     * 저장소 객체의 끝 부분을 페이로드로 참조 (바이트는 브로커나 블롭 저장소를 거치지 않음)
+     *
+     * @param url 객체 URL (presigned GET 또는 file URL)
+     * @param length 객체 끝에서부터의 페이로드 길이
+     */
+    public void reference(ContentMessage message, String url, long length) {
+        message.setContentData(null);
+        message.setPayloadRef(null);
+        message.setPayloadUrl(url);
+        message.setPayloadLength(length);
+        message.setPayloadChecksum(null);
+    }
+
+    /**
+     * 메시지에 페이로드(인라인 또는 참조)가 있는지 확인
+     */
+    public boolean hasPayload(ContentMessage message) {
+        return message.getContentData() != null || message.getPayloadRef() != null || message.getPayloadUrl() != null;
+    }
+
+    /**
+     * 페이로드 길이 조회
+     */
+    public long payloadLength(ContentMessage message) {
+        if (message.getContentData() != null) {
+            return message.getContentData().length;
+        }
+        return message.getPayloadRef() != null || message.getPayloadUrl() != null ? message.getPayloadLength() : 0;
+    }
+
+    /**
+     * 페이로드를 스트림으로 열기 (체크섬 검증 없음)
+     */
+    public InputStream openPayload(ContentMessage message) throws IOException {
+        if (message.getContentData() != null) {
+            return new ByteArrayInputStream(message.getContentData());
+        }
+        if (message.getPayloadRef() != null) {
+            return blobStore.get(message.getPayloadRef());
+        }
+        if (message.getPayloadUrl() != null) {
+            return openTail(message.getPayloadUrl(), message.getPayloadLength());
+        }
+        throw new IOException("No payload found in message: " + message.getId());
+    }
+
+    /**
+     * 페이로드 전체를 읽어 반환 (클레임 체크인 경우 길이/체크섬 검증)
+     */
+    public byte[] readPayload(ContentMessage message) throws IOException {
+        if (message.getContentData() != null) {
+            return message.getContentData();
+        }
+
+        byte[] data;
+        try (InputStream in = openPayload(message)) {
+            data = in.readAllBytes();
+        }
+
+        if (data.length != message.getPayloadLength()) {
+            throw new IOException(String.format("Payload length mismatch for %s: expected %d, actual %d",
+                    message.getId(), message.getPayloadLength(), data.length));
+        }
+        if (message.getPayloadChecksum() != null) {
+            String actual = HexFormat.of().formatHex(newDigest().digest(data));
+            if (!actual.equalsIgnoreCase(message.getPayloadChecksum())) {
+                throw new IOException("Payload checksum mismatch for " + message.getPayloadRef());
+            }
+        }
+        return data;
+    }
+
+    /**
+     * 원본 메시지의 페이로드를 대상 메시지로 전달 (바이트 복사 없이 참조만 넘김)
+     */
+    public void copyPayload(ContentMessage source, ContentMessage target) {
+        target.setContentData(source.getContentData());
+        target.setPayloadRef(source.getPayloadRef());
+        target.setPayloadLength(source.getPayloadLength());
+        target.setPayloadChecksum(source.getPayloadChecksum());
+        target.setPayloadUrl(source.getPayloadUrl());
+    }
+
+    /**
+     * 블롭 저장소의 페이로드 삭제 (인라인 페이로드는 무시)
+     */
+    public void release(ContentMessage message) {
+        if (message.getPayloadRef() != null) {
+            blobStore.delete(message.getPayloadRef());
+        }
+    }
+
+    /**
+     * URL 객체의 끝 length 바이트 열기
+     * HTTP 는 접미 범위 요청(bytes=-length), 범위를 지원하지 않으면 앞부분을 건너뛴다
+     */
+    private InputStream openTail(String url, long length) throws IOException {
+        URLConnection connection = URI.create(url).toURL().openConnection();
+        if (connection instanceof HttpURLConnection http) {
+            http.setRequestProperty("Range", "bytes=-" + length);
+            if (http.getResponseCode() == HttpURLConnection.HTTP_PARTIAL) {
+                return http.getInputStream();
+            }
+            if (http.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                http.disconnect();
+                throw new IOException("Payload URL returned HTTP " + http.getResponseCode());
+            }
+        }
+
+        InputStream in = connection.getInputStream();
+        long skip = connection.getContentLengthLong() - length;
+        if (skip < 0) {
+            in.close();
+            throw new IOException(String.format("Payload URL object is smaller than payload: %d < %d",
+                    connection.getContentLengthLong(), length));
+        }
+        in.skipNBytes(skip);
+        return in;
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(CHECKSUM_ALGORITHM + " not available", e);
+        }
+    }
+}
@@ -1,20 +1,77 @@
 package com.project.common.config;
 
+import com.project.common.execution.BackpressurePolicy;
+import com.project.common.execution.TaskExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
 
+import java.time.Duration;
+
+/**
+ * 공용 실행기 설정
+ *
+ * 작업 성격별로 실행기를 분리하여 한 종류의 작업이 몰려도 다른 작업이 굶지 않도록 한다.
+ * - cpuBoundExecutor        : 연산 위주 작업 (코어 수 만큼의 스레드)
+ * - ioBoundExecutor         : 네트워크/파일 대기 위주 작업 (가상 스레드, @Async 기본 실행기)
+ * - subprocessExecutor      : 외부 프로세스 실행 (동시에 띄우는 프로세스 수를 제한)
+ *
+ * 대기열이 가득 찼을 때의 정책은 execution.{cpu|subprocess}.policy 로 지정하고,
+ * 각 실행기의 대기/실행 작업 수와 지연 시간은 pipeline.executor.* 메트릭으로 노출된다.
+ */
 @Configuration
+@EnableAsync
 public class AsyncConfig {
+
+    @Value("${execution.cpu.pool-size:0}")               // 0 이면 사용 가능한 코어 수
+    private int cpuPoolSize;
+
+    @Value("${execution.cpu.queue-capacity:200}")
+    private int cpuQueueCapacity;
+
+    @Value("${execution.cpu.policy:CALLER_RUNS}")
+    private BackpressurePolicy cpuPolicy;
+
+    @Value("${execution.io.concurrency-limit:256}")      // -1 이면 무제한
+    private int ioConcurrencyLimit;
+
+    @Value("${execution.subprocess.pool-size:4}")
+    private int subprocessPoolSize;
+
+    @Value("${execution.subprocess.queue-capacity:50}")
+    private int subprocessQueueCapacity;
+
+    @Value("${execution.subprocess.policy:BLOCK}")
+    private BackpressurePolicy subprocessPolicy;
+
+    @Value("${execution.block-timeout-ms:30000}")
+    private long blockTimeoutMillis;
+
+    @Bean
+    public TaskExecutor cpuBoundExecutor(ObjectProvider<MeterRegistry> meterRegistry) {
+        int poolSize = cpuPoolSize > 0 ? cpuPoolSize : Runtime.getRuntime().availableProcessors();
+        return TaskExecutors.threadPool("cpu", poolSize, poolSize, cpuQueueCapacity,
+                cpuPolicy, Duration.ofMillis(blockTimeoutMillis), registry(meterRegistry));
+    }
+
+    @Bean(name = {"ioBoundExecutor", "taskExecutor"})
+    public TaskExecutor ioBoundExecutor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return TaskExecutors.virtualThreads("io", ioConcurrencyLimit, registry(meterRegistry));
+    }
+
     @Bean
-    public TaskExecutor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(10);
-        executor.setThreadNamePrefix("async-");
-        executor.initialize();
-        return executor;
+    public TaskExecutor subprocessExecutor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return TaskExecutors.threadPool("subprocess", subprocessPoolSize, subprocessPoolSize,
+                subprocessQueueCapacity, subprocessPolicy, Duration.ofMillis(blockTimeoutMillis),
+                registry(meterRegistry));
+    }
+
+    private MeterRegistry registry(ObjectProvider<MeterRegistry> meterRegistry) {
+        return meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
     }
-}
\ No newline at end of file
+}
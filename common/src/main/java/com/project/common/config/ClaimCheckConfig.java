@@ -0,0 +1,104 @@
+package com.project.common.config;
+
+import com.project.common.claimcheck.BlobStore;
+import com.project.common.claimcheck.DirectBufferPool;
+import com.project.common.claimcheck.LocalFileSystemBlobStore;
+import com.project.common.claimcheck.MinioBlobStore;
+import com.project.common.claimcheck.PayloadTransport;
+import io.minio.MinioClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 클레임 체크 전송 설정
+ * claim-check.enabled 로 인라인/클레임 체크 모드를 전환한다
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+public class ClaimCheckConfig {
+
+    @Value("${claim-check.enabled:false}")
+    private boolean enabled;
+
+    @Value("${claim-check.store:local}")
+    private String storeType;
+
+    @Value("${claim-check.local-dir:./uploads/claim-check}")
+    private String localDir;
+
+    @Value("${claim-check.bucket:claim-check}")
+    private String bucket;
+
+    @Value("${claim-check.retention-hours:24}")
+    private int retentionHours;
+
+    @Value("${claim-check.buffer.size:65536}")
+    private int bufferSize;
+
+    @Value("${claim-check.buffer.max-count:64}")
+    private int bufferCount;
+
+    @Value("${claim-check.buffer.acquire-timeout-ms:30000}")
+    private long bufferAcquireTimeoutMillis;
+
+    @Value("${minio.endpoint:http://localhost:9000}")
+    private String minioEndpoint;
+
+    @Value("${minio.access-key:minioadmin}")
+    private String minioAccessKey;
+
+    @Value("${minio.secret-key:minioadmin}")
+    private String minioSecretKey;
+
+    /**
+     * 요청 본문을 블롭 저장소로 복사할 때 쓰는 다이렉트 버퍼 풀 (local 저장소 전용, minio 는 클라이언트가 파트 단위로 버퍼링)
+     */
+    @Bean
+    public DirectBufferPool claimCheckBufferPool() {
+        return new DirectBufferPool(bufferSize, bufferCount, bufferAcquireTimeoutMillis);
+    }
+
+    @Bean
+    public BlobStore claimCheckBlobStore() {
+        if ("minio".equalsIgnoreCase(storeType)) {
+            MinioClient client = MinioClient.builder()
+                    .endpoint(minioEndpoint)
+                    .credentials(minioAccessKey, minioSecretKey)
+                    .build();
+            log.info("Claim-check blob store: minio (bucket={}, enabled={})", bucket, enabled);
+            return new MinioBlobStore(client, bucket);
+        }
+
+        log.info("Claim-check blob store: local (dir={}, enabled={})", localDir, enabled);
+        return new LocalFileSystemBlobStore(Paths.get(localDir), claimCheckBufferPool());
+    }
+
+    @Bean
+    public PayloadTransport payloadTransport(BlobStore claimCheckBlobStore) {
+        return new PayloadTransport(claimCheckBlobStore, enabled);
+    }
+
+    /**
+     * 보존 기간이 지난 페이로드 정리
+     * 마지막 청크처럼 여러 단계가 참조하는 페이로드는 이 작업으로 만료된다
+     */
+    @Scheduled(fixedDelayString = "${claim-check.purge-interval-ms:3600000}")
+    public void purgeExpiredPayloads() {
+        if (!enabled) {
+            return;
+        }
+        int purged = claimCheckBlobStore().purgeOlderThan(Instant.now().minus(Duration.ofHours(retentionHours)));
+        if (purged > 0) {
+            log.info("Purged {} expired claim-check payloads", purged);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.common.config;
+
+import com.project.common.messaging.DelayedRetryRecoverer;
+import com.project.common.messaging.ListenerContainerTuner;
+import com.project.common.messaging.ListenerContainerTuner.QueueSettings;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
+
+/**
+ * 공용 리스너 컨테이너 설정
+ * 기본 rabbitListenerContainerFactory 를 spring.rabbitmq.listener.simple 설정으로 만든 뒤
+ * 큐별 동시성/프리페치, 가상 스레드, 적체량 기반 소비자 조정, 지연 큐 재시도를 적용한다
+ */
+@Configuration
+@EnableScheduling
+public class ListenerContainerConfig {
+
+    @Value("${messaging.listener.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Value("${messaging.listener.scaling.enabled:false}")
+    private boolean scalingEnabled;
+
+    @Value("${messaging.listener.scaling.messages-per-consumer:20}")
+    private int messagesPerConsumer;
+
+    @Value("${spring.rabbitmq.listener.simple.concurrency:}")
+    private String defaultConcurrency;
+
+    @Value("${spring.rabbitmq.listener.simple.max-concurrency:}")
+    private String defaultMaxConcurrency;
+
+    @Bean
+    public ListenerContainerTuner listenerContainerTuner(Environment environment, AmqpAdmin amqpAdmin,
+                                                         DelayedRetryRecoverer delayedRetryRecoverer) {
+        Map<String, QueueSettings> queues = Binder.get(environment)
+                .bind("messaging.listener.queues", Bindable.mapOf(String.class, QueueSettings.class))
+                .orElse(Map.of());
+        return new ListenerContainerTuner(queues, virtualThreads, amqpAdmin, scalingEnabled, messagesPerConsumer,
+                delayedRetryRecoverer);
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            ListenerContainerTuner listenerContainerTuner) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+
+        // 전역 동시성이 범위로 지정된 경우 큐별 설정이 없는 리스너도 적체량 조정 대상
+        String concurrency = null;
+        if (!defaultConcurrency.isBlank() && !defaultMaxConcurrency.isBlank()) {
+            concurrency = defaultConcurrency + "-" + defaultMaxConcurrency;
+        }
+        listenerContainerTuner.apply(factory, concurrency);
+        return factory;
+    }
+}
@@ -1,18 +1,28 @@
 package com.project.common.config;
 
 import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.BinaryMessageConverter;
+import com.project.common.messaging.DelayedRetryRecoverer;
+import com.project.common.messaging.LegacyQueueDrainer;
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.messaging.ProcessingLane;
+import com.project.common.messaging.WireFormatMessageConverter;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.MessageConverter;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 
 import static com.project.common.constants.RabbitMQConstants.*;
 
@@ -28,9 +38,14 @@ public class RabbitMQConfig {
         return new TopicExchange(RabbitMQConstants.DLX_EXCHANGE);
     }
 
+    @Bean
+    public HeadersExchange retryExchange() {
+        return new HeadersExchange(RabbitMQConstants.RETRY_EXCHANGE);
+    }
+
     @Bean
     public Queue validationQueue() {
-        return new Queue(RabbitMQConstants.VALIDATION_QUEUE, true);
+        return new Queue(RabbitMQConstants.VALIDATION_QUEUE, true, false, false, priorityQueueArgs());
     }
 
     @Bean
@@ -41,9 +56,22 @@ public class RabbitMQConfig {
                 .with(RabbitMQConstants.VALIDATION_ROUTING_KEY);
     }
 
+    @Bean
+    public Queue validationHighQueue() {
+        return new Queue(RabbitMQConstants.VALIDATION_HIGH_QUEUE, true, false, false, priorityQueueArgs());
+    }
+
+    @Bean
+    public Binding validationHighBinding(Queue validationHighQueue, TopicExchange contentExchange) {
+        return BindingBuilder
+                .bind(validationHighQueue)
+                .to(contentExchange)
+                .with(RabbitMQConstants.VALIDATION_ROUTING_KEY + RabbitMQConstants.HIGH_LANE_SUFFIX);
+    }
+
     @Bean
     public Queue processingQueue() {
-        return new Queue(RabbitMQConstants.PROCESSING_QUEUE, true);
+        return new Queue(RabbitMQConstants.PROCESSING_QUEUE, true, false, false, priorityQueueArgs());
     }
 
     @Bean
@@ -54,6 +82,69 @@ public class RabbitMQConfig {
                 .with(RabbitMQConstants.PROCESSING_ROUTING_KEY);
     }
 
+    @Bean
+    public Queue processingHighQueue() {
+        return new Queue(RabbitMQConstants.PROCESSING_HIGH_QUEUE, true, false, false, priorityQueueArgs());
+    }
+
+    @Bean
+    public Binding processingHighBinding(Queue processingHighQueue, TopicExchange contentExchange) {
+        return BindingBuilder
+                .bind(processingHighQueue)
+                .to(contentExchange)
+                .with(RabbitMQConstants.PROCESSING_ROUTING_KEY + RabbitMQConstants.HIGH_LANE_SUFFIX);
+    }
+
+    /**
+     * 파일 유형별 처리 큐와 바인딩 (content.type.* -> content.processing.{type}.queue)
+     */
+    @Bean
+    public Declarables processingLaneDeclarables() {
+        List<Declarable> declarables = new ArrayList<>();
+        for (ProcessingLane lane : ProcessingLane.values()) {
+            declarables.add(new Queue(lane.getQueueName(), true, false, false, priorityQueueArgs()));
+            declarables.add(new Binding(lane.getQueueName(), Binding.DestinationType.QUEUE,
+                    RabbitMQConstants.CONTENT_EXCHANGE, lane.getRoutingKey(), null));
+        }
+        return new Declarables(declarables);
+    }
+
+    @Bean
+    public Queue storageQueue() {
+        return new Queue(RabbitMQConstants.STORAGE_QUEUE, true, false, false, priorityQueueArgs());
+    }
+
+    @Bean
+    public Binding storageBinding(Queue storageQueue, TopicExchange contentExchange) {
+        return BindingBuilder
+                .bind(storageQueue)
+                .to(contentExchange)
+                .with(RabbitMQConstants.STORAGE_ROUTING_KEY);
+    }
+
+    @Bean
+    public Queue storageHighQueue() {
+        return new Queue(RabbitMQConstants.STORAGE_HIGH_QUEUE, true, false, false, priorityQueueArgs());
+    }
+
+    @Bean
+    public Binding storageHighBinding(Queue storageHighQueue, TopicExchange contentExchange) {
+        return BindingBuilder
+                .bind(storageHighQueue)
+                .to(contentExchange)
+                .with(RabbitMQConstants.STORAGE_ROUTING_KEY + RabbitMQConstants.HIGH_LANE_SUFFIX);
+    }
+
+    /**
+     * 우선순위 큐 인자 (ContentPriority -> 메시지 priority 로 대기 순서 결정)
+     * 인자가 다른 큐는 같은 이름으로 다시 선언할 수 없으므로 우선순위 큐는 .v2 이름을 쓴다 (LegacyQueueDrainer 참고)
+     */
+    private static Map<String, Object> priorityQueueArgs() {
+        Map<String, Object> args = new HashMap<>();
+        args.put(RabbitMQConstants.X_MAX_PRIORITY, RabbitMQConstants.MAX_PRIORITY);
+        return args;
+    }
+
     @Bean
     public Queue statusUpdateQueue() {
         return new Queue(RabbitMQConstants.STATUS_UPDATE_QUEUE, true);
@@ -80,12 +171,35 @@ public class RabbitMQConfig {
                 .with(RabbitMQConstants.DLQ_ROUTING_KEY);
     }
 
+    /**
+     * 재시도 지연 큐 (대기 시간별 TTL, 만료되면 원래 라우팅 키로 콘텐츠 교환기에 복귀)
+     */
+    @Bean
+    public Declarables retryDelayDeclarables(DelayedRetryRecoverer delayedRetryRecoverer) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (Long delay : new TreeSet<>(delayedRetryRecoverer.getDelays())) {
+            Map<String, Object> args = new HashMap<>();
+            args.put(RabbitMQConstants.X_MESSAGE_TTL, delay);
+            args.put(RabbitMQConstants.X_DEAD_LETTER_EXCHANGE, RabbitMQConstants.CONTENT_EXCHANGE);
+            String queueName = DelayedRetryRecoverer.delayQueueName(delay);
+            declarables.add(new Queue(queueName, true, false, false, args));
+
+            Map<String, Object> match = new HashMap<>();
+            match.put("x-match", "all");
+            match.put(RabbitMQConstants.X_RETRY_DELAY, String.valueOf(delay));
+            declarables.add(new Binding(queueName, Binding.DestinationType.QUEUE,
+                    RabbitMQConstants.RETRY_EXCHANGE, "", match));
+        }
+        return new Declarables(declarables);
+    }
+
     @Bean
     public Queue chunkStorageQueue() {
         Map<String, Object> args = new HashMap<>();
         args.put(RabbitMQConstants.X_DEAD_LETTER_EXCHANGE, RabbitMQConstants.DLX_EXCHANGE);
         args.put(RabbitMQConstants.X_DEAD_LETTER_ROUTING_KEY, RabbitMQConstants.DLQ_ROUTING_KEY);
         args.put(RabbitMQConstants.X_MESSAGE_TTL, RabbitMQConstants.MESSAGE_TTL);
+        args.put(RabbitMQConstants.X_MAX_PRIORITY, RabbitMQConstants.MAX_PRIORITY);
         return new Queue(RabbitMQConstants.CHUNK_STORAGE_QUEUE, true, false, false, args);
     }
 
@@ -103,6 +217,7 @@ public class RabbitMQConfig {
         args.put(RabbitMQConstants.X_DEAD_LETTER_EXCHANGE, RabbitMQConstants.DLX_EXCHANGE);
         args.put(RabbitMQConstants.X_DEAD_LETTER_ROUTING_KEY, RabbitMQConstants.DLQ_ROUTING_KEY);
         args.put(RabbitMQConstants.X_MESSAGE_TTL, RabbitMQConstants.MESSAGE_TTL);
+        args.put(RabbitMQConstants.X_MAX_PRIORITY, RabbitMQConstants.MAX_PRIORITY);
         return new Queue(RabbitMQConstants.CHUNK_MERGER_QUEUE, true, false, false, args);
     }
 
@@ -115,14 +230,111 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public Queue directUploadPresignQueue() {
+        // 응답 대기 시간이 지난 발급 요청은 버림
+        Map<String, Object> args = new HashMap<>();
+        args.put(RabbitMQConstants.X_MESSAGE_TTL, RabbitMQConstants.MESSAGE_TTL);
+        return new Queue(RabbitMQConstants.DIRECT_UPLOAD_PRESIGN_QUEUE, true, false, false, args);
+    }
+
+    @Bean
+    public Binding directUploadPresignBinding(Queue directUploadPresignQueue, TopicExchange contentExchange) {
+        return BindingBuilder
+                .bind(directUploadPresignQueue)
+                .to(contentExchange)
+                .with(RabbitMQConstants.DIRECT_UPLOAD_PRESIGN_ROUTING_KEY);
+    }
+
+    @Bean
+    public Queue chunkHashQueue() {
+        // 응답 대기 시간이 지난 협상 요청은 버림
+        Map<String, Object> args = new HashMap<>();
+        args.put(RabbitMQConstants.X_MESSAGE_TTL, RabbitMQConstants.MESSAGE_TTL);
+        return new Queue(RabbitMQConstants.CHUNK_HASH_QUEUE, true, false, false, args);
+    }
+
+    @Bean
+    public Binding chunkHashBinding(Queue chunkHashQueue, TopicExchange contentExchange) {
+        return BindingBuilder
+                .bind(chunkHashQueue)
+                .to(contentExchange)
+                .with(RabbitMQConstants.CHUNK_HASH_ROUTING_KEY);
+    }
+
+    @Bean
+    public Queue storageLookupQueue() {
+        // 응답 대기 시간이 지난 조회 요청은 버림
+        Map<String, Object> args = new HashMap<>();
+        args.put(RabbitMQConstants.X_MESSAGE_TTL, RabbitMQConstants.MESSAGE_TTL);
+        return new Queue(RabbitMQConstants.STORAGE_LOOKUP_QUEUE, true, false, false, args);
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public Binding storageLookupBinding(Queue storageLookupQueue, TopicExchange contentExchange) {
+        return BindingBuilder
+                .bind(storageLookupQueue)
+                .to(contentExchange)
+                .with(RabbitMQConstants.STORAGE_LOOKUP_ROUTING_KEY);
+    }
+
+    /**
+     * 수신은 content-type 으로 JSON/바이너리를 모두 처리하고,
+     * 송신 형식은 messaging.wire-format (json | binary) 으로 선택한다
+     */
+    @Bean
+    public MessageConverter messageConverter(@Value("${messaging.wire-format:json}") String wireFormat) {
+        return new WireFormatMessageConverter(new Jackson2JsonMessageConverter(),
+                new BinaryMessageConverter(),
+                "binary".equalsIgnoreCase(wireFormat));
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(jsonMessageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter);
+        // 라우팅되지 않은 메시지는 버리지 않고 반환받음 (spring.rabbitmq.publisher-returns: true)
+        rabbitTemplate.setMandatory(true);
         return rabbitTemplate;
     }
+
+    /**
+     * 발행 확인 기반 파이프라인 발행기
+     */
+    @Bean
+    public PipelinePublisher pipelinePublisher(RabbitTemplate rabbitTemplate,
+                                               @Value("${messaging.publisher.confirm-timeout-ms:5000}") long confirmTimeoutMillis,
+                                               @Value("${messaging.publisher.max-attempts:3}") int maxAttempts,
+                                               @Value("${messaging.priority.high-lane.enabled:false}") boolean highLaneEnabled) {
+        return new PipelinePublisher(rabbitTemplate, confirmTimeoutMillis, maxAttempts, highLaneEnabled);
+    }
+
+    /**
+     * 우선순위 인자 없이 선언돼 있던 이전 큐의 바인딩을 끊고 남은 메시지를 .v2 큐로 옮긴 뒤 삭제
+     */
+    @Bean
+    public LegacyQueueDrainer legacyQueueDrainer(RabbitTemplate rabbitTemplate, AmqpAdmin amqpAdmin,
+                                                 PipelinePublisher pipelinePublisher,
+                                                 @Value("${messaging.legacy-queues.drain-enabled:true}") boolean enabled) {
+        Map<String, String> legacyQueues = Map.of(
+                RabbitMQConstants.LEGACY_VALIDATION_QUEUE, RabbitMQConstants.VALIDATION_ROUTING_KEY,
+                RabbitMQConstants.LEGACY_PROCESSING_QUEUE, RabbitMQConstants.PROCESSING_ROUTING_KEY,
+                RabbitMQConstants.LEGACY_STORAGE_QUEUE, RabbitMQConstants.STORAGE_ROUTING_KEY,
+                RabbitMQConstants.LEGACY_CHUNK_STORAGE_QUEUE, RabbitMQConstants.CHUNK_STORAGE_ROUTING_KEY,
+                RabbitMQConstants.LEGACY_CHUNK_MERGER_QUEUE, RabbitMQConstants.CHUNK_MERGER_ROUTING_KEY);
+        return new LegacyQueueDrainer(rabbitTemplate, amqpAdmin, pipelinePublisher, legacyQueues, enabled);
+    }
+
+    /**
+     * 리스너 실패 메시지를 지연 큐로 재발행하고, MAX_RETRY_COUNT 를 넘기면 DLQ 로 보내는 복구기
+     * 지연 재시도를 끄면 (messaging.retry.enabled: false) 첫 실패에 바로 DLQ 로 보낸다
+     */
+    @Bean
+    public DelayedRetryRecoverer delayedRetryRecoverer(PipelinePublisher pipelinePublisher,
+                                                       @Value("${messaging.retry.enabled:true}") boolean enabled,
+                                                       @Value("${messaging.retry.initial-interval-ms:1000}") long initialInterval,
+                                                       @Value("${messaging.retry.multiplier:2.0}") double multiplier,
+                                                       @Value("${messaging.retry.max-interval-ms:30000}") long maxInterval) {
+        return new DelayedRetryRecoverer(pipelinePublisher, DelayedRetryRecoverer.backoffDelays(
+                initialInterval, multiplier, maxInterval, enabled ? RabbitMQConstants.MAX_RETRY_COUNT : 0));
+    }
 }
\ No newline at end of file
@@ -9,19 +9,42 @@ public class RabbitMQConstants {
     // Exchange 이름
     public static final String CONTENT_EXCHANGE = "content.exchange";
     public static final String DLX_EXCHANGE = "content.dlx.exchange";
+    public static final String RETRY_EXCHANGE = "content.retry.exchange";
+    // 업로드 인스턴스 간 상태 캐시 무효화 (fanout, 인스턴스마다 익명 큐로 수신)
+    public static final String STATUS_CACHE_EXCHANGE = "content.status.cache.exchange";
 
     // Queue 이름
+    // 우선순위 큐(x-max-priority)는 기존 큐에 인자를 더해 다시 선언할 수 없으므로 .v2 이름으로 새로 선언
     public static final String UPLOAD_QUEUE = "content.upload.queue";
-    public static final String VALIDATION_QUEUE = "content.validation.queue";
-    public static final String PROCESSING_QUEUE = "content.processing.queue";
-    public static final String STORAGE_QUEUE = "content.storage.queue";
+    public static final String VALIDATION_QUEUE = "content.validation.queue.v2";
+    public static final String PROCESSING_QUEUE = "content.processing.queue.v2";
+    public static final String STORAGE_QUEUE = "content.storage.queue.v2";
     public static final String NOTIFICATION_QUEUE = "content.notification.queue";
     public static final String DLQ_QUEUE = "content.dlq.queue";
     public static final String STATUS_UPDATE_QUEUE = "content.status.update.queue";
 
     // 청크 처리 관련 추가 (추가됨)
-    public static final String CHUNK_STORAGE_QUEUE = "content.chunk.storage.queue";
-    public static final String CHUNK_MERGER_QUEUE = "content.chunk.merger.queue";
+    public static final String CHUNK_STORAGE_QUEUE = "content.chunk.storage.queue.v2";
+    public static final String CHUNK_MERGER_QUEUE = "content.chunk.merger.queue.v2";
+
+    // 우선순위 인자 없이 선언돼 있던 이전 큐 (LegacyQueueDrainer 가 바인딩을 끊고 비운 뒤 삭제)
+    public static final String LEGACY_VALIDATION_QUEUE = "content.validation.queue";
+    public static final String LEGACY_PROCESSING_QUEUE = "content.processing.queue";
+    public static final String LEGACY_STORAGE_QUEUE = "content.storage.queue";
+    public static final String LEGACY_CHUNK_STORAGE_QUEUE = "content.chunk.storage.queue";
+    public static final String LEGACY_CHUNK_MERGER_QUEUE = "content.chunk.merger.queue";
+
+    // 지연 재시도 큐 (대기 시간별로 content.retry.delay.{ms}ms)
+    public static final String RETRY_DELAY_QUEUE_PREFIX = "content.retry.delay.";
+
+    // 직접 업로드 URL 발급 (RPC)
+    public static final String DIRECT_UPLOAD_PRESIGN_QUEUE = "content.direct.presign.queue";
+
+    // 청크 해시 협상 (RPC)
+    public static final String CHUNK_HASH_QUEUE = "content.chunk.hash.queue";
+
+    // 저장 객체 메타데이터 조회 (RPC)
+    public static final String STORAGE_LOOKUP_QUEUE = "content.storage.lookup.queue";
 
     // Routing Key
     public static final String UPLOAD_ROUTING_KEY = "content.upload";
@@ -35,6 +58,9 @@ public class RabbitMQConstants {
     // 청크 처리 관련 추가 (추가됨)
     public static final String CHUNK_STORAGE_ROUTING_KEY = "content.chunk.storage";
     public static final String CHUNK_MERGER_ROUTING_KEY = "content.chunk.merger";
+    public static final String DIRECT_UPLOAD_PRESIGN_ROUTING_KEY = "content.direct.presign";
+    public static final String CHUNK_HASH_ROUTING_KEY = "content.chunk.hash";
+    public static final String STORAGE_LOOKUP_ROUTING_KEY = "content.storage.lookup";
 
     // Content Type Routing Keys
     public static final String IMAGE_ROUTING_KEY = "content.type.image";
@@ -44,11 +70,22 @@ public class RabbitMQConstants {
     public static final String TEXT_ROUTING_KEY = "content.type.text";
     public static final String OTHER_ROUTING_KEY = "content.type.other";
 
+    // 파일 유형별 처리 큐 (Content Type Routing Key 로 바인딩)
+    public static final String PROCESSING_IMAGE_QUEUE = "content.processing.image.queue";
+    public static final String PROCESSING_VIDEO_QUEUE = "content.processing.video.queue";
+    public static final String PROCESSING_AUDIO_QUEUE = "content.processing.audio.queue";
+    public static final String PROCESSING_PDF_QUEUE = "content.processing.pdf.queue";
+    public static final String PROCESSING_TEXT_QUEUE = "content.processing.text.queue";
+    public static final String PROCESSING_OTHER_QUEUE = "content.processing.other.queue";
+
     // Header Keys
     public static final String X_RETRY_COUNT = "x-retry-count";
     public static final String X_PRIORITY = "x-priority";
     public static final String X_ORIGINAL_EXCHANGE = "x-original-exchange";
     public static final String X_ORIGINAL_ROUTING_KEY = "x-original-routing-key";
+    public static final String X_RETRY_DELAY = "x-retry-delay";
+    public static final String X_EXCEPTION_MESSAGE = "x-exception-message";
+    public static final String X_DEAD_LETTERED_AT = "x-dead-lettered-at";
 
     // 청크 관련 헤더 키 (추가됨)
     public static final String X_CHUNK_INDEX = "x-chunk-index";
@@ -60,6 +97,14 @@ public class RabbitMQConstants {
     public static final int PRIORITY_NORMAL = 5;
     public static final int PRIORITY_LOW = 1;
 
+    // 우선순위 큐 (x-max-priority) 와 고우선순위 전용 레인
+    public static final String X_MAX_PRIORITY = "x-max-priority";
+    public static final int MAX_PRIORITY = PRIORITY_HIGH;
+    public static final String HIGH_LANE_SUFFIX = ".high";
+    public static final String VALIDATION_HIGH_QUEUE = VALIDATION_QUEUE + HIGH_LANE_SUFFIX;
+    public static final String PROCESSING_HIGH_QUEUE = PROCESSING_QUEUE + HIGH_LANE_SUFFIX;
+    public static final String STORAGE_HIGH_QUEUE = STORAGE_QUEUE + HIGH_LANE_SUFFIX;
+
     // Queue 속성
     public static final String X_DEAD_LETTER_EXCHANGE = "x-dead-letter-exchange";
     public static final String X_DEAD_LETTER_ROUTING_KEY = "x-dead-letter-routing-key";
@@ -0,0 +1,10 @@
+package com.project.common.execution;
+
+/**
+ * 실행기 대기열이 가득 찼을 때의 처리 정책
+ */
+public enum BackpressurePolicy {
+    CALLER_RUNS,    // 제출한 스레드에서 직접 실행 (제출 속도가 자연스럽게 늦춰짐)
+    BLOCK,          // 대기열에 자리가 날 때까지 제출 스레드를 대기시키고, 시간 초과 시 거부
+    ABORT           // 즉시 거부 (RejectedExecutionException)
+}
@@ -0,0 +1,142 @@
+package com.project.common.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskDecorator;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행기 계측
+ *
+ * 제출된 작업을 감싸서 대기/실행 중 작업 수와 대기 시간, 실행 시간을 기록한다.
+ * 스레드 풀과 가상 스레드 실행기 모두 같은 방식으로 계측되며, 메트릭은 name 태그로 구분된다.
+ *
+ * - pipeline.executor.queued    : 제출되었지만 아직 시작되지 않은 작업 수
+ * - pipeline.executor.active    : 실행 중인 작업 수
+ * - pipeline.executor.wait      : 제출부터 시작까지 걸린 시간
+ * - pipeline.executor.execution : 작업 실행 시간
+ * - pipeline.executor.rejected  : 거부된 작업 수
+ */
+public class ExecutorMetrics implements TaskDecorator {
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final Counter rejected;
+
+    public ExecutorMetrics(String name, MeterRegistry registry) {
+        Gauge.builder("pipeline.executor.queued", queued, AtomicInteger::get)
+                .tag("name", name)
+                .description("Tasks submitted but not yet started")
+                .register(registry);
+        Gauge.builder("pipeline.executor.active", active, AtomicInteger::get)
+                .tag("name", name)
+                .description("Tasks currently running")
+                .register(registry);
+        this.waitTimer = Timer.builder("pipeline.executor.wait")
+                .tag("name", name)
+                .description("Time from submission to start")
+                .register(registry);
+        this.executionTimer = Timer.builder("pipeline.executor.execution")
+                .tag("name", name)
+                .description("Task execution time")
+                .register(registry);
+        this.rejected = Counter.builder("pipeline.executor.rejected")
+                .tag("name", name)
+                .description("Tasks rejected by the backpressure policy")
+                .register(registry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        queued.incrementAndGet();
+        return new TrackedTask(runnable, System.nanoTime());
+    }
+
+    /**
+     * 정책에 맞는 거부 처리기 생성 (거부된 작업은 대기 수에서 빠지고 거부 수에 더해짐)
+     */
+    public RejectedExecutionHandler rejectionHandler(BackpressurePolicy policy, Duration blockTimeout) {
+        return (task, executor) -> {
+            switch (policy) {
+                case CALLER_RUNS -> {
+                    if (!executor.isShutdown()) {
+                        task.run();
+                        return;
+                    }
+                }
+                case BLOCK -> {
+                    if (offer(task, executor, blockTimeout)) {
+                        return;
+                    }
+                }
+                case ABORT -> {
+                }
+            }
+            reject(task);
+            throw new RejectedExecutionException("Task rejected by " + policy + " policy, executor: " + executor);
+        };
+    }
+
+    private boolean offer(Runnable task, ThreadPoolExecutor executor, Duration timeout) {
+        if (executor.isShutdown()) {
+            return false;
+        }
+        try {
+            return executor.getQueue().offer(task, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(Runnable task) {
+        rejected.increment();
+        if (task instanceof TrackedTask tracked) {
+            tracked.discard();
+        }
+    }
+
+    private final class TrackedTask implements Runnable {
+
+        private final Runnable delegate;
+        private final long submittedAt;
+        private boolean done;
+
+        private TrackedTask(Runnable delegate, long submittedAt) {
+            this.delegate = delegate;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            queued.decrementAndGet();
+            done = true;
+            waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            active.incrementAndGet();
+            try {
+                delegate.run();
+            } finally {
+                active.decrementAndGet();
+                executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void discard() {
+            if (!done) {
+                done = true;
+                queued.decrementAndGet();
+            }
+        }
+    }
+}
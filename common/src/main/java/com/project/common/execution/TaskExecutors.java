@@ -0,0 +1,50 @@
+package com.project.common.execution;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+
+/**
+ * 계측된 실행기 생성 도우미
+ */
+public final class TaskExecutors {
+
+    private TaskExecutors() {
+    }
+
+    /**
+     * 고정 크기 대기열을 가진 스레드 풀 실행기
+     */
+    public static ThreadPoolTaskExecutor threadPool(String name, int corePoolSize, int maxPoolSize,
+                                                    int queueCapacity, BackpressurePolicy policy,
+                                                    Duration blockTimeout, MeterRegistry registry) {
+        ExecutorMetrics metrics = new ExecutorMetrics(name, registry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(Math.max(corePoolSize, maxPoolSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(name + "-");
+        executor.setTaskDecorator(metrics);
+        executor.setRejectedExecutionHandler(metrics.rejectionHandler(policy, blockTimeout));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 작업마다 가상 스레드를 만드는 실행기
+     * 대기열이 없으므로 동시 실행 한도(concurrencyLimit)에 도달하면 제출 스레드가 대기한다 (-1 이면 무제한)
+     */
+    public static SimpleAsyncTaskExecutor virtualThreads(String name, int concurrencyLimit, MeterRegistry registry) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskDecorator(new ExecutorMetrics(name, registry));
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+}
@@ -0,0 +1,458 @@
+package com.project.common.messaging;
+
+import com.project.common.model.ContentMessage;
+import com.project.common.model.ContentMessage.ProcessingOptions;
+import com.project.common.model.ContentPriority;
+import com.project.common.model.ContentStatus;
+import com.project.common.model.FileType;
+import com.project.common.model.StatusEvent;
+import com.project.common.model.ValidationResult;
+import com.project.common.model.ValidationResult.ValidationIssue;
+import com.project.common.model.ValidationResult.ValidationSeverity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ContentMessage / StatusEvent / ValidationResult 바이너리 코덱
+ *
+ * 형식: [매직][버전][타입] + 필드(고정 순서) + 청크 데이터(마지막, 원본 바이트 그대로)
+ * - 정수는 zigzag varint, 문자열/바이트는 (길이+1) varint 뒤에 본문 (0 = null)
+ * - 열거형은 (ordinal+1) 1바이트 (0 = null) 이므로 상수는 끝에만 추가해야 한다.
+ *   순서를 바꿔야 하면 VERSION 을 올리고 디코더에서 이전 버전을 함께 처리한다.
+ * - 버전 2: ContentMessage 에 payloadUrl 추가 (버전 1 메시지는 null 로 읽음)
+ *
+ * 청크 데이터를 제외한 필드는 스레드별로 재사용하는 스크래치 버퍼에 인코딩하고,
+ * 최종 메시지 본문은 정확한 크기로 한 번만 할당하여 청크 데이터도 한 번만 복사한다.
+ */
+public final class BinaryMessageCodec {
+
+    private static final byte MAGIC = (byte) 0xC7;
+    private static final byte VERSION = 2;
+    private static final byte VERSION_WITHOUT_PAYLOAD_URL = 1;
+
+    private static final byte TYPE_CONTENT_MESSAGE = 1;
+    private static final byte TYPE_VALIDATION_RESULT = 2;
+    private static final byte TYPE_STATUS_EVENT = 3;
+
+    // 이 크기를 넘게 커진 스크래치 버퍼는 스레드에 붙잡아 두지 않는다
+    private static final int SCRATCH_INITIAL_SIZE = 1024;
+    private static final int SCRATCH_RETAIN_LIMIT = 64 * 1024;
+
+    private static final ThreadLocal<Writer> SCRATCH = ThreadLocal.withInitial(() -> new Writer(SCRATCH_INITIAL_SIZE));
+
+    private static final FileType[] FILE_TYPES = FileType.values();
+    private static final ContentStatus[] STATUSES = ContentStatus.values();
+    private static final ContentPriority[] PRIORITIES = ContentPriority.values();
+    private static final ValidationSeverity[] SEVERITIES = ValidationSeverity.values();
+
+    private BinaryMessageCodec() {
+    }
+
+    /**
+     * 코덱이 직렬화할 수 있는 타입인지 확인
+     */
+    public static boolean supports(Object object) {
+        return object instanceof ContentMessage || object instanceof StatusEvent || object instanceof ValidationResult;
+    }
+
+    public static byte[] encode(Object object) {
+        if (object instanceof ContentMessage message) {
+            return encodeContentMessage(message);
+        }
+        if (object instanceof StatusEvent event) {
+            return encodeStatusEvent(event);
+        }
+        if (object instanceof ValidationResult result) {
+            return encodeValidationResult(result);
+        }
+        throw new IllegalArgumentException("Unsupported type for binary codec: "
+                + (object == null ? "null" : object.getClass().getName()));
+    }
+
+    public static Object decode(byte[] body) {
+        Reader reader = new Reader(body);
+        if (reader.readByte() != MAGIC) {
+            throw new IllegalArgumentException("Not a binary content message");
+        }
+        byte version = reader.readByte();
+        if (version != VERSION && version != VERSION_WITHOUT_PAYLOAD_URL) {
+            throw new IllegalArgumentException("Unsupported binary message version: " + version);
+        }
+
+        byte type = reader.readByte();
+        return switch (type) {
+            case TYPE_CONTENT_MESSAGE -> decodeContentMessage(reader, version);
+            case TYPE_VALIDATION_RESULT -> decodeValidationResult(reader);
+            case TYPE_STATUS_EVENT -> decodeStatusEvent(reader);
+            default -> throw new IllegalArgumentException("Unknown binary message type: " + type);
+        };
+    }
+
+    private static byte[] encodeContentMessage(ContentMessage message) {
+        Writer writer = acquireScratch();
+        try {
+            writer.writeHeader(TYPE_CONTENT_MESSAGE);
+            writer.writeString(message.getId());
+            writer.writeString(message.getUserId());
+            writer.writeString(message.getFileName());
+            writer.writeString(message.getContentType());
+            writer.writeEnum(message.getFileType());
+            writer.writeLong(message.getFileSize());
+            writer.writeInt(message.getChunkIndex());
+            writer.writeInt(message.getTotalChunks());
+            writer.writeString(message.getPayloadRef());
+            writer.writeLong(message.getPayloadLength());
+            writer.writeString(message.getPayloadChecksum());
+            writer.writeString(message.getPayloadUrl());
+            writer.writeEnum(message.getStatus());
+            writer.writeEnum(message.getPriority());
+            writer.writeLong(message.getTimestamp());
+            writer.writeString(message.getSourcePath());
+            writer.writeString(message.getTempFilePath());
+            writer.writeString(message.getProcessedPath());
+            writer.writeString(message.getAccessUrl());
+            writeProcessingOptions(writer, message.getProcessingOptions());
+            writer.writeString(message.getErrorMessage());
+
+            return writer.finishWith(message.getContentData());
+        } finally {
+            releaseScratch(writer);
+        }
+    }
+
+    private static ContentMessage decodeContentMessage(Reader reader, byte version) {
+        ContentMessage message = new ContentMessage();
+        message.setId(reader.readString());
+        message.setUserId(reader.readString());
+        message.setFileName(reader.readString());
+        message.setContentType(reader.readString());
+        message.setFileType(reader.readEnum(FILE_TYPES));
+        message.setFileSize(reader.readLong());
+        message.setChunkIndex(reader.readInt());
+        message.setTotalChunks(reader.readInt());
+        message.setPayloadRef(reader.readString());
+        message.setPayloadLength(reader.readLong());
+        message.setPayloadChecksum(reader.readString());
+        if (version >= VERSION) {
+            message.setPayloadUrl(reader.readString());
+        }
+        message.setStatus(reader.readEnum(STATUSES));
+        message.setPriority(reader.readEnum(PRIORITIES));
+        message.setTimestamp(reader.readLong());
+        message.setSourcePath(reader.readString());
+        message.setTempFilePath(reader.readString());
+        message.setProcessedPath(reader.readString());
+        message.setAccessUrl(reader.readString());
+        message.setProcessingOptions(readProcessingOptions(reader));
+        message.setErrorMessage(reader.readString());
+        message.setContentData(reader.readBytes());
+        return message;
+    }
+
+    private static void writeProcessingOptions(Writer writer, ProcessingOptions options) {
+        if (options == null) {
+            writer.writeByte((byte) 0);
+            return;
+        }
+
+        // 존재 비트(0x01)와 불리언 옵션을 한 바이트로 묶는다
+        int flags = 0x01;
+        if (options.isResizeImage()) flags |= 0x02;
+        if (options.isCompressVideo()) flags |= 0x04;
+        if (options.isExtractText()) flags |= 0x08;
+        if (options.isGenerateThumbnail()) flags |= 0x10;
+        if (options.isWatermark()) flags |= 0x20;
+
+        writer.writeByte((byte) flags);
+        writer.writeInt(options.getTargetWidth());
+        writer.writeInt(options.getTargetHeight());
+        writer.writeString(options.getVideoFormat());
+        writer.writeString(options.getWatermarkText());
+    }
+
+    private static ProcessingOptions readProcessingOptions(Reader reader) {
+        int flags = reader.readByte();
+        if ((flags & 0x01) == 0) {
+            return null;
+        }
+
+        ProcessingOptions options = new ProcessingOptions();
+        options.setResizeImage((flags & 0x02) != 0);
+        options.setCompressVideo((flags & 0x04) != 0);
+        options.setExtractText((flags & 0x08) != 0);
+        options.setGenerateThumbnail((flags & 0x10) != 0);
+        options.setWatermark((flags & 0x20) != 0);
+        options.setTargetWidth(reader.readInt());
+        options.setTargetHeight(reader.readInt());
+        options.setVideoFormat(reader.readString());
+        options.setWatermarkText(reader.readString());
+        return options;
+    }
+
+    private static byte[] encodeStatusEvent(StatusEvent event) {
+        Writer writer = acquireScratch();
+        try {
+            writer.writeHeader(TYPE_STATUS_EVENT);
+            writer.writeString(event.getId());
+            writer.writeString(event.getUserId());
+            writer.writeString(event.getFileName());
+            writer.writeEnum(event.getStatus());
+            writer.writeString(event.getErrorMessage());
+            writer.writeString(event.getAccessUrl());
+            writer.writeLong(event.getTimestamp());
+
+            return writer.finishWith(null);
+        } finally {
+            releaseScratch(writer);
+        }
+    }
+
+    private static StatusEvent decodeStatusEvent(Reader reader) {
+        StatusEvent event = new StatusEvent();
+        event.setId(reader.readString());
+        event.setUserId(reader.readString());
+        event.setFileName(reader.readString());
+        event.setStatus(reader.readEnum(STATUSES));
+        event.setErrorMessage(reader.readString());
+        event.setAccessUrl(reader.readString());
+        event.setTimestamp(reader.readLong());
+        return event;
+    }
+
+    private static byte[] encodeValidationResult(ValidationResult result) {
+        Writer writer = acquireScratch();
+        try {
+            writer.writeHeader(TYPE_VALIDATION_RESULT);
+            writer.writeString(result.getContentId());
+            writer.writeByte((byte) (result.isValid() ? 1 : 0));
+            writer.writeString(result.getErrorMessage());
+            writer.writeLong(result.getValidationTime());
+            writer.writeString(result.getValidator());
+
+            List<ValidationIssue> issues = result.getIssues();
+            int count = issues == null ? 0 : issues.size();
+            writer.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                ValidationIssue issue = issues.get(i);
+                writer.writeEnum(issue.getSeverity());
+                writer.writeString(issue.getCode());
+                writer.writeString(issue.getMessage());
+                writer.writeString(issue.getDetails());
+            }
+
+            return writer.finishWith(null);
+        } finally {
+            releaseScratch(writer);
+        }
+    }
+
+    private static ValidationResult decodeValidationResult(Reader reader) {
+        ValidationResult result = new ValidationResult();
+        result.setContentId(reader.readString());
+        result.setValid(reader.readByte() == 1);
+        result.setErrorMessage(reader.readString());
+        result.setValidationTime(reader.readLong());
+        result.setValidator(reader.readString());
+
+        int count = reader.readInt();
+        List<ValidationIssue> issues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            issues.add(new ValidationIssue(
+                    reader.readEnum(SEVERITIES),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readString()));
+        }
+        result.setIssues(issues);
+        return result;
+    }
+
+    private static Writer acquireScratch() {
+        Writer writer = SCRATCH.get();
+        writer.reset();
+        return writer;
+    }
+
+    private static void releaseScratch(Writer writer) {
+        // 큰 오류 메시지 등으로 커진 버퍼는 버리고 다음 호출에서 새로 만든다
+        if (writer.capacity() > SCRATCH_RETAIN_LIMIT) {
+            SCRATCH.remove();
+        }
+    }
+
+    /**
+     * 재사용 가능한 확장형 바이트 버퍼
+     */
+    private static final class Writer {
+
+        private byte[] buffer;
+        private int position;
+
+        Writer(int initialSize) {
+            this.buffer = new byte[initialSize];
+        }
+
+        void reset() {
+            position = 0;
+        }
+
+        int capacity() {
+            return buffer.length;
+        }
+
+        void writeHeader(byte type) {
+            writeByte(MAGIC);
+            writeByte(VERSION);
+            writeByte(type);
+        }
+
+        void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        void writeInt(int value) {
+            writeVarLong(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+        }
+
+        void writeLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeEnum(Enum<?> value) {
+            writeByte((byte) (value == null ? 0 : value.ordinal() + 1));
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        /**
+         * 스크래치 내용 뒤에 청크 데이터를 붙여 정확한 크기의 본문을 만든다
+         */
+        byte[] finishWith(byte[] data) {
+            if (data == null) {
+                writeVarLong(0);
+                return Arrays.copyOf(buffer, position);
+            }
+
+            writeVarLong(data.length + 1L);
+            byte[] body = new byte[position + data.length];
+            System.arraycopy(buffer, 0, body, 0, position);
+            System.arraycopy(data, 0, body, position, data.length);
+            return body;
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void ensureCapacity(int extra) {
+            int required = position + extra;
+            if (required > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+            }
+        }
+    }
+
+    /**
+     * 메시지 본문 배열 위를 직접 읽는 리더 (본문 복사 없음)
+     */
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        byte readByte() {
+            if (position >= buffer.length) {
+                throw new IllegalArgumentException("Truncated binary message");
+            }
+            return buffer[position++];
+        }
+
+        int readInt() {
+            long raw = readVarLong();
+            return (int) ((raw >>> 1) ^ -(raw & 1));
+        }
+
+        long readLong() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        <E extends Enum<E>> E readEnum(E[] values) {
+            int code = readByte() & 0xFF;
+            if (code == 0) {
+                return null;
+            }
+            if (code > values.length) {
+                throw new IllegalArgumentException("Unknown enum ordinal: " + (code - 1));
+            }
+            return values[code - 1];
+        }
+
+        String readString() {
+            int length = readLength();
+            if (length < 0) {
+                return null;
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        byte[] readBytes() {
+            int length = readLength();
+            if (length < 0) {
+                return null;
+            }
+            byte[] value = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return value;
+        }
+
+        private int readLength() {
+            long raw = readVarLong();
+            if (raw == 0) {
+                return -1;
+            }
+            long length = raw - 1;
+            if (length > buffer.length - position) {
+                throw new IllegalArgumentException("Truncated binary message");
+            }
+            return (int) length;
+        }
+
+        private long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+    }
+}
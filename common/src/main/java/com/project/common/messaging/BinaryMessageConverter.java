@@ -0,0 +1,41 @@
+package com.project.common.messaging;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+/**
+ * ContentMessage / StatusEvent / ValidationResult 를 바이너리 형식으로 변환하는 컨버터
+ * 청크 데이터를 base64 없이 원본 바이트로 싣는다
+ */
+public class BinaryMessageConverter extends AbstractMessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-content-message";
+
+    public boolean canConvert(Object object) {
+        return BinaryMessageCodec.supports(object);
+    }
+
+    @Override
+    protected Message createMessage(Object object, MessageProperties messageProperties) {
+        if (!canConvert(object)) {
+            throw new MessageConversionException("Binary wire format does not support "
+                    + (object == null ? "null" : object.getClass().getName()));
+        }
+
+        byte[] body = BinaryMessageCodec.encode(object);
+        messageProperties.setContentType(CONTENT_TYPE);
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        try {
+            return BinaryMessageCodec.decode(message.getBody());
+        } catch (IllegalArgumentException e) {
+            throw new MessageConversionException("Failed to decode binary message", e);
+        }
+    }
+}
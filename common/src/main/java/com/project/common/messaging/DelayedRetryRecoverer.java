@@ -0,0 +1,140 @@
+package com.project.common.messaging;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지연 큐 기반 재시도
+ *
+ * 리스너에서 예외가 나면 스레드를 재우며 제자리 재시도하지 않고, 메시지를 재시도 교환기로 다시 발행한다.
+ * 재시도 횟수(x-retry-count)에 따라 대기 시간이 늘어나는 지연 큐(TTL)로 들어가고,
+ * TTL 이 지나면 원래 교환기/라우팅 키로 되돌아가 같은 큐에서 다시 처리된다.
+ * 재시도 한도를 넘겼거나 다시 시도해도 소용없는 메시지(변환 실패, RPC 요청)는 DLQ 로 보낸다.
+ * 리스너가 StageFailureException 으로 실패 상태/알림을 실어 보냈다면 DLQ 로 보낼 때 함께 발행한다
+ * (재시도 중에는 실패 상태를 발행하지 않음).
+ *
+ * 지연 큐는 대기 시간별로 하나씩 선언되며 (content.retry.delay.{ms}ms),
+ * 재시도 교환기(headers)가 x-retry-delay 헤더로 큐를 고른다.
+ */
+@Slf4j
+public class DelayedRetryRecoverer implements MessageRecoverer {
+
+    private static final ConditionalRejectingErrorHandler.DefaultExceptionStrategy FATAL_EXCEPTIONS =
+            new ConditionalRejectingErrorHandler.DefaultExceptionStrategy();
+
+    private final PipelinePublisher pipelinePublisher;
+    private final List<Long> delays;
+
+    public DelayedRetryRecoverer(PipelinePublisher pipelinePublisher, List<Long> delays) {
+        this.pipelinePublisher = pipelinePublisher;
+        this.delays = List.copyOf(delays);
+    }
+
+    /**
+     * 재시도 차수별 대기 시간 (initial * multiplier^n, 최대 maxInterval, 중복 없이 오름차순)
+     */
+    public static List<Long> backoffDelays(long initialInterval, double multiplier, long maxInterval, int retries) {
+        List<Long> delays = new ArrayList<>(retries);
+        double delay = initialInterval;
+        for (int i = 0; i < retries; i++) {
+            delays.add(Math.min(maxInterval, Math.round(delay)));
+            delay *= multiplier;
+        }
+        return delays;
+    }
+
+    /**
+     * 재시도 차수별 대기 시간
+     */
+    public List<Long> getDelays() {
+        return delays;
+    }
+
+    /**
+     * 대기 시간에 해당하는 지연 큐 이름
+     */
+    public static String delayQueueName(long delayMillis) {
+        return RabbitMQConstants.RETRY_DELAY_QUEUE_PREFIX + delayMillis + "ms";
+    }
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        MessageProperties properties = message.getMessageProperties();
+        int retryCount = retryCount(properties);
+        String originalExchange = header(properties, RabbitMQConstants.X_ORIGINAL_EXCHANGE, properties.getReceivedExchange());
+        String originalRoutingKey = header(properties, RabbitMQConstants.X_ORIGINAL_ROUTING_KEY, properties.getReceivedRoutingKey());
+
+        properties.setHeader(RabbitMQConstants.X_ORIGINAL_EXCHANGE, originalExchange);
+        properties.setHeader(RabbitMQConstants.X_ORIGINAL_ROUTING_KEY, originalRoutingKey);
+        if (properties.getDeliveryMode() == null) {
+            properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        }
+
+        if (retryCount < delays.size() && isRetryable(properties, originalExchange, cause)) {
+            long delay = delays.get(retryCount);
+            properties.setHeader(RabbitMQConstants.X_RETRY_COUNT, retryCount + 1);
+            properties.setHeader(RabbitMQConstants.X_RETRY_DELAY, String.valueOf(delay));
+
+            pipelinePublisher.publishAndWait(new Outbound(RabbitMQConstants.RETRY_EXCHANGE, originalRoutingKey, message));
+            log.warn("Message from {} scheduled for retry {}/{} in {} ms: {}",
+                    properties.getConsumerQueue(), retryCount + 1, delays.size(), delay, rootMessage(cause));
+            return;
+        }
+
+        // 재시도 한도 초과 또는 재시도 불가 -> DLQ (실패 상태/알림과 함께 발행)
+        properties.setHeader(RabbitMQConstants.X_EXCEPTION_MESSAGE, rootMessage(cause));
+        properties.setHeader(RabbitMQConstants.X_DEAD_LETTERED_AT, System.currentTimeMillis());
+        List<Outbound> outbounds = new ArrayList<>();
+        outbounds.add(new Outbound(RabbitMQConstants.DLX_EXCHANGE, RabbitMQConstants.DLQ_ROUTING_KEY, message));
+        outbounds.addAll(failureMessages(cause));
+        pipelinePublisher.publishAndWait(outbounds.toArray(Outbound[]::new));
+        log.error("Message from {} sent to DLQ after {} retries: {}",
+                properties.getConsumerQueue(), retryCount, rootMessage(cause));
+    }
+
+    private static boolean isRetryable(MessageProperties properties, String originalExchange, Throwable cause) {
+        // 지연 큐는 만료 시 콘텐츠 교환기로만 돌려보내고, RPC 요청은 응답 대기가 끝난 뒤라 의미 없음
+        return RabbitMQConstants.CONTENT_EXCHANGE.equals(originalExchange)
+                && properties.getReplyTo() == null
+                && !FATAL_EXCEPTIONS.isFatal(cause);
+    }
+
+    private static List<Outbound> failureMessages(Throwable cause) {
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            if (current instanceof StageFailureException failure) {
+                return failure.getFailureMessages();
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return List.of();
+    }
+
+    private static int retryCount(MessageProperties properties) {
+        Object value = properties.getHeader(RabbitMQConstants.X_RETRY_COUNT);
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    private static String header(MessageProperties properties, String name, String fallback) {
+        Object value = properties.getHeader(name);
+        return value != null ? value.toString() : fallback;
+    }
+
+    private static String rootMessage(Throwable cause) {
+        Throwable root = cause;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getClass().getSimpleName() + ": " + root.getMessage();
+    }
+}
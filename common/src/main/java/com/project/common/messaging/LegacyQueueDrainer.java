@@ -0,0 +1,130 @@
+package com.project.common.messaging;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.rabbitmq.client.GetResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이전 큐 비우기
+ *
+ * 우선순위 큐는 기존 큐에 x-max-priority 를 더해 다시 선언할 수 없어 새 이름(.v2)으로 선언했다.
+ * 인자 없이 선언돼 있던 이전 큐는 콘텐츠 교환기 바인딩이 브로커에 남아 있어 새 메시지가 두 큐에 복제되므로,
+ * 주기적으로 바인딩을 끊고 남은 메시지를 같은 라우팅 키로 다시 발행해 새 큐로 옮긴 뒤 비면 삭제한다.
+ * 재발행이 확인된 뒤에만 원본을 ack 하므로 중간에 멈춰도 메시지는 유실되지 않는다.
+ * 이전 버전 인스턴스가 재연결하며 바인딩을 다시 선언해도 다음 주기에 다시 끊는다.
+ */
+@Slf4j
+public class LegacyQueueDrainer {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final PipelinePublisher pipelinePublisher;
+    private final Map<String, String> legacyQueues;
+    private final boolean enabled;
+
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+    private final Set<String> removed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param legacyQueues 이전 큐 이름 -> 콘텐츠 교환기 라우팅 키
+     */
+    public LegacyQueueDrainer(RabbitTemplate rabbitTemplate, AmqpAdmin amqpAdmin, PipelinePublisher pipelinePublisher,
+                              Map<String, String> legacyQueues, boolean enabled) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.amqpAdmin = amqpAdmin;
+        this.pipelinePublisher = pipelinePublisher;
+        this.legacyQueues = Map.copyOf(legacyQueues);
+        this.enabled = enabled;
+    }
+
+    /**
+     * 남아 있는 이전 큐를 모두 비우고 삭제 시도
+     */
+    @Scheduled(initialDelayString = "${messaging.legacy-queues.initial-delay-ms:10000}",
+            fixedDelayString = "${messaging.legacy-queues.interval-ms:60000}")
+    public void drainLegacyQueues() {
+        if (!enabled || removed.size() == legacyQueues.size()) {
+            return;
+        }
+
+        legacyQueues.forEach((queueName, routingKey) -> {
+            if (removed.contains(queueName)) {
+                return;
+            }
+            try {
+                drain(queueName, routingKey);
+            } catch (Exception e) {
+                log.warn("Failed to drain legacy queue {}: {}", queueName, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 바인딩 해제 -> 메시지 이동 -> 빈 큐 삭제
+     *
+     * @return 옮긴 메시지 수
+     */
+    int drain(String queueName, String routingKey) {
+        if (amqpAdmin.getQueueInfo(queueName) == null) {
+            removed.add(queueName);
+            return 0;
+        }
+
+        amqpAdmin.removeBinding(new Binding(queueName, Binding.DestinationType.QUEUE,
+                RabbitMQConstants.CONTENT_EXCHANGE, routingKey, null));
+
+        int moved = 0;
+        while (moveOne(queueName, routingKey)) {
+            moved++;
+        }
+
+        // 아직 이전 버전 소비자가 붙어 있으면 삭제하지 않고 다음 주기에 다시 시도
+        if (amqpAdmin.getQueueInfo(queueName) instanceof QueueInformation info
+                && info.getMessageCount() == 0 && info.getConsumerCount() == 0) {
+            amqpAdmin.deleteQueue(queueName, true, true);
+            removed.add(queueName);
+            log.info("Legacy queue {} drained ({} messages moved) and deleted", queueName, moved);
+        } else if (moved > 0) {
+            log.info("Moved {} messages from legacy queue {}", moved, queueName);
+        }
+        return moved;
+    }
+
+    private boolean moveOne(String queueName, String routingKey) {
+        Boolean moved = rabbitTemplate.execute(channel -> {
+            GetResponse response = channel.basicGet(queueName, false);
+            if (response == null) {
+                return false;
+            }
+            long deliveryTag = response.getEnvelope().getDeliveryTag();
+            try {
+                MessageProperties properties = propertiesConverter.toMessageProperties(
+                        response.getProps(), response.getEnvelope(), StandardCharsets.UTF_8.name());
+                pipelinePublisher.publishAndWait(new Outbound(RabbitMQConstants.CONTENT_EXCHANGE, routingKey,
+                        new Message(response.getBody(), properties)));
+            } catch (RuntimeException e) {
+                // 재발행이 확인되지 않으면 원본을 큐에 되돌리고 다음 주기에 다시 시도
+                channel.basicNack(deliveryTag, false, true);
+                throw e;
+            }
+            channel.basicAck(deliveryTag, false);
+            return true;
+        });
+        return Boolean.TRUE.equals(moved);
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.common.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리스너 컨테이너 튜닝
+ *
+ * - 큐별 동시성/프리페치 (messaging.listener.queues."[큐 이름]".concurrency / prefetch)
+ * - 가상 스레드에서 리스너 실행 (messaging.listener.virtual-threads)
+ * - 큐 적체량에 따른 소비자 수 조정 (messaging.listener.scaling.*)
+ * - 실패 메시지 지연 큐 재시도 (messaging.retry.*, 리스너 스레드에서 대기하지 않음)
+ *
+ * 적체량 조정은 동시성이 "최소-최대" 범위로 지정된 컨테이너에만 적용되며,
+ * 대기 메시지 messagesPerConsumer 개마다 소비자 하나를 유지하도록 최소 소비자 수를 올리거나 내린다.
+ */
+@Slf4j
+public class ListenerContainerTuner {
+
+    /**
+     * 큐별 리스너 설정 (동시성: "4" 또는 "2-8")
+     */
+    public record QueueSettings(String concurrency, Integer prefetch) {
+    }
+
+    private record ScalingRange(String queueName, int min, int max, AtomicInteger current) {
+    }
+
+    private final Map<String, QueueSettings> queueSettings;
+    private final boolean virtualThreads;
+    private final AmqpAdmin amqpAdmin;
+    private final boolean scalingEnabled;
+    private final int messagesPerConsumer;
+    private final MessageRecoverer retryRecoverer;
+
+    private final Map<SimpleMessageListenerContainer, ScalingRange> scalingRanges = new ConcurrentHashMap<>();
+
+    public ListenerContainerTuner(Map<String, QueueSettings> queueSettings, boolean virtualThreads,
+                                  AmqpAdmin amqpAdmin, boolean scalingEnabled, int messagesPerConsumer,
+                                  MessageRecoverer retryRecoverer) {
+        this.queueSettings = queueSettings;
+        this.virtualThreads = virtualThreads;
+        this.amqpAdmin = amqpAdmin;
+        this.scalingEnabled = scalingEnabled;
+        this.messagesPerConsumer = Math.max(1, messagesPerConsumer);
+        this.retryRecoverer = retryRecoverer;
+    }
+
+    /**
+     * 컨테이너 팩토리에 가상 스레드 실행기, 지연 재시도, 큐별 설정을 적용
+     */
+    public void apply(SimpleRabbitListenerContainerFactory factory) {
+        apply(factory, null);
+    }
+
+    /**
+     * 큐별 설정이 없을 때 적체량 조정 범위로 쓸 기본 동시성과 함께 적용
+     */
+    public void apply(SimpleRabbitListenerContainerFactory factory, String defaultConcurrency) {
+        if (virtualThreads) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor("rabbit-listener-"));
+        }
+        if (retryRecoverer != null) {
+            // 한 번 실패하면 바로 복구기로 넘겨 지연 큐에 재발행 (제자리 재시도 대기 없음)
+            factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                    .maxAttempts(1)
+                    .recoverer(retryRecoverer)
+                    .build());
+        }
+        factory.setContainerCustomizer(container -> customize(container, defaultConcurrency));
+    }
+
+    private void customize(SimpleMessageListenerContainer container, String defaultConcurrency) {
+        String[] queueNames = container.getQueueNames();
+        if (queueNames.length == 0) {
+            return;
+        }
+        String queueName = queueNames[0];
+
+        QueueSettings settings = queueSettings.get(queueName);
+        String concurrency = defaultConcurrency;
+        if (settings != null) {
+            if (settings.concurrency() != null) {
+                container.setConcurrency(settings.concurrency());
+                concurrency = settings.concurrency();
+            }
+            if (settings.prefetch() != null) {
+                container.setPrefetchCount(settings.prefetch());
+            }
+            log.info("Listener tuned for queue {}: concurrency={}, prefetch={}",
+                    queueName, settings.concurrency(), settings.prefetch());
+        }
+
+        registerScalingRange(container, queueName, concurrency);
+    }
+
+    private void registerScalingRange(SimpleMessageListenerContainer container, String queueName, String concurrency) {
+        if (concurrency == null || !concurrency.contains("-")) {
+            return;
+        }
+        String[] bounds = concurrency.split("-");
+        int min = Integer.parseInt(bounds[0].trim());
+        int max = Integer.parseInt(bounds[1].trim());
+        if (max > min) {
+            scalingRanges.put(container, new ScalingRange(queueName, min, max, new AtomicInteger(min)));
+        }
+    }
+
+    /**
+     * 큐 적체량에 맞춰 최소 소비자 수 조정
+     */
+    @Scheduled(fixedDelayString = "${messaging.listener.scaling.interval-ms:5000}")
+    public void scaleByQueueDepth() {
+        if (!scalingEnabled || scalingRanges.isEmpty()) {
+            return;
+        }
+
+        scalingRanges.forEach((container, range) -> {
+            if (!container.isRunning()) {
+                return;
+            }
+            try {
+                QueueInformation info = amqpAdmin.getQueueInfo(range.queueName());
+                if (info == null) {
+                    return;
+                }
+
+                int wanted = (int) Math.ceil((double) info.getMessageCount() / messagesPerConsumer);
+                int target = Math.max(range.min(), Math.min(range.max(), wanted));
+                int previous = range.current().getAndSet(target);
+                if (previous != target) {
+                    container.setConcurrentConsumers(target);
+                    log.info("Scaled consumers for queue {}: {} -> {} (depth={})",
+                            range.queueName(), previous, target, info.getMessageCount());
+                }
+            } catch (Exception e) {
+                log.warn("Failed to scale consumers for queue {}: {}", range.queueName(), e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,210 @@
+package com.project.common.messaging;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.model.ContentMessage;
+import com.project.common.model.ContentPriority;
+import com.project.common.model.StatusEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 파이프라인 메시지 발행기
+ *
+ * 한 번에 발행할 메시지들을 같은 채널로 연속 전송하고, 메시지마다 CorrelationData 로
+ * 비동기 발행 확인(publisher confirm)을 추적한다. 상태 업데이트와 다음 단계 메시지처럼
+ * 함께 나가는 메시지는 한 번의 확인 대기로 끝난다.
+ * nack 된 메시지는 maxAttempts 까지 다시 발행하고, 그래도 실패하면 PublishConfirmException 으로 완료된다.
+ * 큐로 라우팅되지 않아 반환된 메시지(mandatory)는 ack 되더라도 재발행 없이 바로 PublishConfirmException 으로 완료된다.
+ *
+ * 연결 팩토리에 발행 확인이 켜져 있지 않으면(spring.rabbitmq.publisher-confirm-type: correlated)
+ * 확인 없이 전송만 하고, 반환이 켜져 있지 않으면(spring.rabbitmq.publisher-returns: true) 라우팅 실패를 알 수 없다.
+ *
+ * ContentMessage 는 ContentPriority 를 AMQP 메시지 priority 로 실어 보내고,
+ * 고우선순위 레인이 켜져 있으면 HIGH 메시지를 단계별 전용 큐(라우팅 키 + ".high")로 보낸다.
+ * 파일 유형별 처리 레인으로 가는 HIGH 메시지는 유형과 관계없이 처리 단계 고우선순위 큐로 보낸다.
+ *
+ * 본문이 AMQP Message 이면 변환 없이 그대로 보낸다 (재시도/DLQ 재발행).
+ */
+@Slf4j
+public class PipelinePublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final long confirmTimeoutMillis;
+    private final int maxAttempts;
+    private final boolean highLaneEnabled;
+    private final boolean confirmsEnabled;
+
+    // 고우선순위 전용 큐가 있는 단계
+    private static final Set<String> HIGH_LANE_ROUTING_KEYS = Set.of(
+            RabbitMQConstants.VALIDATION_ROUTING_KEY,
+            RabbitMQConstants.PROCESSING_ROUTING_KEY,
+            RabbitMQConstants.STORAGE_ROUTING_KEY);
+
+    public PipelinePublisher(RabbitTemplate rabbitTemplate, long confirmTimeoutMillis, int maxAttempts,
+                             boolean highLaneEnabled) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.highLaneEnabled = highLaneEnabled;
+        this.confirmsEnabled = rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+
+        if (!confirmsEnabled) {
+            log.warn("Publisher confirms are disabled; pipeline messages are sent without delivery confirmation");
+        } else if (!rabbitTemplate.getConnectionFactory().isPublisherReturns()) {
+            log.warn("Publisher returns are disabled; unroutable pipeline messages are dropped without failure");
+        }
+    }
+
+    /**
+     * 발행할 메시지 (교환기, 라우팅 키, 본문)
+     */
+    public record Outbound(String exchange, String routingKey, Object payload) {
+
+        public static Outbound of(String routingKey, Object payload) {
+            return new Outbound(RabbitMQConstants.CONTENT_EXCHANGE, routingKey, payload);
+        }
+
+        public static Outbound status(StatusEvent event) {
+            return of(RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY, event);
+        }
+    }
+
+    /**
+     * 비동기 발행: 모든 메시지가 확인되면 완료되는 future 반환
+     */
+    public CompletableFuture<Void> publish(Outbound... messages) {
+        return send(List.of(messages), 1)
+                .orTimeout(confirmTimeoutMillis * maxAttempts, TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.error("Pipeline publish not confirmed ({} messages): {}",
+                                messages.length, unwrap(error).getMessage());
+                    }
+                });
+    }
+
+    /**
+     * 동기 발행: 모든 메시지의 확인을 기다리고, 확인되지 않으면 PublishConfirmException
+     */
+    public void publishAndWait(Outbound... messages) {
+        try {
+            send(List.of(messages), 1).get(confirmTimeoutMillis * maxAttempts, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new PublishConfirmException("Timed out waiting for publisher confirms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PublishConfirmException("Interrupted while waiting for publisher confirms", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof PublishConfirmException confirmException) {
+                throw confirmException;
+            }
+            throw new PublishConfirmException("Pipeline publish failed", cause);
+        }
+    }
+
+    /**
+     * 단계 전이: 상태 업데이트와 다음 단계 메시지를 한 번의 왕복으로 발행
+     */
+    public void transition(StatusEvent status, String nextRoutingKey, Object next) {
+        publishAndWait(Outbound.status(status), Outbound.of(nextRoutingKey, next));
+    }
+
+    private CompletableFuture<Void> send(List<Outbound> messages, int attempt) {
+        List<CorrelationData> correlations = new ArrayList<>(messages.size());
+
+        // 같은 채널에서 연속 전송 (메시지마다 채널을 빌리고 반납하지 않음)
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (Outbound outbound : messages) {
+                    CorrelationData correlation = new CorrelationData();
+                    correlations.add(correlation);
+                    if (outbound.payload() instanceof Message raw) {
+                        operations.send(outbound.exchange(), outbound.routingKey(), raw, correlation);
+                    } else {
+                        operations.convertAndSend(outbound.exchange(), resolveRoutingKey(outbound), outbound.payload(),
+                                message -> applyPriority(message, outbound.payload()), correlation);
+                    }
+                }
+                return null;
+            });
+        } catch (AmqpException e) {
+            return CompletableFuture.failedFuture(new PublishConfirmException("Pipeline publish failed", e));
+        }
+
+        if (!confirmsEnabled) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<?>[] confirmations = new CompletableFuture<?>[messages.size()];
+        for (int i = 0; i < messages.size(); i++) {
+            Outbound outbound = messages.get(i);
+            // 재발행은 확인 콜백 스레드가 아닌 별도 스레드에서 수행
+            CorrelationData correlation = correlations.get(i);
+            confirmations[i] = correlation.getFuture().thenComposeAsync(confirm -> {
+                // 반환은 확인보다 먼저 도착하므로 ack 시점에 반환 여부가 정해져 있음
+                if (correlation.getReturned() != null) {
+                    return CompletableFuture.<Void>failedFuture(unroutable(outbound, correlation));
+                }
+                if (confirm.isAck()) {
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+                return retry(outbound, attempt, confirm.getReason());
+            });
+        }
+        return CompletableFuture.allOf(confirmations);
+    }
+
+    private String resolveRoutingKey(Outbound outbound) {
+        String stageKey = ProcessingLane.isLaneRoutingKey(outbound.routingKey())
+                ? RabbitMQConstants.PROCESSING_ROUTING_KEY
+                : outbound.routingKey();
+
+        if (highLaneEnabled
+                && HIGH_LANE_ROUTING_KEYS.contains(stageKey)
+                && outbound.payload() instanceof ContentMessage content
+                && content.getPriority() == ContentPriority.HIGH) {
+            return stageKey + RabbitMQConstants.HIGH_LANE_SUFFIX;
+        }
+        return outbound.routingKey();
+    }
+
+    private static Message applyPriority(Message message, Object payload) {
+        if (payload instanceof ContentMessage content && content.getPriority() != null) {
+            message.getMessageProperties().setPriority(content.getPriority().getMessagePriority());
+        }
+        return message;
+    }
+
+    private CompletableFuture<Void> retry(Outbound outbound, int attempt, String reason) {
+        if (attempt >= maxAttempts) {
+            return CompletableFuture.failedFuture(new PublishConfirmException(
+                    "Publish to " + outbound.routingKey() + " nacked after " + attempt + " attempts: " + reason));
+        }
+
+        log.warn("Publish to {} nacked (attempt {}/{}): {}", outbound.routingKey(), attempt, maxAttempts, reason);
+        return send(List.of(outbound), attempt + 1);
+    }
+
+    private static PublishConfirmException unroutable(Outbound outbound, CorrelationData correlation) {
+        // 라우팅 대상 큐가 없으므로 다시 발행해도 같은 결과
+        return new PublishConfirmException("Publish to " + outbound.exchange() + "/" + outbound.routingKey()
+                + " returned unroutable: " + correlation.getReturned().getReplyText());
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.common.messaging;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.model.FileType;
+
+/**
+ * 파일 유형별 처리 레인
+ *
+ * 검증을 통과한 메시지는 파일 유형 라우팅 키(content.type.*)로 발행되어 유형별 처리 큐에 쌓인다.
+ * 처리 서비스는 필요한 레인만 구독하고 레인마다 동시성/프리페치를 따로 정할 수 있다.
+ */
+public enum ProcessingLane {
+    IMAGE(FileType.IMAGE, RabbitMQConstants.IMAGE_ROUTING_KEY, RabbitMQConstants.PROCESSING_IMAGE_QUEUE),
+    VIDEO(FileType.VIDEO, RabbitMQConstants.VIDEO_ROUTING_KEY, RabbitMQConstants.PROCESSING_VIDEO_QUEUE),
+    AUDIO(FileType.AUDIO, RabbitMQConstants.AUDIO_ROUTING_KEY, RabbitMQConstants.PROCESSING_AUDIO_QUEUE),
+    PDF(FileType.PDF, RabbitMQConstants.PDF_ROUTING_KEY, RabbitMQConstants.PROCESSING_PDF_QUEUE),
+    TEXT(FileType.TEXT, RabbitMQConstants.TEXT_ROUTING_KEY, RabbitMQConstants.PROCESSING_TEXT_QUEUE),
+    OTHER(FileType.OTHER, RabbitMQConstants.OTHER_ROUTING_KEY, RabbitMQConstants.PROCESSING_OTHER_QUEUE);
+
+    private final FileType fileType;
+    private final String routingKey;
+    private final String queueName;
+
+    ProcessingLane(FileType fileType, String routingKey, String queueName) {
+        this.fileType = fileType;
+        this.routingKey = routingKey;
+        this.queueName = queueName;
+    }
+
+    public FileType getFileType() {
+        return fileType;
+    }
+
+    public String getRoutingKey() {
+        return routingKey;
+    }
+
+    public String getQueueName() {
+        return queueName;
+    }
+
+    /**
+     * 설정에서 쓰는 레인 이름 (소문자)
+     */
+    public String getLaneName() {
+        return name().toLowerCase();
+    }
+
+    /**
+     * 파일 유형에 해당하는 레인 (유형을 모르면 OTHER)
+     */
+    public static ProcessingLane forFileType(FileType fileType) {
+        if (fileType != null) {
+            for (ProcessingLane lane : values()) {
+                if (lane.fileType == fileType) {
+                    return lane;
+                }
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * 처리 레인 라우팅 키인지 확인
+     */
+    public static boolean isLaneRoutingKey(String routingKey) {
+        for (ProcessingLane lane : values()) {
+            if (lane.routingKey.equals(routingKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
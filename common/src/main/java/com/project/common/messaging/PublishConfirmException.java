@@ -0,0 +1,18 @@
+package com.project.common.messaging;
+
+import org.springframework.amqp.AmqpException;
+
+/**
+ * 브로커가 발행을 확인(ack)하지 않았거나 확인 대기 시간이 초과된 경우, 또는 라우팅되지 않아 반환된 경우
+ * 리스너에서 그대로 던지면 입력 메시지가 재전달되어 최소 한 번 전달이 보장된다
+ */
+public class PublishConfirmException extends AmqpException {
+
+    public PublishConfirmException(String message) {
+        super(message);
+    }
+
+    public PublishConfirmException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
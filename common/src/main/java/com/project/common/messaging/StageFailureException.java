@@ -0,0 +1,41 @@
+package com.project.common.messaging;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.project.common.model.ContentMessage;
+import com.project.common.model.StatusEvent;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+
+import java.util.List;
+
+/**
+ * 파이프라인 단계 처리 중 일시적 오류 (저장소/다운로드/검사 오류 등)
+ *
+ * 리스너에서 던지면 DelayedRetryRecoverer 가 지연 큐로 재시도하고,
+ * 재시도 한도를 넘겨 DLQ 로 보낼 때 함께 실린 실패 상태/알림을 발행한다.
+ * 복구기가 없으면 재전달 없이 거부된다 (제자리 무한 재전달 방지).
+ */
+public class StageFailureException extends AmqpRejectAndDontRequeueException {
+
+    // 재시도 한도 초과 시 발행할 메시지 (실패 상태, 알림)
+    private final transient List<Outbound> failureMessages;
+
+    public StageFailureException(String message, Throwable cause, List<Outbound> failureMessages) {
+        super(message, cause);
+        this.failureMessages = List.copyOf(failureMessages);
+    }
+
+    /**
+     * 콘텐츠 메시지 기준 실패 상태와 알림을 담은 예외 생성 (청크 데이터는 싣지 않음)
+     */
+    public static StageFailureException of(ContentMessage message, String error, Throwable cause) {
+        ContentMessage failed = message.createLightCopy().withError(error);
+        return new StageFailureException(error, cause, List.of(
+                Outbound.status(StatusEvent.from(failed)),
+                Outbound.of(RabbitMQConstants.NOTIFICATION_ROUTING_KEY, failed)));
+    }
+
+    public List<Outbound> getFailureMessages() {
+        return failureMessages != null ? failureMessages : List.of();
+    }
+}
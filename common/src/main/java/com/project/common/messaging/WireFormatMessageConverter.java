@@ -0,0 +1,59 @@
+package com.project.common.messaging;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
+
+/**
+ * 와이어 포맷 선택 컨버터
+ *
+ * 수신: content-type 헤더로 바이너리/JSON 을 구분하므로 전환 중에도 두 형식을 모두 소비한다.
+ * 송신: binary 모드일 때 바이너리 코덱이 지원하는 타입만 바이너리로, 나머지(RPC 응답 등)는 JSON 으로 보낸다.
+ *
+ * 배포 순서: 모든 소비자를 이 컨버터로 올린 뒤 생산자의 messaging.wire-format 을 binary 로 전환한다.
+ */
+public class WireFormatMessageConverter implements SmartMessageConverter {
+
+    private final Jackson2JsonMessageConverter json;
+    private final BinaryMessageConverter binary;
+    private final boolean binaryOutbound;
+
+    public WireFormatMessageConverter(Jackson2JsonMessageConverter json,
+                                      BinaryMessageConverter binary,
+                                      boolean binaryOutbound) {
+        this.json = json;
+        this.binary = binary;
+        this.binaryOutbound = binaryOutbound;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        if (binaryOutbound && binary.canConvert(object)) {
+            return binary.toMessage(object, messageProperties);
+        }
+        return json.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        if (isBinary(message)) {
+            return binary.fromMessage(message);
+        }
+        return json.fromMessage(message);
+    }
+
+    @Override
+    public Object fromMessage(Message message, Object conversionHint) throws MessageConversionException {
+        if (isBinary(message)) {
+            return binary.fromMessage(message);
+        }
+        return json.fromMessage(message, conversionHint);
+    }
+
+    private boolean isBinary(Message message) {
+        String contentType = message.getMessageProperties().getContentType();
+        return contentType != null && contentType.startsWith(BinaryMessageConverter.CONTENT_TYPE);
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.common.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 청크 데이터 전송 전에 클라이언트가 알려주는 청크별 SHA-256 목록
+ * 업로드 서비스가 세션 정보와 함께 저장 서비스로 보내고, 저장 서비스는 이미 가진 청크를 응답한다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkHashManifest implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String contentId;
+    private String userId;
+    private String fileName;
+    private String contentType;
+    private long fileSize;
+    private long chunkSize;                                 // 세션 청크 크기 (마지막 청크 제외)
+    private int totalChunks;
+    private ContentPriority priority;
+    private List<String> chunkHashes = new ArrayList<>();   // 인덱스 순서의 청크 SHA-256 (hex, 모르면 null)
+
+    /**
+     * 인덱스별 청크 크기 (마지막 청크는 남은 크기)
+     */
+    public long expectedChunkSize(int chunkIndex) {
+        return chunkIndex < totalChunks - 1 ? chunkSize : fileSize - chunkSize * (totalChunks - 1);
+    }
+
+    /**
+     * 세션 정보로 콘텐츠 메시지 생성 (모든 청크가 이미 있어 바로 병합하는 경우 사용)
+     */
+    public ContentMessage toContentMessage() {
+        ContentMessage message = new ContentMessage();
+        message.setId(contentId);
+        message.setUserId(userId);
+        message.setFileName(fileName);
+        message.setContentType(contentType);
+        message.setFileSize(fileSize);
+        message.setTotalChunks(totalChunks);
+        message.setPriority(priority);
+        message.setStatus(ContentStatus.UPLOADING);
+        message.setTimestamp(System.currentTimeMillis());
+        return message;
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.common.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 청크 해시 협상 결과
+ * 저장 서비스가 이미 가진 청크 인덱스 목록으로, 클라이언트는 나머지 청크만 전송한다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkHashMatch implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String contentId;
+    private List<Integer> existingChunks = new ArrayList<>();   // 전송하지 않아도 되는 청크 인덱스
+    private String errorMessage;                                // 협상 실패 사유
+
+    public static ChunkHashMatch failure(String contentId, String errorMessage) {
+        ChunkHashMatch match = new ChunkHashMatch();
+        match.setContentId(contentId);
+        match.setErrorMessage(errorMessage);
+        return match;
+    }
+}
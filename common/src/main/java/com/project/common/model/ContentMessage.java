@@ -27,6 +27,12 @@ public class ContentMessage implements Serializable {
     private int totalChunks;             // 총 청크 수
     private byte[] contentData;          // 현재 청크 데이터
 
+    // 클레임 체크 정보 (contentData 대신 블롭 저장소 참조 전달)
+    private String payloadRef;           // 블롭 저장소 키
+    private long payloadLength;          // 페이로드 길이 (바이트)
+    private String payloadChecksum;      // 페이로드 SHA-256 (hex)
+    private String payloadUrl;           // 저장소 객체 URL (끝의 payloadLength 바이트가 페이로드)
+
     // 처리 상태 정보
     private ContentStatus status;        // 현재 처리 상태
     private ContentPriority priority;    // 처리 우선순위
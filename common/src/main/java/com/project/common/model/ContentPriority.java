@@ -1,5 +1,40 @@
 package com.project.common.model;
 
+import com.project.common.constants.RabbitMQConstants;
+
+/**
+ * 콘텐츠 처리 우선순위
+ * 각 값은 우선순위 큐에서 쓰는 AMQP 메시지 priority 로 매핑된다
+ */
 public enum ContentPriority {
-    LOW, MEDIUM, HIGH
+    LOW(RabbitMQConstants.PRIORITY_LOW),
+    MEDIUM(RabbitMQConstants.PRIORITY_NORMAL),
+    HIGH(RabbitMQConstants.PRIORITY_HIGH);
+
+    private final int messagePriority;
+
+    ContentPriority(int messagePriority) {
+        this.messagePriority = messagePriority;
+    }
+
+    /**
+     * AMQP 메시지 priority 값
+     */
+    public int getMessagePriority() {
+        return messagePriority;
+    }
+
+    /**
+     * 요청 파라미터 변환 (대소문자 무시, 이전 값 NORMAL 및 알 수 없는 값은 MEDIUM)
+     */
+    public static ContentPriority from(String value) {
+        if (value == null || value.isBlank()) {
+            return MEDIUM;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return MEDIUM;
+        }
+    }
 }
@@ -1,32 +1,64 @@
-
 package com.project.common.model;
 
 /**
  * 콘텐츠 처리 상태를 나타내는 열거형
+ *
+ * 각 상태는 파이프라인 단계 순위(stageRank)를 가지며, 상태는 순위가 높아지는 방향으로만 바뀐다.
+ * 단계 간 메시지 순서가 보장되지 않으므로 늦게 도착한 이전 단계 상태는 무시된다.
+ * 종료 상태(완료/실패/취소/만료)는 최고 순위를 공유하여 먼저 기록된 종료 상태가 유지된다.
  */
 public enum ContentStatus {
     // 업로드 단계
-    UPLOADING,      // 업로드 진행 중
-    UPLOADED,       // 업로드 완료
+    UPLOADING(10),      // 업로드 진행 중
+    UPLOADED(20),       // 업로드 완료
 
     // 검증 단계
-    VALIDATING,     // 검증 진행 중
-    VALIDATED,      // 검증 완료
-    VALIDATION_FAILED, // 검증 실패
+    VALIDATING(30),     // 검증 진행 중
+    VALIDATED(40),      // 검증 완료
+    VALIDATION_FAILED(ContentStatus.TERMINAL_RANK), // 검증 실패
 
     // 처리 단계
-    PROCESSING,     // 처리 진행 중
-    PROCESSED,      // 처리 완료
+    PROCESSING(50),     // 처리 진행 중
+    PROCESSED(60),      // 처리 완료
 
     // 저장 단계
-    STORING,        // 저장 진행 중
-    STORED,         // 저장 완료
+    STORING(70),        // 저장 진행 중
+    STORED(80),         // 저장 완료
 
     // 최종 상태
-    COMPLETED,      // 모든 처리 완료
-    FAILED,         // 처리 실패
+    COMPLETED(ContentStatus.TERMINAL_RANK),      // 모든 처리 완료
+    FAILED(ContentStatus.TERMINAL_RANK),         // 처리 실패
 
     // 기타 상태
-    CANCELLED,      // 사용자에 의한 취소
-    EXPIRED         // 만료됨
-}
\ No newline at end of file
+    CANCELLED(ContentStatus.TERMINAL_RANK),      // 사용자에 의한 취소
+    EXPIRED(ContentStatus.TERMINAL_RANK);        // 만료됨
+
+    private static final int TERMINAL_RANK = 100;
+
+    private final int stageRank;
+
+    ContentStatus(int stageRank) {
+        this.stageRank = stageRank;
+    }
+
+    /**
+     * 파이프라인 단계 순위 (높을수록 이후 단계)
+     */
+    public int getStageRank() {
+        return stageRank;
+    }
+
+    /**
+     * 종료 상태 여부 (이후 어떤 상태로도 바뀌지 않음)
+     */
+    public boolean isTerminal() {
+        return stageRank == TERMINAL_RANK;
+    }
+
+    /**
+     * 현재 상태에서 다음 상태로 전이 가능한지 확인 (순위가 높아지는 경우만 허용)
+     */
+    public boolean canTransitionTo(ContentStatus next) {
+        return next != null && next.stageRank > this.stageRank;
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.common.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 객체 저장소 직접 업로드용 청크별 presigned PUT URL 묶음
+ * 저장 서비스가 발급하고 업로드 서비스가 클라이언트에 전달한다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectUploadTicket implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String contentId;
+    private int totalChunks;
+    private List<String> chunkUrls = new ArrayList<>();   // 인덱스 순서의 청크 업로드 URL
+    private long expiresAt;                               // URL 만료 시각 (epoch millis)
+    private String errorMessage;                          // 발급 실패 사유
+
+    public static DirectUploadTicket failure(String contentId, String errorMessage) {
+        DirectUploadTicket ticket = new DirectUploadTicket();
+        ticket.setContentId(contentId);
+        ticket.setErrorMessage(errorMessage);
+        return ticket;
+    }
+}
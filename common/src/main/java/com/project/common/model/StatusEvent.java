@@ -0,0 +1,50 @@
+package com.project.common.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 상태 큐 전용 경량 이벤트
+ *
+ * 상태 업데이트는 가장 많이 오가는 메시지이므로 ContentMessage 전체(처리 옵션, 경로, 청크 데이터)를
+ * 보내지 않고 상태 반영에 필요한 값만 담는다.
+ * 필드 이름은 ContentMessage 와 같아서 전환 중 큐에 남은 이전 메시지도 그대로 읽힌다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String id;                   // 콘텐츠 고유 ID
+    private String userId;               // 사용자 ID
+    private String fileName;             // 원본 파일명 (상태 행 최초 생성 시 사용)
+    private ContentStatus status;        // 변경된 상태
+    private String errorMessage;         // 오류 메시지
+    private String accessUrl;            // 최종 액세스 URL
+    private long timestamp;              // 이벤트 발생 시간
+
+    /**
+     * 콘텐츠 메시지의 현재 상태로 이벤트 생성
+     */
+    public static StatusEvent from(ContentMessage message) {
+        long timestamp = message.getTimestamp() > 0 ? message.getTimestamp() : System.currentTimeMillis();
+        return new StatusEvent(message.getId(), message.getUserId(), message.getFileName(),
+                message.getStatus(), message.getErrorMessage(), message.getAccessUrl(), timestamp);
+    }
+
+    /**
+     * 콘텐츠 ID와 상태만으로 이벤트 생성
+     */
+    public static StatusEvent of(String contentId, ContentStatus status) {
+        StatusEvent event = new StatusEvent();
+        event.setId(contentId);
+        event.setStatus(status);
+        event.setTimestamp(System.currentTimeMillis());
+        return event;
+    }
+}
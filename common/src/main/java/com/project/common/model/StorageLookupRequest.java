@@ -0,0 +1,28 @@
+package com.project.common.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 저장 객체 메타데이터 조회 요청 (지정한 조건을 모두 만족하는 객체)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageLookupRequest implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String contentId;            // 콘텐츠 ID
+    private String userId;               // 사용자 ID
+    private String status;               // 객체 상태
+    private String contentHash;          // 내용 SHA-256 (hex)
+    private int limit;                   // 최대 결과 수
+
+    public boolean hasCriteria() {
+        return contentId != null || userId != null || status != null || contentHash != null;
+    }
+}
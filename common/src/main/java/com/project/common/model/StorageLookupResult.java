@@ -0,0 +1,29 @@
+package com.project.common.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저장 객체 메타데이터 조회 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageLookupResult implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<StoredObjectInfo> objects = new ArrayList<>();
+    private String errorMessage;         // 조회 실패 사유
+
+    public static StorageLookupResult failure(String errorMessage) {
+        StorageLookupResult result = new StorageLookupResult();
+        result.setErrorMessage(errorMessage);
+        return result;
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.common.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 저장 객체 메타데이터 (저장 서비스 색인 조회 결과)
+ * 객체 저장소에 HEAD 요청 없이 콘텐츠의 저장 위치와 크기를 알려준다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredObjectInfo implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String contentId;            // 콘텐츠 고유 ID
+    private String variant;              // ORIGINAL | PROCESSED
+    private String userId;               // 사용자 ID
+    private String fileName;             // 원본 파일명
+    private String contentType;          // 컨텐츠 타입 (MIME)
+    private String fileType;             // 파일 타입 (IMAGE, VIDEO 등)
+    private long fileSize;               // 객체 크기 (바이트)
+    private String contentHash;          // 내용 SHA-256 (hex, 계산하지 않은 경우 null)
+    private String objectName;           // 최종 버킷의 객체 이름
+    private String status;               // 객체 상태 (UPLOADED: 병합만 됨, STORED: 저장 단계 완료)
+    private String accessUrl;            // 조회 시 새로 발급한 액세스 URL
+    private long createdAt;              // 기록 시간
+    private long updatedAt;              // 마지막 갱신 시간
+}
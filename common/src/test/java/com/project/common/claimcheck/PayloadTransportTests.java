@@ -0,0 +1,86 @@
+package com.project.common.claimcheck;
+
+import com.project.common.model.ContentMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayloadTransportTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void claimCheckRoundTripVerifiesChecksum() throws IOException {
+        PayloadTransport transport = new PayloadTransport(new LocalFileSystemBlobStore(tempDir.resolve("blobs")), true);
+        ContentMessage message = message();
+
+        transport.attach(message, "chunk-data".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(message.getContentData()).isNull();
+        assertThat(message.getPayloadRef()).startsWith("content-1/");
+        assertThat(transport.payloadLength(message)).isEqualTo(10);
+        assertThat(new String(transport.readPayload(message), StandardCharsets.UTF_8)).isEqualTo("chunk-data");
+
+        message.setPayloadChecksum("00".repeat(32));
+        assertThatThrownBy(() -> transport.readPayload(message)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void inlineAttachReadsDeclaredLengthOnly() throws IOException {
+        PayloadTransport transport = new PayloadTransport(new LocalFileSystemBlobStore(tempDir.resolve("blobs")), false);
+        ContentMessage message = message();
+
+        transport.attach(message, new ByteArrayInputStream("chunk-data".getBytes(StandardCharsets.UTF_8)), 5);
+        assertThat(new String(message.getContentData(), StandardCharsets.UTF_8)).isEqualTo("chunk");
+
+        // 선언한 길이보다 짧은 본문은 잘린 청크로 보고 거부
+        assertThatThrownBy(() -> transport.attach(message(), new ByteArrayInputStream(new byte[3]), 5))
+                .isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void urlReferenceReadsObjectTail() throws IOException {
+        Path object = Files.writeString(tempDir.resolve("merged.bin"), "first-chunk|last");
+        PayloadTransport transport = new PayloadTransport(new LocalFileSystemBlobStore(tempDir.resolve("blobs")), false);
+        ContentMessage message = message();
+        message.setContentData(new byte[]{1});
+
+        transport.reference(message, object.toUri().toString(), 4);
+
+        assertThat(message.getContentData()).isNull();
+        assertThat(transport.hasPayload(message)).isTrue();
+        assertThat(transport.payloadLength(message)).isEqualTo(4);
+        assertThat(new String(transport.readPayload(message), StandardCharsets.UTF_8)).isEqualTo("last");
+
+        ContentMessage copy = new ContentMessage();
+        transport.copyPayload(message, copy);
+        assertThat(copy.getPayloadUrl()).isEqualTo(message.getPayloadUrl());
+    }
+
+    @Test
+    void urlReferenceLongerThanObjectFails() throws IOException {
+        Path object = Files.writeString(tempDir.resolve("small.bin"), "abc");
+        PayloadTransport transport = new PayloadTransport(new LocalFileSystemBlobStore(tempDir.resolve("blobs")), false);
+        ContentMessage message = message();
+
+        transport.reference(message, object.toUri().toString(), 10);
+
+        assertThatThrownBy(() -> transport.readPayload(message)).isInstanceOf(IOException.class);
+    }
+
+    private static ContentMessage message() {
+        ContentMessage message = new ContentMessage();
+        message.setId("content-1");
+        return message;
+    }
+}
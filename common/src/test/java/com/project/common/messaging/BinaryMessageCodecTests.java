@@ -0,0 +1,149 @@
+package com.project.common.messaging;
+
+import com.project.common.model.ContentMessage;
+import com.project.common.model.ContentMessage.ProcessingOptions;
+import com.project.common.model.ContentPriority;
+import com.project.common.model.ContentStatus;
+import com.project.common.model.FileType;
+import com.project.common.model.StatusEvent;
+import com.project.common.model.ValidationResult;
+import com.project.common.model.ValidationResult.ValidationIssue;
+import com.project.common.model.ValidationResult.ValidationSeverity;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryMessageCodecTests {
+
+    @Test
+    void contentMessageRoundTripKeepsAllFields() {
+        ContentMessage message = fullMessage();
+
+        Object decoded = BinaryMessageCodec.decode(BinaryMessageCodec.encode(message));
+
+        assertThat(decoded).isEqualTo(message);
+    }
+
+    @Test
+    void contentMessageRoundTripKeepsNulls() {
+        ContentMessage message = new ContentMessage();
+        message.setChunkIndex(-1);
+        message.setFileSize(Long.MIN_VALUE);
+
+        ContentMessage decoded = (ContentMessage) BinaryMessageCodec.decode(BinaryMessageCodec.encode(message));
+
+        assertThat(decoded).isEqualTo(message);
+        assertThat(decoded.getContentData()).isNull();
+        assertThat(decoded.getProcessingOptions()).isNull();
+        assertThat(decoded.getPayloadUrl()).isNull();
+    }
+
+    @Test
+    void emptyChunkDataIsNotNull() {
+        ContentMessage message = new ContentMessage();
+        message.setContentData(new byte[0]);
+
+        ContentMessage decoded = (ContentMessage) BinaryMessageCodec.decode(BinaryMessageCodec.encode(message));
+
+        assertThat(decoded.getContentData()).isEmpty();
+    }
+
+    @Test
+    void versionOneMessageDecodesWithoutPayloadUrl() {
+        ContentMessage message = fullMessage();
+        message.setPayloadUrl(null);
+        byte[] current = BinaryMessageCodec.encode(message);
+
+        // 버전 1 형식: payloadChecksum 바로 뒤의 payloadUrl 필드(null = 0)가 없음
+        byte[] checksum = message.getPayloadChecksum().getBytes(StandardCharsets.UTF_8);
+        int urlOffset = indexOf(current, checksum) + checksum.length;
+        assertThat(current[urlOffset]).isZero();
+        byte[] v1 = new byte[current.length - 1];
+        System.arraycopy(current, 0, v1, 0, urlOffset);
+        System.arraycopy(current, urlOffset + 1, v1, urlOffset, current.length - urlOffset - 1);
+        v1[1] = 1;
+
+        assertThat(BinaryMessageCodec.decode(v1)).isEqualTo(message);
+    }
+
+    @Test
+    void statusEventRoundTrip() {
+        StatusEvent event = new StatusEvent("c1", "u1", "a.png", ContentStatus.STORED, null, "http://x/a", 42L);
+
+        assertThat(BinaryMessageCodec.decode(BinaryMessageCodec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void validationResultRoundTrip() {
+        ValidationResult result = new ValidationResult();
+        result.setContentId("c1");
+        result.setValid(false);
+        result.setErrorMessage("too large");
+        result.setValidationTime(7L);
+        result.setValidator("size");
+        result.setIssues(List.of(
+                new ValidationIssue(ValidationSeverity.WARNING, "W1", "warn", null),
+                new ValidationIssue(null, null, null, "details")));
+
+        assertThat(BinaryMessageCodec.decode(BinaryMessageCodec.encode(result))).isEqualTo(result);
+    }
+
+    @Test
+    void rejectsForeignAndTruncatedBodies() {
+        byte[] body = BinaryMessageCodec.encode(fullMessage());
+
+        assertThatThrownBy(() -> BinaryMessageCodec.decode("{\"id\":1}".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BinaryMessageCodec.decode(Arrays.copyOf(body, body.length - 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ContentMessage fullMessage() {
+        ProcessingOptions options = new ProcessingOptions();
+        options.setResizeImage(true);
+        options.setTargetWidth(800);
+        options.setTargetHeight(600);
+        options.setGenerateThumbnail(true);
+        options.setVideoFormat("mp4");
+        options.setWatermarkText("워터마크");
+
+        ContentMessage message = new ContentMessage();
+        message.setId("content-1");
+        message.setUserId("user-1");
+        message.setFileName("사진.png");
+        message.setContentType("image/png");
+        message.setFileType(FileType.IMAGE);
+        message.setFileSize(5L * 1024 * 1024 * 1024);
+        message.setChunkIndex(3);
+        message.setTotalChunks(4);
+        message.setContentData(new byte[]{0, 1, 2, (byte) 0xFF});
+        message.setPayloadRef("content-1/3");
+        message.setPayloadLength(4);
+        message.setPayloadChecksum("ab".repeat(32));
+        message.setPayloadUrl("http://minio/temp/content-1/chunk_3");
+        message.setStatus(ContentStatus.UPLOADING);
+        message.setPriority(ContentPriority.HIGH);
+        message.setTimestamp(1_700_000_000_000L);
+        message.setSourcePath("/tmp/src");
+        message.setTempFilePath("/tmp/tmp");
+        message.setProcessedPath("/tmp/processed");
+        message.setAccessUrl("http://minio/content/a.png");
+        message.setProcessingOptions(options);
+        message.setErrorMessage("none");
+        return message;
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        for (int i = 0; i <= data.length - pattern.length; i++) {
+            if (Arrays.equals(data, i, i + pattern.length, pattern, 0, pattern.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("pattern not found");
+    }
+}
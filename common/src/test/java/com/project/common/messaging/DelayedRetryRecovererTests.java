@@ -0,0 +1,138 @@
+package com.project.common.messaging;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.project.common.model.ContentMessage;
+import com.project.common.model.ContentStatus;
+import com.project.common.model.StatusEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class DelayedRetryRecovererTests {
+
+    private static final List<Long> DELAYS = DelayedRetryRecoverer.backoffDelays(
+            1000, 2.0, 10000, RabbitMQConstants.MAX_RETRY_COUNT);
+
+    private PipelinePublisher pipelinePublisher;
+    private DelayedRetryRecoverer recoverer;
+
+    @BeforeEach
+    void setUp() {
+        pipelinePublisher = mock(PipelinePublisher.class);
+        recoverer = new DelayedRetryRecoverer(pipelinePublisher, DELAYS);
+    }
+
+    @Test
+    void backoffDelaysGrowUpToMaxInterval() {
+        assertThat(DELAYS).containsExactly(1000L, 2000L, 4000L);
+        assertThat(DelayedRetryRecoverer.backoffDelays(1000, 3.0, 5000, 4))
+                .containsExactly(1000L, 3000L, 5000L, 5000L);
+        assertThat(DelayedRetryRecoverer.delayQueueName(2000))
+                .isEqualTo(RabbitMQConstants.RETRY_DELAY_QUEUE_PREFIX + "2000ms");
+    }
+
+    @Test
+    void retriesBelowLimitGoToMatchingDelayQueue() {
+        for (int retryCount = 0; retryCount < RabbitMQConstants.MAX_RETRY_COUNT; retryCount++) {
+            PipelinePublisher publisher = mock(PipelinePublisher.class);
+            Message message = message(retryCount);
+
+            new DelayedRetryRecoverer(publisher, DELAYS).recover(message, failure());
+
+            Outbound[] published = captureWaited(publisher);
+            assertThat(published).hasSize(1);
+            assertThat(published[0].exchange()).isEqualTo(RabbitMQConstants.RETRY_EXCHANGE);
+            assertThat(published[0].routingKey()).isEqualTo(RabbitMQConstants.STORAGE_ROUTING_KEY);
+            assertThat(published[0].payload()).isSameAs(message);
+
+            MessageProperties properties = message.getMessageProperties();
+            assertThat((Object) properties.getHeader(RabbitMQConstants.X_RETRY_COUNT)).isEqualTo(retryCount + 1);
+            assertThat((Object) properties.getHeader(RabbitMQConstants.X_RETRY_DELAY))
+                    .isEqualTo(String.valueOf(DELAYS.get(retryCount)));
+            assertThat((Object) properties.getHeader(RabbitMQConstants.X_ORIGINAL_EXCHANGE))
+                    .isEqualTo(RabbitMQConstants.CONTENT_EXCHANGE);
+        }
+    }
+
+    @Test
+    void retryLimitSendsToDlqWithFailureMessages() {
+        Message message = message(RabbitMQConstants.MAX_RETRY_COUNT);
+        StageFailureException failure = failure();
+
+        recoverer.recover(message, failure);
+
+        Outbound[] published = captureWaited(pipelinePublisher);
+        assertThat(published).hasSize(3);
+        assertThat(published[0].exchange()).isEqualTo(RabbitMQConstants.DLX_EXCHANGE);
+        assertThat(published[0].routingKey()).isEqualTo(RabbitMQConstants.DLQ_ROUTING_KEY);
+        assertThat(published[0].payload()).isSameAs(message);
+        assertThat((Object) message.getMessageProperties().getHeader(RabbitMQConstants.X_EXCEPTION_MESSAGE))
+                .isEqualTo("IOException: disk full");
+
+        // 실패 상태와 알림은 DLQ 로 보낼 때만 발행
+        assertThat(List.of(published).subList(1, 3)).containsExactlyElementsOf(failure.getFailureMessages());
+        StatusEvent status = (StatusEvent) published[1].payload();
+        assertThat(status.getStatus()).isEqualTo(ContentStatus.FAILED);
+        assertThat(status.getErrorMessage()).isEqualTo("Storage error: disk full");
+        assertThat(published[2].routingKey()).isEqualTo(RabbitMQConstants.NOTIFICATION_ROUTING_KEY);
+    }
+
+    @Test
+    void fatalErrorsSkipRetry() {
+        Message message = message(0);
+
+        recoverer.recover(message, new ListenerExecutionFailedException("Listener failed",
+                new MessageConversionException("bad payload"), message));
+
+        Outbound[] published = captureWaited(pipelinePublisher);
+        assertThat(published).hasSize(1);
+        assertThat(published[0].exchange()).isEqualTo(RabbitMQConstants.DLX_EXCHANGE);
+    }
+
+    @Test
+    void rpcRequestsSkipRetry() {
+        Message message = message(0);
+        message.getMessageProperties().setReplyTo("amq.rabbitmq.reply-to");
+
+        recoverer.recover(message, failure());
+
+        assertThat(captureWaited(pipelinePublisher)[0].exchange()).isEqualTo(RabbitMQConstants.DLX_EXCHANGE);
+    }
+
+    private static Message message(int retryCount) {
+        MessageProperties properties = new MessageProperties();
+        properties.setReceivedExchange(RabbitMQConstants.CONTENT_EXCHANGE);
+        properties.setReceivedRoutingKey(RabbitMQConstants.STORAGE_ROUTING_KEY);
+        properties.setConsumerQueue(RabbitMQConstants.STORAGE_QUEUE);
+        if (retryCount > 0) {
+            properties.setHeader(RabbitMQConstants.X_RETRY_COUNT, retryCount);
+        }
+        return new Message(new byte[]{1, 2, 3}, properties);
+    }
+
+    private static StageFailureException failure() {
+        ContentMessage content = new ContentMessage();
+        content.setId("content-1");
+        content.setUserId("user-1");
+        content.setStatus(ContentStatus.STORING);
+        return StageFailureException.of(content, "Storage error: disk full", new IOException("disk full"));
+    }
+
+    private static Outbound[] captureWaited(PipelinePublisher publisher) {
+        ArgumentCaptor<Outbound[]> captor = ArgumentCaptor.forClass(Outbound[].class);
+        verify(publisher).publishAndWait(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.common.messaging;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LegacyQueueDrainerTests {
+
+    private static final String LEGACY = RabbitMQConstants.LEGACY_STORAGE_QUEUE;
+
+    private RabbitTemplate rabbitTemplate;
+    private AmqpAdmin amqpAdmin;
+    private PipelinePublisher pipelinePublisher;
+    private Channel channel;
+    private LegacyQueueDrainer drainer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        amqpAdmin = mock(AmqpAdmin.class);
+        pipelinePublisher = mock(PipelinePublisher.class);
+        channel = mock(Channel.class);
+        when(rabbitTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+        drainer = new LegacyQueueDrainer(rabbitTemplate, amqpAdmin, pipelinePublisher,
+                Map.of(LEGACY, RabbitMQConstants.STORAGE_ROUTING_KEY), true);
+    }
+
+    @Test
+    void movesMessagesToNewQueueThenDeletesLegacyQueue() throws Exception {
+        when(amqpAdmin.getQueueInfo(LEGACY))
+                .thenReturn(new QueueInformation(LEGACY, 1, 0))
+                .thenReturn(new QueueInformation(LEGACY, 0, 0));
+        when(channel.basicGet(LEGACY, false)).thenReturn(response(7), (GetResponse) null);
+
+        assertThat(drainer.drain(LEGACY, RabbitMQConstants.STORAGE_ROUTING_KEY)).isEqualTo(1);
+
+        ArgumentCaptor<Binding> binding = ArgumentCaptor.forClass(Binding.class);
+        verify(amqpAdmin).removeBinding(binding.capture());
+        assertThat(binding.getValue().getDestination()).isEqualTo(LEGACY);
+        assertThat(binding.getValue().getRoutingKey()).isEqualTo(RabbitMQConstants.STORAGE_ROUTING_KEY);
+
+        ArgumentCaptor<Outbound> outbound = ArgumentCaptor.forClass(Outbound.class);
+        verify(pipelinePublisher).publishAndWait(outbound.capture());
+        assertThat(outbound.getValue().exchange()).isEqualTo(RabbitMQConstants.CONTENT_EXCHANGE);
+        assertThat(outbound.getValue().routingKey()).isEqualTo(RabbitMQConstants.STORAGE_ROUTING_KEY);
+
+        verify(channel).basicAck(7, false);
+        verify(amqpAdmin).deleteQueue(LEGACY, true, true);
+    }
+
+    @Test
+    void unconfirmedRepublishRequeuesOriginalAndKeepsQueue() throws Exception {
+        when(amqpAdmin.getQueueInfo(LEGACY)).thenReturn(new QueueInformation(LEGACY, 1, 0));
+        when(channel.basicGet(LEGACY, false)).thenReturn(response(3));
+        doThrow(new PublishConfirmException("nack")).when(pipelinePublisher).publishAndWait(any(Outbound[].class));
+
+        drainer.drainLegacyQueues();
+
+        verify(channel).basicNack(3, false, true);
+        verify(channel, never()).basicAck(3, false);
+        verify(amqpAdmin, never()).deleteQueue(anyString(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void missingLegacyQueueIsSkipped() {
+        drainer.drainLegacyQueues();
+        drainer.drainLegacyQueues();
+
+        verify(amqpAdmin, never()).removeBinding(any());
+        verify(rabbitTemplate, never()).execute(any());
+    }
+
+    private static GetResponse response(long deliveryTag) {
+        Envelope envelope = new Envelope(deliveryTag, false, RabbitMQConstants.CONTENT_EXCHANGE, "content.storage");
+        return new GetResponse(envelope, new AMQP.BasicProperties.Builder().build(), new byte[]{1, 2, 3}, 0);
+    }
+}
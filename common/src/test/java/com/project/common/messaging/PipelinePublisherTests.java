@@ -0,0 +1,97 @@
+package com.project.common.messaging;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PipelinePublisherTests {
+
+    private RabbitTemplate rabbitTemplate;
+    private RabbitOperations operations;
+    private final AtomicInteger sends = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+        when(connectionFactory.isPublisherReturns()).thenReturn(true);
+
+        rabbitTemplate = mock(RabbitTemplate.class);
+        operations = mock(RabbitOperations.class);
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+    }
+
+    @Test
+    void ackedMessagesComplete() {
+        brokerReplies(true, false);
+
+        publisher().publishAndWait(Outbound.of(RabbitMQConstants.STORAGE_ROUTING_KEY, raw()));
+
+        assertThat(sends).hasValue(1);
+    }
+
+    @Test
+    void returnedMessagesFailWithoutRepublish() {
+        brokerReplies(true, true);
+
+        assertThatThrownBy(() -> publisher().publishAndWait(Outbound.of(RabbitMQConstants.STORAGE_ROUTING_KEY, raw())))
+                .isInstanceOf(PublishConfirmException.class)
+                .hasMessageContaining("unroutable");
+        assertThat(sends).hasValue(1);
+    }
+
+    @Test
+    void nackedMessagesAreRepublishedUpToMaxAttempts() {
+        brokerReplies(false, false);
+
+        assertThatThrownBy(() -> publisher().publishAndWait(Outbound.of(RabbitMQConstants.STORAGE_ROUTING_KEY, raw())))
+                .isInstanceOf(PublishConfirmException.class)
+                .hasMessageContaining("nacked after 3 attempts");
+        assertThat(sends).hasValue(3);
+    }
+
+    private PipelinePublisher publisher() {
+        return new PipelinePublisher(rabbitTemplate, 1000, 3, false);
+    }
+
+    /**
+     * 전송할 때마다 브로커 응답 (반환은 확인보다 먼저 도착)
+     */
+    private void brokerReplies(boolean ack, boolean returned) {
+        doAnswer(invocation -> {
+            sends.incrementAndGet();
+            Message message = invocation.getArgument(2);
+            CorrelationData correlation = invocation.getArgument(3);
+            if (returned) {
+                correlation.setReturned(new ReturnedMessage(message, 312, "NO_ROUTE",
+                        invocation.getArgument(0), invocation.getArgument(1)));
+            }
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(operations).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private static Message raw() {
+        return new Message(new byte[]{1}, new MessageProperties());
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.common.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentStatusTests {
+
+    @Test
+    void transitionsOnlyMoveForward() {
+        assertThat(ContentStatus.UPLOADING.canTransitionTo(ContentStatus.UPLOADED)).isTrue();
+        assertThat(ContentStatus.VALIDATED.canTransitionTo(ContentStatus.STORED)).isTrue();
+        assertThat(ContentStatus.STORED.canTransitionTo(ContentStatus.PROCESSING)).isFalse();
+        assertThat(ContentStatus.STORED.canTransitionTo(ContentStatus.STORED)).isFalse();
+        assertThat(ContentStatus.UPLOADED.canTransitionTo(null)).isFalse();
+    }
+
+    @Test
+    void anyStageCanFailButTerminalStatesAreFinal() {
+        for (ContentStatus status : ContentStatus.values()) {
+            if (status.isTerminal()) {
+                for (ContentStatus next : ContentStatus.values()) {
+                    assertThat(status.canTransitionTo(next)).as("%s -> %s", status, next).isFalse();
+                }
+            } else {
+                assertThat(status.canTransitionTo(ContentStatus.FAILED)).as("%s -> FAILED", status).isTrue();
+                assertThat(status.canTransitionTo(ContentStatus.COMPLETED)).as("%s -> COMPLETED", status).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void terminalStatesShareHighestRank() {
+        assertThat(ContentStatus.VALIDATION_FAILED.isTerminal()).isTrue();
+        assertThat(ContentStatus.EXPIRED.getStageRank()).isEqualTo(ContentStatus.COMPLETED.getStageRank());
+        assertThat(ContentStatus.STORED.isTerminal()).isFalse();
+    }
+}
@@ -1,12 +1,14 @@
 package com.project.process;
 
+import com.project.common.config.AsyncConfig;
+import com.project.common.config.ListenerContainerConfig;
 import com.project.common.config.RabbitMQConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
-@Import(RabbitMQConfig.class)
+@Import({RabbitMQConfig.class, ListenerContainerConfig.class, AsyncConfig.class})
 public class ProcessApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,89 @@
+package com.project.process.config;
+
+import com.project.common.messaging.ListenerContainerTuner;
+import com.project.common.messaging.ProcessingLane;
+import com.project.common.model.ContentMessage;
+import com.project.process.consumer.ProcessingConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.MethodRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 파일 유형별 처리 레인 구독 설정
+ *
+ * processing.lanes.subscribe 에 나열된 레인만 구독하며, 레인마다 별도 컨테이너 팩토리를 만들어
+ * 동시성(processing.lanes.{lane}.concurrency)과 프리페치(processing.lanes.{lane}.prefetch)를 따로 적용한다.
+ * 재시도/메시지 변환 등 나머지 설정은 spring.rabbitmq.listener.simple 을 그대로 따르고,
+ * 가상 스레드와 적체량 기반 조정은 공용 ListenerContainerTuner 설정을 따른다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ProcessingLaneConfig implements RabbitListenerConfigurer {
+
+    private final ProcessingConsumer processingConsumer;
+    private final ConnectionFactory connectionFactory;
+    private final SimpleRabbitListenerContainerFactoryConfigurer containerFactoryConfigurer;
+    private final ListenerContainerTuner listenerContainerTuner;
+    private final Environment environment;
+
+    @Value("${processing.lanes.subscribe:image,video,audio,pdf,text,other}")
+    private List<String> subscribedLanes;
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        DefaultMessageHandlerMethodFactory handlerMethodFactory = new DefaultMessageHandlerMethodFactory();
+        handlerMethodFactory.afterPropertiesSet();
+
+        Method listenerMethod = ReflectionUtils.findMethod(
+                ProcessingConsumer.class, "consumeProcessingMessage", ContentMessage.class);
+
+        for (ProcessingLane lane : ProcessingLane.values()) {
+            if (!isSubscribed(lane)) {
+                log.info("Processing lane not subscribed: {}", lane.getLaneName());
+                continue;
+            }
+
+            String prefix = "processing.lanes." + lane.getLaneName() + ".";
+            String concurrency = environment.getProperty(prefix + "concurrency", "1");
+            int prefetch = environment.getProperty(prefix + "prefetch", Integer.class, 1);
+
+            SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+            containerFactoryConfigurer.configure(factory, connectionFactory);
+            // 가상 스레드 및 적체량 기반 소비자 조정 (레인 동시성 범위 기준)
+            listenerContainerTuner.apply(factory, concurrency);
+            factory.setPrefetchCount(prefetch);
+
+            MethodRabbitListenerEndpoint endpoint = new MethodRabbitListenerEndpoint();
+            endpoint.setId("processingLane-" + lane.getLaneName());
+            endpoint.setQueueNames(lane.getQueueName());
+            endpoint.setConcurrency(concurrency);
+            endpoint.setBean(processingConsumer);
+            endpoint.setMethod(listenerMethod);
+            endpoint.setMessageHandlerMethodFactory(handlerMethodFactory);
+
+            registrar.registerEndpoint(endpoint, factory);
+            log.info("Processing lane subscribed: {} (queue={}, concurrency={}, prefetch={})",
+                    lane.getLaneName(), lane.getQueueName(), concurrency, prefetch);
+        }
+    }
+
+    private boolean isSubscribed(ProcessingLane lane) {
+        return subscribedLanes.stream()
+                .map(String::trim)
+                .anyMatch(name -> name.equalsIgnoreCase(lane.getLaneName()));
+    }
+}
@@ -1,13 +1,17 @@
 package com.project.process.consumer;
 
 import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.project.common.messaging.PublishConfirmException;
+import com.project.common.messaging.StageFailureException;
 import com.project.common.model.ContentMessage;
 import com.project.common.model.ContentStatus;
+import com.project.common.model.StatusEvent;
 import com.project.process.service.ContentProcessingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -16,41 +20,38 @@ import org.springframework.stereotype.Component;
 public class ProcessingConsumer {
 
     private final ContentProcessingService processingService;
-    private final RabbitTemplate rabbitTemplate;
+    private final PipelinePublisher pipelinePublisher;
 
+    /**
+     * 처리 요청 소비
+     * 파일 유형별 레인 큐는 ProcessingLaneConfig 에서 이 메서드로 등록하며,
+     * 공용 처리 큐는 유형 레인 도입 전에 쌓인 메시지와 PROCESSING_ROUTING_KEY 발행분을 처리한다.
+     */
     @RabbitListener(queues = RabbitMQConstants.PROCESSING_QUEUE)
+    @RabbitListener(id = "processingHighLane", queues = RabbitMQConstants.PROCESSING_HIGH_QUEUE,
+            concurrency = "${messaging.priority.high-lane.concurrency:2}",
+            autoStartup = "${messaging.priority.high-lane.enabled:false}")
     public void consumeProcessingMessage(ContentMessage message) {
         log.info("Received processing request for content: {}", message.getId());
 
         try {
-            // 처리 상태로 업데이트
+            // 처리 상태로 업데이트 (진행 상태는 확인을 기다리지 않음)
             message.nextStage(ContentStatus.PROCESSING);
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                    message);
+            pipelinePublisher.publish(Outbound.status(StatusEvent.from(message)));
 
             // 파일 처리 수행
             String processedFilePath = processingService.processContent(message);
 
             if (processedFilePath != null) {
-                // 처리 결과 파일 경로 설정
-                message.setAccessUrl(processedFilePath);
+                // 처리 결과 파일 경로 설정 (accessUrl은 원본 객체 URL 유지, 저장 서비스가 최종 URL로 갱신)
+                message.setProcessedPath(processedFilePath);
 
                 // 처리 완료 상태로 업데이트
                 message.nextStage(ContentStatus.PROCESSED);
 
-                // 상태 업데이트 메시지 발행
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                        message);
-
-                // 저장 서비스로 메시지 발행
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.STORAGE_ROUTING_KEY,
-                        message);
+                // 상태 업데이트와 저장 서비스 메시지를 함께 발행
+                pipelinePublisher.transition(StatusEvent.from(message),
+                        RabbitMQConstants.STORAGE_ROUTING_KEY, message);
 
                 log.info("Content processed successfully: {}", message.getId());
             } else {
@@ -58,38 +59,20 @@ public class ProcessingConsumer {
                 message.withError("Failed to process content");
                 message.nextStage(ContentStatus.FAILED);
 
-                // 상태 업데이트 메시지 발행
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                        message);
-
-                // 알림 서비스로 메시지 발행
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.NOTIFICATION_ROUTING_KEY,
-                        message);
+                // 상태 업데이트와 알림 메시지를 함께 발행
+                pipelinePublisher.transition(StatusEvent.from(message),
+                        RabbitMQConstants.NOTIFICATION_ROUTING_KEY, message);
 
                 log.warn("Content processing failed: {}", message.getId());
             }
+        } catch (PublishConfirmException e) {
+            // 발행이 확인되지 않으면 입력 메시지를 재전달 받아 다시 처리
+            log.error("Processing result not confirmed for content: {}", message.getId(), e);
+            throw e;
         } catch (Exception e) {
+            // 일시적 오류 (다운로드/디스크 오류 등)는 지연 큐로 재시도, 한도 초과 시 실패 상태와 알림 발행
             log.error("Error processing content: {}", message.getId(), e);
-
-            // 오류 상태로 업데이트
-            message.withError("Processing error: " + e.getMessage());
-            message.nextStage(ContentStatus.FAILED);
-
-            // 상태 업데이트 메시지 발행
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                    message);
-
-            // 알림 서비스로 메시지 발행
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.NOTIFICATION_ROUTING_KEY,
-                    message);
+            throw StageFailureException.of(message, "Processing error: " + e.getMessage(), e);
         }
     }
 }
\ No newline at end of file
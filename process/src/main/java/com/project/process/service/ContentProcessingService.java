@@ -6,6 +6,7 @@ import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Files;
@@ -24,34 +25,30 @@ public class ContentProcessingService {
     /**
      * 파일 유형에 따라 적절한 처리 수행
      * @param message 처리할 콘텐츠 메시지
-     * @return 처리된 파일 경로 (실패 시 null)
+     * @return 처리된 파일 경로 (처리할 수 없는 콘텐츠면 null)
+     * @throws IOException 원본 다운로드 또는 결과 파일 쓰기 실패 (일시적 오류 - 호출자가 재시도)
      */
-    public String processContent(ContentMessage message) {
+    public String processContent(ContentMessage message) throws IOException {
         log.info("Processing content: {}, type: {}", message.getId(), message.getFileType());
 
-        try {
-            // 처리 결과를 저장할 디렉토리 생성
-            Path processedDirPath = Paths.get(processedDir);
-            Files.createDirectories(processedDirPath);
-
-            // 원본 파일 경로
-            Path sourcePath = Paths.get(message.getAccessUrl());
-
-            // 파일 타입에 따른 처리
-            return switch (message.getFileType()) {
-                case IMAGE -> processImage(sourcePath, processedDirPath, message);
-                case VIDEO -> processVideo(sourcePath, processedDirPath, message);
-                case AUDIO -> processAudio(sourcePath, processedDirPath, message);
-                case PDF -> processPdf(sourcePath, processedDirPath, message);
-                case TEXT -> processText(sourcePath, processedDirPath, message);
-                default ->
-                    // 기본 처리 (단순 복사)
-                        processDefault(sourcePath, processedDirPath, message);
-            };
-        } catch (Exception e) {
-            log.error("Error processing content", e);
-            return null;
-        }
+        // 처리 결과를 저장할 디렉토리 생성
+        Path processedDirPath = Paths.get(processedDir);
+        Files.createDirectories(processedDirPath);
+
+        // 원본 파일 경로
+        Path sourcePath = Paths.get(message.getAccessUrl());
+
+        // 파일 타입에 따른 처리
+        return switch (message.getFileType()) {
+            case IMAGE -> processImage(sourcePath, processedDirPath, message);
+            case VIDEO -> processVideo(sourcePath, processedDirPath, message);
+            case AUDIO -> processAudio(sourcePath, processedDirPath, message);
+            case PDF -> processPdf(sourcePath, processedDirPath, message);
+            case TEXT -> processText(sourcePath, processedDirPath, message);
+            default ->
+                // 기본 처리 (단순 복사)
+                    processDefault(sourcePath, processedDirPath, message);
+        };
     }
 
     /**
@@ -83,7 +80,7 @@ public class ContentProcessingService {
     /**
      * 비디오 처리 (실제 구현은 필요에 따라 확장)
      */
-    private String processVideo(Path sourcePath, Path processedDirPath, ContentMessage message) {
+    private String processVideo(Path sourcePath, Path processedDirPath, ContentMessage message) throws IOException {
         // 실제 비디오 트랜스코딩 구현 시 ffmpeg 등의 라이브러리 사용
         // 이 예제에서는 단순 복사
         return processDefault(sourcePath, processedDirPath, message);
@@ -92,7 +89,7 @@ public class ContentProcessingService {
     /**
      * 오디오 처리 (실제 구현은 필요에 따라 확장)
      */
-    private String processAudio(Path sourcePath, Path processedDirPath, ContentMessage message) {
+    private String processAudio(Path sourcePath, Path processedDirPath, ContentMessage message) throws IOException {
         // 실제 오디오 처리 구현 시 jAudio 등의 라이브러리 사용
         // 이 예제에서는 단순 복사
         return processDefault(sourcePath, processedDirPath, message);
@@ -101,7 +98,7 @@ public class ContentProcessingService {
     /**
      * PDF 처리 (실제 구현은 필요에 따라 확장)
      */
-    private String processPdf(Path sourcePath, Path processedDirPath, ContentMessage message) {
+    private String processPdf(Path sourcePath, Path processedDirPath, ContentMessage message) throws IOException {
         // 실제 PDF 처리 구현 시 Apache PDFBox 등의 라이브러리 사용
         // 이 예제에서는 단순 복사
         return processDefault(sourcePath, processedDirPath, message);
@@ -110,58 +107,46 @@ public class ContentProcessingService {
     /**
      * 텍스트 파일 처리 (실제 구현은 필요에 따라 확장)
      */
-    private String processText(Path sourcePath, Path processedDirPath, ContentMessage message) {
+    private String processText(Path sourcePath, Path processedDirPath, ContentMessage message) throws IOException {
         // 실제 텍스트 처리 구현
         // 이 예제에서는 단순 복사
         return processDefault(sourcePath, processedDirPath, message);
     }
 
-    private String processDefault(Path sourcePath, Path processedDirPath, ContentMessage message) {
-        try {
-            // URL에서 실제 파일 다운로드
-            Path downloadedFilePath = downloadFileFromUrl(message.getAccessUrl());
-
-            if (downloadedFilePath == null) {
-                log.error("파일 다운로드 실패: {}", message.getAccessUrl());
-                return null;
-            }
+    private String processDefault(Path sourcePath, Path processedDirPath, ContentMessage message) throws IOException {
+        // URL에서 실제 파일 다운로드 (실패 시 예외 - 처리 단계에서 지연 재시도)
+        Path downloadedFilePath = downloadFileFromUrl(message.getAccessUrl());
 
-            // 원본 파일 이름 및 확장자 추출
-            String originalFileName = downloadedFilePath.getFileName().toString();
-            String extension = getFileExtension(originalFileName);
+        // 원본 파일 이름 및 확장자 추출
+        String originalFileName = downloadedFilePath.getFileName().toString();
+        String extension = getFileExtension(originalFileName);
 
-            // 고유한 처리된 파일 이름 생성
-            String processedFileName = UUID.randomUUID() + "-processed" + extension;
-            Path destinationPath = processedDirPath.resolve(processedFileName);
+        // 고유한 처리된 파일 이름 생성
+        String processedFileName = UUID.randomUUID() + "-processed" + extension;
+        Path destinationPath = processedDirPath.resolve(processedFileName);
 
-            // 파일 복사
-            Files.copy(downloadedFilePath, destinationPath, StandardCopyOption.REPLACE_EXISTING);
+        // 파일 복사
+        Files.copy(downloadedFilePath, destinationPath, StandardCopyOption.REPLACE_EXISTING);
 
-            log.info("파일 복사 완료: {}", destinationPath);
-            return destinationPath.toString();
-        } catch (Exception e) {
-            log.error("파일 복사 중 오류 발생", e);
-            return null;
-        }
+        log.info("파일 복사 완료: {}", destinationPath);
+        return destinationPath.toString();
     }
 
     /**
      * URL에서 파일 다운로드 메서드
      */
-    private Path downloadFileFromUrl(String fileUrl) {
-        try {
-            URL url = new URL(fileUrl);
-            Path tempFile = Files.createTempFile("downloaded-", "-content");
-
-            try (InputStream inputStream = url.openStream()) {
-                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
-            }
-
-            return tempFile;
-        } catch (Exception e) {
-            log.error("URL에서 파일 다운로드 실패: {}", fileUrl, e);
-            return null;
+    private Path downloadFileFromUrl(String fileUrl) throws IOException {
+        URL url = new URL(fileUrl);
+        Path tempFile = Files.createTempFile("downloaded-", "-content");
+
+        try (InputStream inputStream = url.openStream()) {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
         }
+
+        return tempFile;
     }
 
     /**
@@ -0,0 +1,334 @@
+package com.project.storage.backend;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * 로컬(또는 공유 볼륨) 파일 시스템 저장소 백엔드
+ *
+ * 객체는 {baseDir}/{bucket}/{objectName} 파일로, 메타데이터는 {baseDir}/.meta/{bucket}/{objectName}.properties 로 저장한다.
+ * 모든 쓰기는 같은 디렉토리의 임시 파일에 쓴 뒤 원자적으로 이동하므로 파일 내용이 제자리에서 바뀌지 않는다.
+ * 그래서 복사와 단일 소스 compose 는 하드 링크로 처리하고(데이터 복사 없음),
+ * 여러 소스 compose 와 로컬 파일 저장은 FileChannel.transferTo 로 커널 안에서 복사한다.
+ *
+ * 조회 URL은 public-url 이 설정되어 있으면 {public-url}/{bucket}/{objectName} (정적 파일 서버 앞단 사용),
+ * 아니면 file: URI 를 돌려준다. 클라이언트 직접 업로드(presigned PUT)는 지원하지 않는다.
+ */
+@Slf4j
+public class LocalFileSystemStorageBackend implements ObjectStorageBackend {
+
+    private static final String META_DIR = ".meta";
+    private static final String TEMP_PREFIX = ".obj-";
+    private static final String CONTENT_TYPE_KEY = "Content-Type";
+    private static final String USER_METADATA_PREFIX = "meta.";
+
+    private final Path baseDir;
+    private final String publicUrl;
+
+    public LocalFileSystemStorageBackend(Path baseDir, String publicUrl) {
+        this.baseDir = baseDir.toAbsolutePath().normalize();
+        this.publicUrl = publicUrl != null && !publicUrl.isBlank()
+                ? publicUrl.replaceAll("/+$", "")
+                : null;
+    }
+
+    @Override
+    public void put(String bucket, String objectName, InputStream data, long length,
+                    String contentType, Map<String, String> userMetadata) throws IOException {
+        Path target = resolve(bucket, objectName);
+        Path tempFile = createTempFile(target);
+        try {
+            long written = Files.copy(data, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            if (length >= 0 && written != length) {
+                throw new IOException(String.format(
+                        "Object length mismatch for %s/%s: expected %d, written %d", bucket, objectName, length, written));
+            }
+            commit(tempFile, target);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        writeMetadata(bucket, objectName, contentType, userMetadata);
+    }
+
+    @Override
+    public void putFile(String bucket, String objectName, Path file,
+                        String contentType, Map<String, String> userMetadata) throws IOException {
+        Path target = resolve(bucket, objectName);
+        Path tempFile = createTempFile(target);
+        try {
+            // 원본 파일은 저장소 밖에서 바뀔 수 있으므로 링크하지 않고 커널 복사
+            try (FileChannel out = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                transfer(file, out);
+            }
+            commit(tempFile, target);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        writeMetadata(bucket, objectName, contentType, userMetadata);
+    }
+
+    @Override
+    public InputStream get(String bucket, String objectName) throws IOException {
+        return Files.newInputStream(resolve(bucket, objectName));
+    }
+
+    @Override
+    public ObjectInfo head(String bucket, String objectName) throws IOException {
+        Path path = resolve(bucket, objectName);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+
+        Properties metadata = readMetadata(bucket, objectName);
+        Map<String, String> userMetadata = new HashMap<>();
+        for (String key : metadata.stringPropertyNames()) {
+            if (key.startsWith(USER_METADATA_PREFIX)) {
+                userMetadata.put(key.substring(USER_METADATA_PREFIX.length()), metadata.getProperty(key));
+            }
+        }
+        return new ObjectInfo(Files.size(path), metadata.getProperty(CONTENT_TYPE_KEY), userMetadata,
+                Files.getLastModifiedTime(path).toMillis());
+    }
+
+    @Override
+    public List<String> list(String bucket, String prefix) throws IOException {
+        Path bucketDir = resolveBucket(bucket);
+        // 접두사의 디렉토리 부분부터만 탐색
+        int slash = prefix.lastIndexOf('/');
+        Path startDir = slash >= 0 ? resolve(bucket, prefix.substring(0, slash)) : bucketDir;
+        if (!Files.isDirectory(startDir)) {
+            return List.of();
+        }
+
+        List<String> names = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(startDir)) {
+            files.filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().startsWith(TEMP_PREFIX))
+                    .map(path -> bucketDir.relativize(path).toString().replace('\\', '/'))
+                    .filter(name -> name.startsWith(prefix))
+                    .forEach(names::add);
+        }
+        return names;
+    }
+
+    @Override
+    public void compose(String bucket, String objectName, String sourceBucket, List<String> sourceObjects,
+                        String contentType) throws IOException {
+        if (sourceObjects.isEmpty()) {
+            throw new IllegalArgumentException("No compose sources for " + bucket + "/" + objectName);
+        }
+
+        Path target = resolve(bucket, objectName);
+        if (sourceObjects.size() == 1) {
+            linkOrCopy(resolve(sourceBucket, sourceObjects.get(0)), target);
+        } else {
+            Path tempFile = createTempFile(target);
+            try {
+                try (FileChannel out = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                    for (String sourceObject : sourceObjects) {
+                        transfer(resolve(sourceBucket, sourceObject), out);
+                    }
+                }
+                commit(tempFile, target);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+        writeMetadata(bucket, objectName, contentType, Map.of());
+    }
+
+    @Override
+    public void copy(String sourceBucket, String sourceObject, String bucket, String objectName) throws IOException {
+        linkOrCopy(resolve(sourceBucket, sourceObject), resolve(bucket, objectName));
+
+        Path sourceMeta = metadataPath(sourceBucket, sourceObject);
+        if (Files.exists(sourceMeta)) {
+            Path targetMeta = metadataPath(bucket, objectName);
+            Files.createDirectories(targetMeta.getParent());
+            Files.copy(sourceMeta, targetMeta, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void delete(String bucket, String objectName) {
+        try {
+            Files.deleteIfExists(resolve(bucket, objectName));
+            Files.deleteIfExists(metadataPath(bucket, objectName));
+        } catch (IOException e) {
+            log.warn("Failed to delete object: {}/{}", bucket, objectName, e);
+        }
+    }
+
+    @Override
+    public String presignGet(String bucket, String objectName, Duration expiry) {
+        if (publicUrl == null) {
+            return resolve(bucket, objectName).toUri().toString();
+        }
+
+        StringBuilder url = new StringBuilder(publicUrl).append('/').append(encode(bucket));
+        for (String segment : objectName.split("/")) {
+            url.append('/').append(encode(segment));
+        }
+        return url.toString();
+    }
+
+    @Override
+    public String presignPut(String bucket, String objectName, Duration expiry) {
+        throw new UnsupportedOperationException("Direct upload is not supported by the local storage backend");
+    }
+
+    @Override
+    public void ensureBucket(String bucket) throws IOException {
+        Files.createDirectories(resolveBucket(bucket));
+        log.info("Local storage bucket ready: {}", resolveBucket(bucket));
+    }
+
+    @Override
+    public long minComposeSourceSize() {
+        return 0;
+    }
+
+    @Override
+    public int maxComposeSources() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * 하드 링크로 연결하고, 지원하지 않는 파일 시스템이면 커널 복사
+     */
+    private void linkOrCopy(Path source, Path target) throws IOException {
+        if (!Files.isRegularFile(source)) {
+            throw new NoSuchFileException(source.toString());
+        }
+
+        Path tempLink = createTempFile(target);
+        Files.delete(tempLink);
+        try {
+            try {
+                Files.createLink(tempLink, source);
+            } catch (UnsupportedOperationException | IOException e) {
+                log.debug("Hard link not available for {}, copying instead: {}", source, e.getMessage());
+                try (FileChannel out = FileChannel.open(tempLink,
+                        StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                    transfer(source, out);
+                }
+            }
+            commit(tempLink, target);
+        } finally {
+            Files.deleteIfExists(tempLink);
+        }
+    }
+
+    /**
+     * 파일 전체를 출력 채널 끝에 커널 복사 (transferTo)
+     */
+    private static void transfer(Path source, FileChannel out) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    private static Path createTempFile(Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        return Files.createTempFile(target.getParent(), TEMP_PREFIX, ".tmp");
+    }
+
+    private static void commit(Path tempFile, Path target) throws IOException {
+        Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeMetadata(String bucket, String objectName, String contentType,
+                               Map<String, String> userMetadata) throws IOException {
+        Properties metadata = new Properties();
+        if (contentType != null) {
+            metadata.setProperty(CONTENT_TYPE_KEY, contentType);
+        }
+        if (userMetadata != null) {
+            userMetadata.forEach((key, value) -> {
+                if (value != null) {
+                    metadata.setProperty(USER_METADATA_PREFIX + key, value);
+                }
+            });
+        }
+
+        Path metaPath = metadataPath(bucket, objectName);
+        Path tempFile = createTempFile(metaPath);
+        try {
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                metadata.store(writer, null);
+            }
+            commit(tempFile, metaPath);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private Properties readMetadata(String bucket, String objectName) throws IOException {
+        Properties metadata = new Properties();
+        Path metaPath = metadataPath(bucket, objectName);
+        if (Files.exists(metaPath)) {
+            try (Reader reader = Files.newBufferedReader(metaPath, StandardCharsets.UTF_8)) {
+                metadata.load(reader);
+            }
+        }
+        return metadata;
+    }
+
+    private Path metadataPath(String bucket, String objectName) {
+        return checked(baseDir.resolve(META_DIR).resolve(bucket).resolve(objectName + ".properties").normalize(),
+                bucket + "/" + objectName);
+    }
+
+    private Path resolveBucket(String bucket) {
+        if (bucket.isBlank() || bucket.startsWith(".")) {
+            throw new IllegalArgumentException("Invalid bucket name: " + bucket);
+        }
+        return checked(baseDir.resolve(bucket).normalize(), bucket);
+    }
+
+    /**
+     * 버킷/객체 이름을 기본 디렉토리 하위 경로로 변환 (디렉토리 탈출 방지)
+     */
+    private Path resolve(String bucket, String objectName) {
+        Path bucketDir = resolveBucket(bucket);
+        Path path = bucketDir.resolve(objectName).normalize();
+        if (!path.startsWith(bucketDir) || path.equals(bucketDir)) {
+            throw new IllegalArgumentException("Invalid object name: " + objectName);
+        }
+        return path;
+    }
+
+    private Path checked(Path path, String name) {
+        if (!path.startsWith(baseDir)) {
+            throw new IllegalArgumentException("Invalid object path: " + name);
+        }
+        return path;
+    }
+
+    private static String encode(String segment) {
+        return URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
@@ -0,0 +1,262 @@
+package com.project.storage.backend;
+
+import io.minio.BucketExistsArgs;
+import io.minio.ComposeObjectArgs;
+import io.minio.ComposeSource;
+import io.minio.CopyObjectArgs;
+import io.minio.CopySource;
+import io.minio.GetObjectArgs;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.ListObjectsArgs;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.Result;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
+import io.minio.messages.Item;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MinIO/S3 호환 저장소 백엔드
+ *
+ * 조회 URL은 내부 클라이언트로, 직접 업로드 URL은 브라우저가 접근하는 공개 엔드포인트 기준 클라이언트로 서명한다.
+ */
+@Slf4j
+public class MinioStorageBackend implements ObjectStorageBackend {
+
+    // compose 소스 최소 크기 (S3/MinIO 멀티파트 최소 파트 크기)
+    public static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    // compose 가능한 최대 소스 수
+    public static final int MAX_COMPOSE_SOURCES = 10000;
+
+    private final MinioClient minioClient;
+    private final MinioClient presignClient;
+    private final ParallelObjectUploader parallelObjectUploader;
+
+    public MinioStorageBackend(MinioClient minioClient, MinioClient presignClient,
+                               ParallelObjectUploader parallelObjectUploader) {
+        this.minioClient = minioClient;
+        this.presignClient = presignClient;
+        this.parallelObjectUploader = parallelObjectUploader;
+    }
+
+    @Override
+    public void put(String bucket, String objectName, InputStream data, long length,
+                    String contentType, Map<String, String> userMetadata) throws IOException {
+        try {
+            PutObjectArgs.Builder args = PutObjectArgs.builder()
+                    .bucket(bucket)
+                    .object(objectName)
+                    .stream(data, length, -1)
+                    .userMetadata(userMetadata);
+            if (contentType != null) {
+                args.contentType(contentType);
+            }
+            minioClient.putObject(args.build());
+        } catch (Exception e) {
+            throw failure("put", bucket, objectName, e);
+        }
+    }
+
+    @Override
+    public void putFile(String bucket, String objectName, Path file,
+                        String contentType, Map<String, String> userMetadata) throws IOException {
+        try {
+            parallelObjectUploader.upload(file, bucket, objectName, contentType, userMetadata);
+        } catch (Exception e) {
+            throw failure("upload", bucket, objectName, e);
+        }
+    }
+
+    @Override
+    public InputStream get(String bucket, String objectName) throws IOException {
+        try {
+            return minioClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(objectName)
+                            .build()
+            );
+        } catch (Exception e) {
+            throw failure("get", bucket, objectName, e);
+        }
+    }
+
+    @Override
+    public ObjectInfo head(String bucket, String objectName) throws IOException {
+        try {
+            StatObjectResponse stat = minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(objectName)
+                            .build()
+            );
+            long lastModified = stat.lastModified() != null ? stat.lastModified().toInstant().toEpochMilli() : 0;
+            return new ObjectInfo(stat.size(), stat.contentType(), stat.userMetadata(), lastModified);
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return null;
+            }
+            throw failure("stat", bucket, objectName, e);
+        } catch (Exception e) {
+            throw failure("stat", bucket, objectName, e);
+        }
+    }
+
+    @Override
+    public List<String> list(String bucket, String prefix) throws IOException {
+        try {
+            List<String> names = new ArrayList<>();
+            for (Result<Item> result : minioClient.listObjects(
+                    ListObjectsArgs.builder().bucket(bucket).prefix(prefix).recursive(true).build())) {
+                names.add(result.get().objectName());
+            }
+            return names;
+        } catch (Exception e) {
+            throw failure("list", bucket, prefix, e);
+        }
+    }
+
+    @Override
+    public void compose(String bucket, String objectName, String sourceBucket, List<String> sourceObjects,
+                        String contentType) throws IOException {
+        List<ComposeSource> sources = new ArrayList<>(sourceObjects.size());
+        for (String sourceObject : sourceObjects) {
+            sources.add(ComposeSource.builder()
+                    .bucket(sourceBucket)
+                    .object(sourceObject)
+                    .build());
+        }
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", contentType != null ? contentType : "application/octet-stream");
+        try {
+            minioClient.composeObject(
+                    ComposeObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(objectName)
+                            .sources(sources)
+                            .headers(headers)
+                            .build()
+            );
+        } catch (Exception e) {
+            throw failure("compose", bucket, objectName, e);
+        }
+    }
+
+    @Override
+    public void copy(String sourceBucket, String sourceObject, String bucket, String objectName) throws IOException {
+        try {
+            minioClient.copyObject(
+                    CopyObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(objectName)
+                            .source(CopySource.builder()
+                                    .bucket(sourceBucket)
+                                    .object(sourceObject)
+                                    .build())
+                            .build()
+            );
+        } catch (Exception e) {
+            throw failure("copy", bucket, objectName, e);
+        }
+    }
+
+    @Override
+    public void delete(String bucket, String objectName) {
+        try {
+            minioClient.removeObject(
+                    RemoveObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(objectName)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.warn("Failed to remove object: {}/{}", bucket, objectName, e);
+        }
+    }
+
+    @Override
+    public String presignGet(String bucket, String objectName, Duration expiry) throws IOException {
+        return presign(minioClient, Method.GET, bucket, objectName, expiry);
+    }
+
+    @Override
+    public String presignPut(String bucket, String objectName, Duration expiry) throws IOException {
+        return presign(presignClient, Method.PUT, bucket, objectName, expiry);
+    }
+
+    private String presign(MinioClient client, Method method, String bucket, String objectName,
+                           Duration expiry) throws IOException {
+        try {
+            return client.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(method)
+                            .bucket(bucket)
+                            .object(objectName)
+                            .expiry((int) expiry.toSeconds(), TimeUnit.SECONDS)
+                            .build()
+            );
+        } catch (Exception e) {
+            throw failure("presign", bucket, objectName, e);
+        }
+    }
+
+    @Override
+    public void ensureBucket(String bucket) throws IOException {
+        try {
+            // 버킷이 존재하는지 확인
+            boolean bucketExists = minioClient.bucketExists(
+                    BucketExistsArgs.builder()
+                            .bucket(bucket)
+                            .build()
+            );
+
+            // 버킷이 없으면 생성
+            if (!bucketExists) {
+                minioClient.makeBucket(
+                        MakeBucketArgs.builder()
+                                .bucket(bucket)
+                                .build()
+                );
+                log.info("Created MinIO bucket: {}", bucket);
+            } else {
+                log.info("MinIO bucket already exists: {}", bucket);
+            }
+        } catch (Exception e) {
+            throw failure("initialize bucket", bucket, "", e);
+        }
+    }
+
+    @Override
+    public long minComposeSourceSize() {
+        return MIN_PART_SIZE;
+    }
+
+    @Override
+    public int maxComposeSources() {
+        return MAX_COMPOSE_SOURCES;
+    }
+
+    private static IOException failure(String operation, String bucket, String objectName, Exception e) {
+        if (e instanceof IOException io) {
+            return io;
+        }
+        return new IOException(String.format("MinIO %s failed: %s/%s", operation, bucket, objectName), e);
+    }
+}
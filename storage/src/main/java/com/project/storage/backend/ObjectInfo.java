@@ -0,0 +1,13 @@
+package com.project.storage.backend;
+
+import java.util.Map;
+
+/**
+ * 저장된 객체 정보 (head 조회 결과)
+ */
+public record ObjectInfo(
+        long size,
+        String contentType,
+        Map<String, String> userMetadata,
+        long lastModified) {
+}
@@ -0,0 +1,93 @@
+package com.project.storage.backend;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 객체 저장소 백엔드 인터페이스
+ *
+ * 저장 서비스는 이 인터페이스로만 객체를 다루며, storage.backend 설정으로 구현을 고른다.
+ * - minio : MinIO/S3 호환 저장소
+ * - local : 로컬(또는 공유 볼륨) 파일 시스템 (개발/부하 테스트/단일 서버 설치용)
+ */
+public interface ObjectStorageBackend {
+
+    /**
+     * 스트림을 객체로 저장
+     *
+     * @param length 데이터 길이 (바이트)
+     */
+    void put(String bucket, String objectName, InputStream data, long length,
+             String contentType, Map<String, String> userMetadata) throws IOException;
+
+    /**
+     * 로컬 파일을 객체로 저장 (파일 전체를 힙에 올리지 않음)
+     */
+    void putFile(String bucket, String objectName, Path file,
+                 String contentType, Map<String, String> userMetadata) throws IOException;
+
+    /**
+     * 객체 내용을 스트림으로 조회
+     */
+    InputStream get(String bucket, String objectName) throws IOException;
+
+    /**
+     * 객체 정보 조회
+     *
+     * @return 객체 정보, 존재하지 않으면 null
+     */
+    ObjectInfo head(String bucket, String objectName) throws IOException;
+
+    /**
+     * 접두사로 시작하는 객체 이름 목록
+     */
+    List<String> list(String bucket, String prefix) throws IOException;
+
+    /**
+     * 여러 객체를 순서대로 이어 붙여 하나의 객체로 생성
+     * 마지막을 제외한 소스는 minComposeSourceSize() 이상이어야 한다
+     */
+    void compose(String bucket, String objectName, String sourceBucket, List<String> sourceObjects,
+                 String contentType) throws IOException;
+
+    /**
+     * 객체 복사 (메타데이터 포함)
+     */
+    void copy(String sourceBucket, String sourceObject, String bucket, String objectName) throws IOException;
+
+    /**
+     * 객체 삭제 (존재하지 않으면 무시)
+     */
+    void delete(String bucket, String objectName);
+
+    /**
+     * 조회용 URL 생성 (만료 시간 포함)
+     */
+    String presignGet(String bucket, String objectName, Duration expiry) throws IOException;
+
+    /**
+     * 클라이언트 직접 업로드용 URL 생성
+     *
+     * @throws UnsupportedOperationException 직접 업로드를 지원하지 않는 백엔드
+     */
+    String presignPut(String bucket, String objectName, Duration expiry) throws IOException;
+
+    /**
+     * 버킷이 없으면 생성
+     */
+    void ensureBucket(String bucket) throws IOException;
+
+    /**
+     * compose 소스(마지막 제외)의 최소 크기
+     */
+    long minComposeSourceSize();
+
+    /**
+     * compose 한 번에 사용할 수 있는 최대 소스 수
+     */
+    int maxComposeSources();
+}
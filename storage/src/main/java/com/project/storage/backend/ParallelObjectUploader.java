@@ -0,0 +1,230 @@
+package com.project.storage.backend;
+
+import io.minio.ComposeObjectArgs;
+import io.minio.ComposeSource;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.UploadObjectArgs;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 로컬 파일을 힙에 올리지 않고 MinIO 객체로 업로드
+ *
+ * 파트 크기 이하의 파일은 파일에서 바로 스트리밍하고, 그보다 큰 파일은 파트 크기 단위의
+ * 파일 범위로 나누어 임시 버킷에 병렬 업로드한 뒤 composeObject 로 서버 측에서 하나로 합친다.
+ * 각 파트는 공유 FileChannel 의 위치 지정 읽기로 스트리밍되므로 파트끼리 읽기 위치를 다투지 않는다.
+ * 동시에 업로드되는 파트 수는 partUploadExecutor 크기로 제한되어
+ * 최대 메모리 사용량은 (동시 파트 수 x 파트 크기) 를 넘지 않는다.
+ */
+@Slf4j
+public class ParallelObjectUploader {
+
+    private final MinioClient minioClient;
+    private final String tempBucketName;
+    private final TaskExecutor partUploadExecutor;
+    private final long partSize;
+
+    public ParallelObjectUploader(MinioClient minioClient, String tempBucketName,
+                                  TaskExecutor partUploadExecutor, long partSize) {
+        this.minioClient = minioClient;
+        this.tempBucketName = tempBucketName;
+        this.partUploadExecutor = partUploadExecutor;
+        this.partSize = partSize;
+    }
+
+    /**
+     * 파일을 대상 버킷의 객체로 업로드
+     */
+    public void upload(Path file, String bucket, String objectName, String contentType,
+                       Map<String, String> userMetadata) throws Exception {
+        long size = Files.size(file);
+        long effectivePartSize = effectivePartSize(size);
+
+        if (size <= effectivePartSize) {
+            minioClient.uploadObject(
+                    UploadObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(objectName)
+                            .filename(file.toString(), Math.max(MinioStorageBackend.MIN_PART_SIZE, effectivePartSize))
+                            .contentType(contentType)
+                            .userMetadata(userMetadata)
+                            .build()
+            );
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        String partPrefix = "uploads/" + UUID.randomUUID() + "/part_";
+        int partCount = (int) ((size + effectivePartSize - 1) / effectivePartSize);
+        List<String> partObjects = new ArrayList<>(partCount);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            uploadParts(channel, size, effectivePartSize, partPrefix, partObjects);
+
+            List<ComposeSource> sources = new ArrayList<>(partObjects.size());
+            for (String partObject : partObjects) {
+                sources.add(ComposeSource.builder()
+                        .bucket(tempBucketName)
+                        .object(partObject)
+                        .build());
+            }
+
+            Map<String, String> headers = new HashMap<>();
+            headers.put("Content-Type", contentType);
+            minioClient.composeObject(
+                    ComposeObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(objectName)
+                            .sources(sources)
+                            .headers(headers)
+                            .userMetadata(userMetadata)
+                            .build()
+            );
+
+            log.info("Uploaded {} in {} parts of {} bytes ({} bytes, {} ms)",
+                    objectName, partCount, effectivePartSize, size, System.currentTimeMillis() - startTime);
+        } finally {
+            removeParts(partObjects);
+        }
+    }
+
+    /**
+     * 파트를 병렬 업로드하고 모두 끝날 때까지 대기
+     * 하나라도 실패하면 아직 시작하지 않은 파트는 건너뛰고, 실행 중인 파트가 끝난 뒤 예외를 던진다
+     */
+    private void uploadParts(FileChannel channel, long size, long effectivePartSize, String partPrefix,
+                             List<String> partObjects) throws Exception {
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (long offset = 0, index = 0; offset < size; offset += effectivePartSize, index++) {
+            String partObject = partPrefix + index;
+            long position = offset;
+            long length = Math.min(effectivePartSize, size - offset);
+            partObjects.add(partObject);
+
+            futures.add(CompletableFuture.runAsync(() -> {
+                if (failed.get()) {
+                    return;
+                }
+                try {
+                    putPart(channel, position, length, partObject);
+                } catch (Exception e) {
+                    failed.set(true);
+                    throw new CompletionException(e);
+                }
+            }, partUploadExecutor));
+        }
+
+        try {
+            // allOf 는 모든 파트가 끝난 뒤에 완료되므로 파일 채널을 닫아도 안전
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void putPart(FileChannel channel, long position, long length, String partObject) throws Exception {
+        try (InputStream data = new FileRangeInputStream(channel, position, length)) {
+            minioClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(tempBucketName)
+                            .object(partObject)
+                            .stream(data, length, Math.max(MinioStorageBackend.MIN_PART_SIZE, length))
+                            .build()
+            );
+        }
+    }
+
+    /**
+     * compose 제약(최소 5MiB, 최대 10000 소스)에 맞춘 파트 크기
+     */
+    private long effectivePartSize(long size) {
+        long configured = Math.max(MinioStorageBackend.MIN_PART_SIZE, partSize);
+        long minimumForSourceLimit = (size + MinioStorageBackend.MAX_COMPOSE_SOURCES - 1) / MinioStorageBackend.MAX_COMPOSE_SOURCES;
+        return Math.max(configured, minimumForSourceLimit);
+    }
+
+    private void removeParts(List<String> partObjects) {
+        for (String partObject : partObjects) {
+            try {
+                minioClient.removeObject(
+                        RemoveObjectArgs.builder()
+                                .bucket(tempBucketName)
+                                .object(partObject)
+                                .build()
+                );
+            } catch (Exception e) {
+                log.warn("Failed to remove upload part: {}", partObject, e);
+            }
+        }
+    }
+
+    /**
+     * 파일의 일정 범위를 읽는 스트림 (FileChannel 위치 지정 읽기, 채널의 현재 위치를 바꾸지 않음)
+     */
+    private static class FileRangeInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private long position;
+        private long remaining;
+
+        FileRangeInputStream(FileChannel channel, long position, long length) {
+            this.channel = channel;
+            this.position = position;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int toRead = (int) Math.min(length, remaining);
+            int read = channel.read(ByteBuffer.wrap(buffer, offset, toRead), position);
+            if (read < 0) {
+                return -1;
+            }
+            position += read;
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, remaining);
+        }
+
+        @Override
+        public void close() {
+            // 채널은 업로드 전체가 끝난 뒤 호출자가 닫음
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.project.storage.config;
+
+import com.project.common.execution.BackpressurePolicy;
+import com.project.common.execution.TaskExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+
+/**
+ * 청크 병합 및 분할 업로드 실행기 설정
+ * 병합을 리스너 스레드에서 분리하여 대용량 병합 중에도 청크 수신이 막히지 않도록 하고,
+ * 대용량 객체의 파트 업로드 동시 실행 수(= 메모리에 올라가는 파트 수)를 제한한다
+ */
+@Configuration
+public class MergeConfig {
+
+    @Value("${storage.merge.pool-size:4}")
+    private int poolSize;
+
+    @Value("${storage.merge.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${storage.upload.parallelism:4}")
+    private int uploadParallelism;
+
+    @Bean
+    public TaskExecutor chunkMergeExecutor(ObjectProvider<MeterRegistry> meterRegistry) {
+        // 대기열이 가득 차면 리스너 스레드에서 실행하여 자연스럽게 수신 속도를 늦춤
+        ThreadPoolTaskExecutor executor = TaskExecutors.threadPool("chunk-merge", poolSize, poolSize, queueCapacity,
+                BackpressurePolicy.CALLER_RUNS, Duration.ZERO,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    @Bean
+    public TaskExecutor partUploadExecutor(ObjectProvider<MeterRegistry> meterRegistry) {
+        // 대기 중인 파트는 파일 범위만 가지므로 메모리는 실행 중인 파트 수 x 파트 크기로 제한됨
+        ThreadPoolTaskExecutor executor = TaskExecutors.threadPool("part-upload", uploadParallelism, uploadParallelism,
+                Integer.MAX_VALUE, BackpressurePolicy.ABORT, Duration.ZERO,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+}
@@ -1,9 +1,6 @@
 package com.project.storage.config;
 
-import io.minio.BucketExistsArgs;
-import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -39,47 +36,6 @@ public class MinioConfig {
                 .build();
     }
 
-    @Bean
-    public boolean initializeMinio(MinioClient minioClient) {
-        try {
-            // 1. 메인 버킷 초기화
-            initializeBucket(minioClient, bucketName);
-
-            // 2. 임시 버킷 초기화
-            initializeBucket(minioClient, tempBucketName);
-
-            return true;
-        } catch (Exception e) {
-            log.error("Error initializing MinIO buckets", e);
-            return false;
-        }
-    }
-
-    private void initializeBucket(MinioClient client, String bucket) {
-        try {
-            // 버킷이 존재하는지 확인
-            boolean bucketExists = client.bucketExists(
-                    BucketExistsArgs.builder()
-                            .bucket(bucket)
-                            .build()
-            );
-
-            // 버킷이 없으면 생성
-            if (!bucketExists) {
-                client.makeBucket(
-                        MakeBucketArgs.builder()
-                                .bucket(bucket)
-                                .build()
-                );
-                log.info("Created MinIO bucket: {}", bucket);
-            } else {
-                log.info("MinIO bucket already exists: {}", bucket);
-            }
-        } catch (Exception e) {
-            log.error("Error initializing MinIO bucket: {}", bucket, e);
-        }
-    }
-
     @Bean
     public String bucketName() {
         return bucketName;
@@ -0,0 +1,88 @@
+package com.project.storage.config;
+
+import com.project.storage.backend.LocalFileSystemStorageBackend;
+import com.project.storage.backend.MinioStorageBackend;
+import com.project.storage.backend.ObjectStorageBackend;
+import com.project.storage.backend.ParallelObjectUploader;
+import io.minio.MinioClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+
+import java.nio.file.Paths;
+
+/**
+ * 객체 저장소 백엔드 설정
+ * storage.backend 로 MinIO / 로컬 파일 시스템 구현을 전환한다
+ */
+@Slf4j
+@Configuration
+public class StorageBackendConfig {
+
+    @Value("${storage.backend:minio}")
+    private String backendType;
+
+    @Value("${storage.local.base-dir:./data/objects}")
+    private String localBaseDir;
+
+    @Value("${storage.local.public-url:}")
+    private String localPublicUrl;
+
+    @Value("${storage.upload.part-size:16777216}")
+    private long uploadPartSize;
+
+    @Value("${minio.public-endpoint:${minio.endpoint:http://localhost:9000}}")
+    private String publicEndpoint;
+
+    @Value("${minio.region:us-east-1}")
+    private String region;
+
+    @Value("${minio.access-key:minioadmin}")
+    private String accessKey;
+
+    @Value("${minio.secret-key:minioadmin}")
+    private String secretKey;
+
+    @Bean
+    public ObjectStorageBackend objectStorageBackend(MinioClient minioClient, String tempBucketName,
+                                                     TaskExecutor partUploadExecutor) {
+        if ("local".equalsIgnoreCase(backendType)) {
+            log.info("Object storage backend: local (dir={}, public-url={})", localBaseDir, localPublicUrl);
+            return new LocalFileSystemStorageBackend(Paths.get(localBaseDir), localPublicUrl);
+        }
+
+        // presigned URL 발급 전용 클라이언트 (브라우저가 접근하는 공개 엔드포인트 기준으로 서명)
+        // 리전을 지정하면 서명 시 버킷 리전 조회 요청을 보내지 않음
+        MinioClient presignClient = MinioClient.builder()
+                .endpoint(publicEndpoint)
+                .region(region)
+                .credentials(accessKey, secretKey)
+                .build();
+
+        log.info("Object storage backend: minio (part-size={})", uploadPartSize);
+        return new MinioStorageBackend(minioClient, presignClient,
+                new ParallelObjectUploader(minioClient, tempBucketName, partUploadExecutor, uploadPartSize));
+    }
+
+    @Bean
+    public boolean initializeBuckets(ObjectStorageBackend objectStorageBackend,
+                                     String bucketName, String tempBucketName) {
+        // 1. 메인 버킷 초기화
+        boolean initialized = initializeBucket(objectStorageBackend, bucketName);
+
+        // 2. 임시 버킷 초기화
+        return initializeBucket(objectStorageBackend, tempBucketName) && initialized;
+    }
+
+    private boolean initializeBucket(ObjectStorageBackend backend, String bucket) {
+        try {
+            backend.ensureBucket(bucket);
+            return true;
+        } catch (Exception e) {
+            log.error("Error initializing storage bucket: {}", bucket, e);
+            return false;
+        }
+    }
+}
@@ -1,185 +1,101 @@
 package com.project.storage.consumer;
 
 import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.project.common.messaging.PublishConfirmException;
+import com.project.common.messaging.StageFailureException;
 import com.project.common.model.ContentMessage;
 import com.project.common.model.ContentStatus;
+import com.project.common.model.StatusEvent;
+import com.project.storage.service.ContentDedupService;
+import com.project.storage.service.StorageRecordService;
 import com.project.storage.service.StorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
 @Slf4j
-//@Component
+@Component
 @RequiredArgsConstructor
 public class StorageConsumer {
 
     private final StorageService storageService;
-    private final RabbitTemplate rabbitTemplate;
-
-//    @RabbitListener(queues = RabbitMQConstants.STORAGE_QUEUE)
+    private final ContentDedupService contentDedupService;
+    private final StorageRecordService storageRecordService;
+    private final PipelinePublisher pipelinePublisher;
+
+    @RabbitListener(queues = RabbitMQConstants.STORAGE_QUEUE)
+    @RabbitListener(id = "storageHighLane", queues = RabbitMQConstants.STORAGE_HIGH_QUEUE,
+            concurrency = "${messaging.priority.high-lane.concurrency:2}",
+            autoStartup = "${messaging.priority.high-lane.enabled:false}")
     public void consumeStorageMessage(ContentMessage message) {
         log.info("Received storage request for content: {}", message.getId());
 
         try {
-            // 저장 상태로 업데이트
+            // 저장 상태로 업데이트 (진행 상태는 확인을 기다리지 않음)
             message.nextStage(ContentStatus.STORING);
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                    message);
+            pipelinePublisher.publish(Outbound.status(StatusEvent.from(message)));
 
             // 파일 저장 수행 (S3/MinIO에 저장)
-            String accessUrl = storageService.storeFile(message);
+            String accessUrl = resolveStoredUrl(message);
 
             if (accessUrl != null) {
                 // 저장 결과 URL 설정
                 message.setAccessUrl(accessUrl);
 
-                // 저장 완료 상태로 업데이트
+                // 저장 완료, 최종 완료 상태와 알림을 함께 발행
                 message.nextStage(ContentStatus.STORED);
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                        message);
-
-                // 최종 완료 상태로 업데이트
+                StatusEvent stored = StatusEvent.from(message);
                 message.nextStage(ContentStatus.COMPLETED);
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                        message);
+                pipelinePublisher.publishAndWait(
+                        Outbound.status(stored),
+                        Outbound.status(StatusEvent.from(message)),
+                        Outbound.of(RabbitMQConstants.NOTIFICATION_ROUTING_KEY, message));
 
-                // 알림 서비스로 메시지 발행
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.NOTIFICATION_ROUTING_KEY,
-                        message);
+                // 병합된 원본 객체도 저장 완료로 표시 (처리 결과를 저장한 경우에도 원본은 유지됨)
+                storageRecordService.markStored(message.getId());
 
                 log.info("Content stored successfully: {}, url: {}", message.getId(), accessUrl);
             } else {
                 // 저장 실패
                 message.withError("Failed to store content");
 
-                // 상태 업데이트 메시지 발행
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                        message);
-
-                // 알림 서비스로 메시지 발행
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.NOTIFICATION_ROUTING_KEY,
-                        message);
+                // 상태 업데이트와 알림 메시지를 함께 발행
+                pipelinePublisher.transition(StatusEvent.from(message),
+                        RabbitMQConstants.NOTIFICATION_ROUTING_KEY, message);
 
                 log.warn("Content storage failed: {}", message.getId());
             }
+        } catch (PublishConfirmException e) {
+            // 발행이 확인되지 않으면 입력 메시지를 재전달 받아 다시 처리
+            log.error("Storage result not confirmed for content: {}", message.getId(), e);
+            throw e;
         } catch (Exception e) {
+            // 일시적 오류 (저장소 연결/업로드 오류 등)는 지연 큐로 재시도, 한도 초과 시 실패 상태와 알림 발행
             log.error("Error storing content: {}", message.getId(), e);
-
-            // 오류 상태로 업데이트
-            message.withError("Storage error: " + e.getMessage());
-
-            // 상태 업데이트 메시지 발행
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                    message);
-
-            // 알림 서비스로 메시지 발행
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.NOTIFICATION_ROUTING_KEY,
-                    message);
+            throw StageFailureException.of(message, "Storage error: " + e.getMessage(), e);
         }
     }
 
     /**
-     * 처리된 파일을 최종 저장소에 저장하는 메서드
+     * 최종 저장 위치 결정
+     * 처리 결과 파일이 있으면 저장하고, 없으면 업로드 단계에서 이미 저장된 원본 URL을 사용
      */
-//    @RabbitListener(queues = RabbitMQConstants.PROCESSING_QUEUE)
-    public void consumeProcessedContent(ContentMessage message) {
-        log.info("Received processed content for storage: {}", message.getId());
-
-        try {
-            // 저장 상태로 업데이트
-            message.nextStage(ContentStatus.STORING);
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                    message);
-
-            // 처리된 파일 저장 (processedPath가 설정된 경우)
-            String accessUrl;
-            if (message.getProcessedPath() != null) {
-                accessUrl = storageService.storeProcessedFile(message);
-            } else {
-                // 처리된 경로가 없는 경우 원본 저장
-                accessUrl = storageService.storeFile(message);
-            }
-
-            if (accessUrl != null) {
-                // 저장 결과 URL 설정
-                message.setAccessUrl(accessUrl);
-
-                // 저장 완료 상태로 업데이트
-                message.nextStage(ContentStatus.STORED);
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                        message);
-
-                // 최종 완료 상태로 업데이트
-                message.nextStage(ContentStatus.COMPLETED);
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                        message);
-
-                // 알림 서비스로 메시지 발행
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.NOTIFICATION_ROUTING_KEY,
-                        message);
-
-                log.info("Processed content stored successfully: {}, url: {}", message.getId(), accessUrl);
-            } else {
-                // 저장 실패
-                message.withError("Failed to store processed content");
-
-                // 상태 업데이트 메시지 발행
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                        message);
-
-                // 알림 서비스로 메시지 발행
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.NOTIFICATION_ROUTING_KEY,
-                        message);
-
-                log.warn("Processed content storage failed: {}", message.getId());
-            }
-        } catch (Exception e) {
-            log.error("Error storing processed content: {}", message.getId(), e);
-
-            // 오류 상태로 업데이트
-            message.withError("Storage error: " + e.getMessage());
-
-            // 상태 업데이트 메시지 발행
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                    message);
-
-            // 알림 서비스로 메시지 발행
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.NOTIFICATION_ROUTING_KEY,
-                    message);
+    private String resolveStoredUrl(ContentMessage message) throws IOException {
+        if (message.getProcessedPath() != null && Files.exists(Paths.get(message.getProcessedPath()))) {
+            return storageService.storeProcessedFile(message);
+        }
+        if (message.getAccessUrl() != null) {
+            log.info("No processed file for content: {}, keeping stored original", message.getId());
+            contentDedupService.recordResult(message.getId(), null);
+            return message.getAccessUrl();
         }
+        return storageService.storeFile(message);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package com.project.storage.consumer;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.model.StorageLookupRequest;
+import com.project.common.model.StorageLookupResult;
+import com.project.storage.service.StorageRecordService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장 객체 메타데이터 조회 (업로드 서비스의 RPC 요청 처리)
+ * 객체 저장소가 아니라 stored_objects 색인에서 응답한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageLookupConsumer {
+
+    private final StorageRecordService storageRecordService;
+
+    @RabbitListener(queues = RabbitMQConstants.STORAGE_LOOKUP_QUEUE)
+    public StorageLookupResult lookup(StorageLookupRequest request) {
+        try {
+            return new StorageLookupResult(storageRecordService.lookup(request), null);
+        } catch (IllegalArgumentException e) {
+            return StorageLookupResult.failure(e.getMessage());
+        } catch (Exception e) {
+            log.error("Error looking up stored objects: {}", request, e);
+            return StorageLookupResult.failure(e.getMessage());
+        }
+    }
+}
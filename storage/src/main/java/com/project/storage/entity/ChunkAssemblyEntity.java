@@ -0,0 +1,57 @@
+package com.project.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 청크 조립 상태 (contentId별 수신 청크 비트셋)
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(
+        name = "chunk_assembly",
+        indexes = {
+                @Index(name = "idx_assembly_state_activity", columnList = "state, last_activity_at")
+        }
+)
+public class ChunkAssemblyEntity {
+
+    @Id
+    @Column(name = "content_id", length = 50)
+    private String contentId;
+
+    @Column(name = "total_chunks", nullable = false)
+    private int totalChunks;
+
+    @Column(name = "received_count", nullable = false)
+    private int receivedCount;
+
+    // java.util.BitSet#toByteArray 형식의 수신 청크 비트셋
+    @Column(name = "received_bitmap", nullable = false, length = 2048)
+    private byte[] receivedBitmap;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private AssemblyState state;
+
+    @Column(name = "created_at", nullable = false)
+    private Long createdAt;
+
+    @Column(name = "last_activity_at", nullable = false)
+    private Long lastActivityAt;
+
+    // 병합 요청 (BinaryMessageCodec 형식, 청크 데이터 제외) - 중단된 병합을 다른 인스턴스가 이어갈 때 사용
+    @Column(name = "merge_request", length = 8192)
+    private byte[] mergeRequest;
+
+    /**
+     * 조립 진행 상태
+     */
+    public enum AssemblyState {
+        RECEIVING,  // 청크 수신 중
+        MERGING,    // 병합 진행 중 (한 인스턴스만 진입)
+        COMPLETED   // 병합 완료 또는 만료 (재전달된 청크 무시, 보존 기간 후 삭제)
+    }
+}
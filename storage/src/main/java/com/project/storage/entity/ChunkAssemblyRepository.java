@@ -0,0 +1,63 @@
+package com.project.storage.entity;
+
+import com.project.storage.entity.ChunkAssemblyEntity.AssemblyState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChunkAssemblyRepository extends JpaRepository<ChunkAssemblyEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from ChunkAssemblyEntity a where a.contentId = :contentId")
+    Optional<ChunkAssemblyEntity> findForUpdate(@Param("contentId") String contentId);
+
+    @Modifying
+    @Query("update ChunkAssemblyEntity a set a.state = :to, a.lastActivityAt = :now " +
+            "where a.contentId = :contentId and a.state = :from and a.receivedCount >= a.totalChunks")
+    int transitionIfComplete(@Param("contentId") String contentId,
+                             @Param("from") AssemblyState from,
+                             @Param("to") AssemblyState to,
+                             @Param("now") long now);
+
+    @Modifying
+    @Query("update ChunkAssemblyEntity a set a.state = :to, a.lastActivityAt = :now " +
+            "where a.contentId = :contentId and a.state = :from")
+    int transition(@Param("contentId") String contentId,
+                   @Param("from") AssemblyState from,
+                   @Param("to") AssemblyState to,
+                   @Param("now") long now);
+
+    @Modifying
+    @Query("update ChunkAssemblyEntity a set a.state = :to, a.lastActivityAt = :now " +
+            "where a.contentId = :contentId and a.state = :from and a.lastActivityAt < :threshold")
+    int transitionIfIdle(@Param("contentId") String contentId,
+                         @Param("from") AssemblyState from,
+                         @Param("to") AssemblyState to,
+                         @Param("threshold") long threshold,
+                         @Param("now") long now);
+
+    @Modifying
+    @Query("update ChunkAssemblyEntity a set a.mergeRequest = :request where a.contentId = :contentId")
+    int updateMergeRequest(@Param("contentId") String contentId, @Param("request") byte[] request);
+
+    @Modifying
+    @Query("update ChunkAssemblyEntity a set a.state = :to, a.lastActivityAt = :now where a.contentId = :contentId")
+    int transitionAny(@Param("contentId") String contentId,
+                      @Param("to") AssemblyState to,
+                      @Param("now") long now);
+
+    List<ChunkAssemblyEntity> findByStateAndLastActivityAtLessThan(AssemblyState state, long threshold);
+
+    @Modifying
+    @Query("delete from ChunkAssemblyEntity a where a.state = :state and a.lastActivityAt < :threshold")
+    int deleteByStateAndLastActivityAtLessThan(@Param("state") AssemblyState state,
+                                               @Param("threshold") long threshold);
+}
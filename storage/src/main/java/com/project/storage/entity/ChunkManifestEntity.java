@@ -0,0 +1,51 @@
+package com.project.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드 중인 콘텐츠의 청크별 해시와 병합 소스
+ *
+ * reused 가 true 이면 청크를 전송받지 않고 청크 저장소의 chunks/{userId}/{hash} 를 그대로 병합 소스로 쓰고,
+ * false 이면 전송받은 임시 청크를 쓰며 병합 후 청크 저장소로 옮긴다.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(
+        name = "chunk_manifest",
+        indexes = {
+                @Index(name = "idx_chunk_manifest_content", columnList = "content_id")
+        }
+)
+public class ChunkManifestEntity {
+
+    // {contentId}/{chunkIndex}
+    @Id
+    @Column(name = "id", length = 64)
+    private String id;
+
+    @Column(name = "content_id", nullable = false, length = 50)
+    private String contentId;
+
+    // 업로드한 사용자 (청크 저장소 범위)
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    @Column(name = "chunk_hash", nullable = false, length = 64)
+    private String chunkHash;
+
+    // 청크 크기 (재사용 청크는 세션 청크 크기로 확인된 크기)
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "reused", nullable = false)
+    private boolean reused;
+
+    @Column(name = "created_at", nullable = false)
+    private Long createdAt;
+}
@@ -0,0 +1,19 @@
+package com.project.storage.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChunkManifestRepository extends JpaRepository<ChunkManifestEntity, String> {
+
+    List<ChunkManifestEntity> findByContentId(String contentId);
+
+    @Modifying
+    @Query("delete from ChunkManifestEntity m where m.contentId = :contentId")
+    int deleteByContentId(@Param("contentId") String contentId);
+}
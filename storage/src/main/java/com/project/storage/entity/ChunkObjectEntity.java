@@ -0,0 +1,42 @@
+package com.project.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용 주소 청크 색인 ({userId}/{SHA-256} -> 임시 버킷의 chunks/{userId}/{hash} 객체)
+ * 청크는 업로드한 사용자 안에서만 재사용되며 (해시만 아는 다른 사용자가 내용을 가져가지 못하도록),
+ * 보존 기간 동안 사용되지 않은 청크는 정리된다
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(
+        name = "chunk_objects",
+        indexes = {
+                @Index(name = "idx_chunk_object_last_used", columnList = "last_used_at")
+        }
+)
+public class ChunkObjectEntity {
+
+    // {userId}/{chunkHash}
+    @Id
+    @Column(name = "id", length = 120)
+    private String id;
+
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+
+    @Column(name = "chunk_hash", nullable = false, length = 64)
+    private String chunkHash;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "created_at", nullable = false)
+    private Long createdAt;
+
+    @Column(name = "last_used_at", nullable = false)
+    private Long lastUsedAt;
+}
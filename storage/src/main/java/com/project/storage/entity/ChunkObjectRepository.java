@@ -0,0 +1,32 @@
+package com.project.storage.entity;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChunkObjectRepository extends JpaRepository<ChunkObjectEntity, String> {
+
+    @Modifying
+    @Query("update ChunkObjectEntity c set c.lastUsedAt = :now where c.id = :id")
+    int touch(@Param("id") String id, @Param("now") long now);
+
+    /**
+     * 크기가 일치하는 청크만 사용 시각 갱신 (재사용 가능 여부 확인)
+     */
+    @Modifying
+    @Query("update ChunkObjectEntity c set c.lastUsedAt = :now where c.id = :id and c.size = :size")
+    int touchIfSize(@Param("id") String id, @Param("size") long size, @Param("now") long now);
+
+    @Query("select c.id from ChunkObjectEntity c where c.lastUsedAt < :threshold")
+    List<String> findUnusedSince(@Param("threshold") long threshold, Pageable pageable);
+
+    @Modifying
+    @Query("delete from ChunkObjectEntity c where c.id = :id and c.lastUsedAt < :threshold")
+    int deleteIfUnusedSince(@Param("id") String id, @Param("threshold") long threshold);
+}
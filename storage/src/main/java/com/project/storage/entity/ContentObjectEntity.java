@@ -0,0 +1,43 @@
+package com.project.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용 주소 객체 색인 (SHA-256 -> 저장 객체)
+ *
+ * 같은 내용의 업로드는 이 객체와 처리 결과를 함께 쓴다 (공유 객체는 다른 저장 객체처럼 삭제하지 않음).
+ * resultObject 는 첫 업로드가 저장 단계를 마친 뒤 기록되고, 그 전까지 중복 업로드는 일반 경로로 처리된다.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "content_objects")
+public class ContentObjectEntity {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "content_type", length = 255)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    // 병합된 원본 객체 이름
+    @Column(name = "original_object", nullable = false, length = 512)
+    private String originalObject;
+
+    // 최종 결과 객체 이름 (처리 결과 또는 원본, 저장 완료 전에는 null)
+    @Column(name = "result_object", length = 512)
+    private String resultObject;
+
+    @Column(name = "created_at", nullable = false)
+    private Long createdAt;
+
+    // 마지막으로 결과를 공유한 시각
+    @Column(name = "last_referenced_at", nullable = false)
+    private Long lastReferencedAt;
+}
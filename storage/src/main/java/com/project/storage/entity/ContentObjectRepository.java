@@ -0,0 +1,18 @@
+package com.project.storage.entity;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ContentObjectRepository extends JpaRepository<ContentObjectEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from ContentObjectEntity o where o.contentHash = :contentHash")
+    Optional<ContentObjectEntity> findForUpdate(@Param("contentHash") String contentHash);
+}
@@ -0,0 +1,41 @@
+package com.project.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 콘텐츠별 내용 주소 객체 참조
+ *
+ * 콘텐츠가 색인 객체의 결과를 공유하게 되면 counted 가 true 가 된다 (확정된 참조).
+ * 메시지 재전달로 같은 단계가 다시 실행되어도 한 번만 기록되고, 확정되지 않은 참조는 보존 기간 후 정리된다.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(
+        name = "content_object_refs",
+        indexes = {
+                @Index(name = "idx_content_ref_hash", columnList = "content_hash"),
+                @Index(name = "idx_content_ref_counted_created", columnList = "counted, created_at")
+        }
+)
+public class ContentReferenceEntity {
+
+    @Id
+    @Column(name = "content_id", length = 50)
+    private String contentId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    // 이 콘텐츠가 병합한 원본 객체 이름 (중복으로 재사용한 경우 null)
+    @Column(name = "object_name", length = 512)
+    private String objectName;
+
+    @Column(name = "counted", nullable = false)
+    private boolean counted;
+
+    @Column(name = "created_at", nullable = false)
+    private Long createdAt;
+}
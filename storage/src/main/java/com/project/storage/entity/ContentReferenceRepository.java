@@ -0,0 +1,15 @@
+package com.project.storage.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ContentReferenceRepository extends JpaRepository<ContentReferenceEntity, String> {
+
+    @Modifying
+    @Query("delete from ContentReferenceEntity r where r.counted = false and r.createdAt < :threshold")
+    int deleteUncountedBefore(@Param("threshold") long threshold);
+}
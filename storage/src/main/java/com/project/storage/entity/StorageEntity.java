@@ -3,49 +3,79 @@ package com.project.storage.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * 저장 객체 메타데이터 색인 (콘텐츠별 원본/처리 결과 객체 하나씩)
+ * 객체 저장소에 HEAD 요청 없이 저장 위치와 크기를 조회하기 위해 저장 단계에서 비동기로 기록한다
+ */
 @Data
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "stored_files")
-public class StorageEntity {
+@Table(
+        name = "stored_objects",
+        indexes = {
+                @Index(name = "idx_stored_object_content_id", columnList = "contentId"),
+                @Index(name = "idx_stored_object_user_id", columnList = "userId"),
+                @Index(name = "idx_stored_object_status", columnList = "status"),
+                @Index(name = "idx_stored_object_content_hash", columnList = "contentHash"),
+                @Index(name = "idx_stored_object_content_hash_user", columnList = "contentHash, userId"),
+                @Index(name = "idx_stored_object_user_status", columnList = "userId, status")
+        }
+)
+public class StorageEntity implements Persistable<UUID> {
+
+    public static final String VARIANT_ORIGINAL = "ORIGINAL";
+    public static final String VARIANT_PROCESSED = "PROCESSED";
 
     @Id
     private UUID id;
 
+    @Column(nullable = false, length = 50)
+    private String contentId;
+
+    @Column(nullable = false, length = 20)
+    private String variant;
+
     @Column(nullable = false)
     private String userId;
 
-    @Column(nullable = false)
+    @Column
     private String fileName;
 
-    @Column(nullable = false)
+    @Column
     private String contentType;
 
-    @Column(nullable = false)
+    @Column
     private String fileType;
 
-    @Column(nullable = false)
+    @Column
     private Long fileSize;
 
-    @Column(nullable = false)
+    @Column(length = 64)
+    private String contentHash;
+
+    @Column(length = 1000)
     private String sourcePath;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = 1000)
     private String storagePath;
 
-    @Column(nullable = false)
+    @Column(length = 2000)
     private String accessUrl;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = 30)
     private String status;
 
     @Column
@@ -56,4 +86,20 @@ public class StorageEntity {
 
     @Column(nullable = false)
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    // 배치 기록 시 신규 행이면 조회 없이 INSERT 하도록 표시
+    @Transient
+    private boolean newRecord;
+
+    /**
+     * 콘텐츠/구분별 고정 ID (재전달로 다시 기록되어도 같은 행을 갱신)
+     */
+    public static UUID recordId(String contentId, String variant) {
+        return UUID.nameUUIDFromBytes((contentId + "/" + variant).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.storage.entity;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,4 +13,23 @@ public interface StorageRepository extends JpaRepository<StorageEntity, UUID> {
     List<StorageEntity> findByUserId(String userId);
 
     List<StorageEntity> findByStatus(String status);
-}
\ No newline at end of file
+
+    List<StorageEntity> findByContentId(String contentId);
+
+    List<StorageEntity> findByContentHashOrderByUpdatedAtDesc(String contentHash, Pageable pageable);
+
+    List<StorageEntity> findByContentHashAndUserIdOrderByUpdatedAtDesc(String contentHash, String userId,
+                                                                      Pageable pageable);
+
+    List<StorageEntity> findByContentHashAndStatusOrderByUpdatedAtDesc(String contentHash, String status,
+                                                                      Pageable pageable);
+
+    List<StorageEntity> findByContentHashAndUserIdAndStatusOrderByUpdatedAtDesc(String contentHash, String userId,
+                                                                               String status, Pageable pageable);
+
+    List<StorageEntity> findByUserIdOrderByUpdatedAtDesc(String userId, Pageable pageable);
+
+    List<StorageEntity> findByUserIdAndStatusOrderByUpdatedAtDesc(String userId, String status, Pageable pageable);
+
+    List<StorageEntity> findByStatusOrderByUpdatedAtDesc(String status, Pageable pageable);
+}
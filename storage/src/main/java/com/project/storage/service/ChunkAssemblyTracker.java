@@ -0,0 +1,124 @@
+package com.project.storage.service;
+
+import com.project.common.model.ContentMessage;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 청크 조립 상태 저장소
+ * contentId별 수신 청크 비트셋, 전체 청크 수, 마지막 활동 시각을 관리한다
+ */
+public interface ChunkAssemblyTracker {
+
+    /**
+     * 청크 인덱스 범위 확인
+     */
+    static void checkRange(BitSet chunks, int totalChunks) {
+        if (totalChunks <= 0 || chunks.length() > totalChunks) {
+            throw new IllegalArgumentException(String.format("Chunk index %d out of range (total %d)",
+                    chunks.length() - 1, totalChunks));
+        }
+    }
+
+    /**
+     * 청크 수신 기록 (멱등 - 같은 청크를 여러 번 기록해도 한 번만 계산)
+     * 이미 완료된 조립이면 아무것도 기록하지 않고 완료된 진행 상황을 돌려준다
+     *
+     * @return 기록 후 조립 진행 상황
+     * @throws IllegalArgumentException 청크 인덱스가 0 이상 totalChunks 미만이 아니거나 전체 청크 수가 기존 기록과 다른 경우
+     */
+    AssemblyProgress markChunk(String contentId, int chunkIndex, int totalChunks);
+
+    /**
+     * 여러 청크 수신을 한 번에 기록 (직접 업로드 완료 시 객체 저장소에서 확인한 청크)
+     *
+     * @return 기록 후 조립 진행 상황 (newlyMarked는 하나라도 새로 기록된 경우 true)
+     * @throws IllegalArgumentException 범위를 벗어난 청크 인덱스가 있거나 전체 청크 수가 기존 기록과 다른 경우
+     */
+    AssemblyProgress markChunks(String contentId, BitSet chunks, int totalChunks);
+
+    /**
+     * 병합 시작 권한 획득
+     * 모든 청크가 수신된 상태에서 최초 호출자(인스턴스)만 true를 받는다
+     * 권한을 얻으면 병합 요청(청크 데이터 없는 메시지)을 함께 기록해, 병합 중 인스턴스가 종료되어도
+     * 다른 인스턴스가 같은 요청으로 병합을 이어갈 수 있게 한다
+     *
+     * @param request 병합 요청 (null 이면 기존 기록 유지)
+     */
+    boolean claimMerge(String contentId, ContentMessage request);
+
+    /**
+     * 병합 요청을 새로 기록하지 않고 병합 권한만 획득 (중단된 병합 재개)
+     */
+    default boolean claimMerge(String contentId) {
+        return claimMerge(contentId, null);
+    }
+
+    /**
+     * 병합 권한 획득 시 기록된 병합 요청 (없으면 null)
+     */
+    ContentMessage mergeRequest(String contentId);
+
+    /**
+     * 진행 중인 병합의 마지막 활동 시각 갱신
+     * 병합이 CHUNK_MERGE_TIMEOUT 보다 오래 걸려도 중단된 병합으로 회수되지 않도록 주기적으로 호출한다
+     */
+    void touchMerge(String contentId);
+
+    /**
+     * 병합 실패 시 수신 상태로 되돌려 재시도를 허용
+     */
+    void releaseMerge(String contentId);
+
+    /**
+     * 지정 시각 이후 진척이 없는 병합을 수신 상태로 되돌림 (병합 중 인스턴스가 종료된 경우)
+     *
+     * @return 되돌린 조립의 contentId
+     */
+    List<String> releaseStaleMerges(long threshold);
+
+    /**
+     * 병합 완료(또는 만료) 표시
+     * 상태를 지우지 않고 완료 표시로 남겨, 늦게 재전달된 청크가 조립 상태를 다시 만들지 않도록 한다
+     */
+    void complete(String contentId);
+
+    /**
+     * 완료 표시된 조립인지 확인
+     */
+    boolean isCompleted(String contentId);
+
+    /**
+     * 지정 시각 이전에 완료된 조립의 완료 표시 제거
+     *
+     * @return 제거한 수
+     */
+    int purgeCompleted(long threshold);
+
+    /**
+     * 수신된 청크 인덱스 조회 (상태가 없으면 빈 비트셋)
+     */
+    BitSet receivedChunks(String contentId);
+
+    /**
+     * 지정 시각 이후 활동이 없는 수신 중 조립 상태 조회 (병합 중/완료 상태 제외)
+     */
+    List<IdleAssembly> findIdleSince(long threshold);
+
+    /**
+     * 조립 진행 상황
+     */
+    record AssemblyProgress(boolean newlyMarked, int receivedChunks, int totalChunks) {
+
+        public boolean isComplete() {
+            return receivedChunks >= totalChunks;
+        }
+    }
+
+    /**
+     * 유휴 조립 정보 (만료 처리용)
+     */
+    record IdleAssembly(String contentId, int totalChunks) {
+    }
+}
@@ -0,0 +1,286 @@
+package com.project.storage.service;
+
+import com.project.common.model.ChunkHashManifest;
+import com.project.storage.backend.ObjectStorageBackend;
+import com.project.storage.entity.ChunkManifestEntity;
+import com.project.storage.entity.ChunkManifestRepository;
+import com.project.storage.entity.ChunkObjectEntity;
+import com.project.storage.entity.ChunkObjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 청크 단위 중복 제거 (델타 업로드)
+ *
+ * 병합이 끝난 업로드의 청크는 임시 버킷의 chunks/{userId}/{sha256} 청크 저장소로 옮겨 보존한다.
+ * 클라이언트가 데이터 전송 전에 청크별 해시를 보내면 저장소에 이미 있는 청크는 전송받지 않고
+ * 병합 시 청크 저장소의 객체를 그대로 compose 소스로 사용한다 (복사/재전송 없음).
+ * 같은 파일의 이전 버전뿐 아니라 같은 사용자의 다른 업로드 청크도 재사용되므로,
+ * 조금만 수정된 대용량 파일을 다시 올리면 바뀐 청크만 전송/저장된다.
+ *
+ * 클라이언트가 보낸 해시는 검증할 수 없으므로 재사용은 같은 사용자가 올린 청크로 한정한다
+ * (다른 사용자의 청크 해시만 알아도 그 내용을 자기 업로드로 가져갈 수 있게 되는 것을 막음).
+ * 크기가 세션 청크 크기와 다른 청크도 재사용하지 않는다.
+ */
+@Slf4j
+@Service
+public class ChunkDedupService {
+
+    // 청크 저장소 객체 이름 접두사 (임시 버킷)
+    static final String CHUNK_STORE_PREFIX = "chunks/";
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    // 한 번에 정리하는 청크 수
+    private static final int PURGE_BATCH_SIZE = 500;
+
+    private final ChunkObjectRepository chunkObjectRepository;
+    private final ChunkManifestRepository chunkManifestRepository;
+    private final ObjectStorageBackend objectStorageBackend;
+    private final TransactionTemplate transactionTemplate;
+    private final String tempBucketName;
+
+    @Value("${storage.chunk-dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${storage.chunk-dedup.retention-days:30}")
+    private long retentionDays;
+
+    public ChunkDedupService(ChunkObjectRepository chunkObjectRepository,
+                             ChunkManifestRepository chunkManifestRepository,
+                             ObjectStorageBackend objectStorageBackend,
+                             PlatformTransactionManager transactionManager,
+                             String tempBucketName) {
+        this.chunkObjectRepository = chunkObjectRepository;
+        this.chunkManifestRepository = chunkManifestRepository;
+        this.objectStorageBackend = objectStorageBackend;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tempBucketName = tempBucketName;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 임시 버킷에 전송받은 청크 객체 이름
+     */
+    public static String uploadedChunkName(String contentId, int chunkIndex) {
+        return String.format("%s/chunk_%d", contentId, chunkIndex);
+    }
+
+    /**
+     * 청크 저장소 색인 키 (사용자 범위)
+     */
+    public static String chunkKey(String userId, String chunkHash) {
+        return userId + "/" + chunkHash;
+    }
+
+    /**
+     * 청크 저장소 객체 이름
+     */
+    public static String storedChunkName(String userId, String chunkHash) {
+        return CHUNK_STORE_PREFIX + chunkKey(userId, chunkHash);
+    }
+
+    /**
+     * 클라이언트가 보낸 청크 해시 중 같은 사용자의 청크 저장소에 이미 있는 청크를 병합 소스로 등록
+     *
+     * @return 전송받지 않아도 되는 청크 인덱스
+     */
+    public BitSet matchChunks(ChunkHashManifest request) {
+        BitSet existing = new BitSet();
+        if (!enabled || request.getUserId() == null || request.getChunkSize() <= 0) {
+            return existing;
+        }
+
+        String contentId = request.getContentId();
+        List<String> chunkHashes = request.getChunkHashes();
+        transactionTemplate.executeWithoutResult(status -> {
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < chunkHashes.size(); i++) {
+                String chunkHash = normalize(chunkHashes.get(i));
+                // 크기가 맞는 청크만 사용 시각을 갱신하여 병합 전에 정리되지 않도록 함
+                if (chunkHash == null || chunkObjectRepository.touchIfSize(chunkKey(request.getUserId(), chunkHash),
+                        request.expectedChunkSize(i), now) == 0) {
+                    continue;
+                }
+                chunkManifestRepository.save(newManifest(contentId, request.getUserId(), i, chunkHash,
+                        request.expectedChunkSize(i), true, now));
+                existing.set(i);
+            }
+        });
+
+        log.info("Chunk hashes matched: contentId={}, existing={}/{}",
+                contentId, existing.cardinality(), chunkHashes.size());
+        return existing;
+    }
+
+    /**
+     * 전송받은 청크의 해시 기록 (병합 후 청크 저장소로 옮길 때, 내용 키 계산 시 사용)
+     * 같은 인덱스가 재사용 청크로 등록되어 있었다면 전송받은 청크로 바뀐다
+     */
+    public void recordUploadedChunk(String contentId, String userId, int chunkIndex, String chunkHash, long size) {
+        transactionTemplate.executeWithoutResult(status -> chunkManifestRepository.save(
+                newManifest(contentId, userId, chunkIndex, chunkHash, size, false, System.currentTimeMillis())));
+    }
+
+    /**
+     * 인덱스 순서의 병합 소스 객체 이름 (임시 버킷)
+     * 재사용 청크는 청크 저장소 객체, 나머지는 전송받은 임시 청크
+     */
+    public List<String> sourceObjects(String contentId, int totalChunks) {
+        Map<Integer, ChunkManifestEntity> manifest = enabled
+                ? chunkManifestRepository.findByContentId(contentId).stream()
+                        .collect(Collectors.toMap(ChunkManifestEntity::getChunkIndex, Function.identity()))
+                : Map.of();
+
+        List<String> sources = new ArrayList<>(totalChunks);
+        for (int i = 0; i < totalChunks; i++) {
+            ChunkManifestEntity entry = manifest.get(i);
+            sources.add(entry != null && entry.isReused()
+                    ? storedChunkName(entry.getUserId(), entry.getChunkHash())
+                    : uploadedChunkName(contentId, i));
+        }
+        return sources;
+    }
+
+    /**
+     * 인덱스 순서의 수신 시 계산된 청크 요약 (기록되지 않은 청크는 null)
+     */
+    public List<ContentDedupService.ContentDigest> chunkDigests(String contentId, int totalChunks) {
+        List<ContentDedupService.ContentDigest> digests = new ArrayList<>(Collections.nCopies(totalChunks, null));
+        for (ChunkManifestEntity entry : chunkManifestRepository.findByContentId(contentId)) {
+            if (entry.getChunkIndex() >= 0 && entry.getChunkIndex() < totalChunks) {
+                digests.set(entry.getChunkIndex(),
+                        new ContentDedupService.ContentDigest(entry.getChunkHash(), entry.getSize()));
+            }
+        }
+        return digests;
+    }
+
+    /**
+     * 병합이 끝난 콘텐츠의 전송받은 청크를 청크 저장소로 옮기고 청크 목록 정리
+     * 임시 청크 삭제 전에 호출해야 한다 (실패해도 업로드 결과에는 영향 없음)
+     */
+    public void promoteChunks(String contentId) {
+        try {
+            if (!enabled) {
+                // 내용 키 계산용으로만 기록된 청크 목록
+                discard(contentId);
+                return;
+            }
+
+            for (ChunkManifestEntity entry : chunkManifestRepository.findByContentId(contentId)) {
+                if (!entry.isReused()) {
+                    promote(entry);
+                }
+            }
+            discard(contentId);
+        } catch (Exception e) {
+            log.warn("Failed to promote chunks for content: {}", contentId, e);
+        }
+    }
+
+    /**
+     * 콘텐츠의 청크 목록 삭제 (조립 만료 시)
+     */
+    public void discard(String contentId) {
+        transactionTemplate.executeWithoutResult(status -> chunkManifestRepository.deleteByContentId(contentId));
+    }
+
+    /**
+     * 보존 기간 동안 사용되지 않은 청크 정리
+     */
+    @Scheduled(fixedDelayString = "${storage.chunk-dedup.cleanup-interval-ms:3600000}")
+    public void purgeUnusedChunks() {
+        if (!enabled) {
+            return;
+        }
+
+        long threshold = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(retentionDays);
+        int purged = 0;
+        List<String> candidates;
+        do {
+            candidates = chunkObjectRepository.findUnusedSince(threshold, PageRequest.of(0, PURGE_BATCH_SIZE));
+            for (String chunkKey : candidates) {
+                // 조회 이후 다시 사용된 청크는 남김
+                Integer deleted = transactionTemplate.execute(status ->
+                        chunkObjectRepository.deleteIfUnusedSince(chunkKey, threshold));
+                if (deleted != null && deleted > 0) {
+                    objectStorageBackend.delete(tempBucketName, CHUNK_STORE_PREFIX + chunkKey);
+                    purged++;
+                }
+            }
+        } while (candidates.size() == PURGE_BATCH_SIZE);
+
+        if (purged > 0) {
+            log.info("Purged {} unused stored chunks", purged);
+        }
+    }
+
+    private void promote(ChunkManifestEntity entry) throws Exception {
+        long now = System.currentTimeMillis();
+        String chunkKey = chunkKey(entry.getUserId(), entry.getChunkHash());
+        Integer touched = transactionTemplate.execute(status -> chunkObjectRepository.touch(chunkKey, now));
+        if (touched != null && touched > 0) {
+            return;
+        }
+
+        // 서버 측 복사 (로컬 파일 시스템 백엔드는 하드 링크)
+        objectStorageBackend.copy(tempBucketName, uploadedChunkName(entry.getContentId(), entry.getChunkIndex()),
+                tempBucketName, storedChunkName(entry.getUserId(), entry.getChunkHash()));
+
+        ChunkObjectEntity chunk = new ChunkObjectEntity();
+        chunk.setId(chunkKey);
+        chunk.setUserId(entry.getUserId());
+        chunk.setChunkHash(entry.getChunkHash());
+        chunk.setSize(entry.getSize());
+        chunk.setCreatedAt(now);
+        chunk.setLastUsedAt(now);
+        try {
+            transactionTemplate.executeWithoutResult(status -> chunkObjectRepository.saveAndFlush(chunk));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 청크가 다른 업로드에서 동시에 등록됨 (내용이 같으므로 그대로 사용)
+            log.debug("Chunk already stored: {}", chunkKey);
+        }
+    }
+
+    private ChunkManifestEntity newManifest(String contentId, String userId, int chunkIndex, String chunkHash,
+                                            long size, boolean reused, long now) {
+        ChunkManifestEntity entry = new ChunkManifestEntity();
+        entry.setId(contentId + "/" + chunkIndex);
+        entry.setContentId(contentId);
+        entry.setUserId(userId);
+        entry.setChunkIndex(chunkIndex);
+        entry.setChunkHash(chunkHash);
+        entry.setSize(size);
+        entry.setReused(reused);
+        entry.setCreatedAt(now);
+        return entry;
+    }
+
+    private static String normalize(String chunkHash) {
+        if (chunkHash == null) {
+            return null;
+        }
+        String normalized = chunkHash.trim().toLowerCase();
+        return SHA256_HEX.matcher(normalized).matches() ? normalized : null;
+    }
+}
@@ -0,0 +1,175 @@
+package com.project.storage.service;
+
+import com.project.storage.backend.ObjectInfo;
+import com.project.storage.backend.ObjectStorageBackend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 임시 버킷의 청크들을 저장소 백엔드의 compose 로 서버 측에서 병합하는 서비스
+ *
+ * MinIO compose 소스는 마지막 소스를 제외하고 최소 5MiB 이상이어야 하므로,
+ * 작은 청크들은 연속된 묶음으로 모아 중간 파트로 스테이징한 뒤 병합한다.
+ * 최소 크기 제한이 없는 백엔드(로컬 파일 시스템)는 스테이징 없이 청크를 바로 이어 붙인다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkMergeService {
+
+    private final ObjectStorageBackend objectStorageBackend;
+    private final String bucketName;
+    private final String tempBucketName;
+
+    /**
+     * 청크들을 최종 버킷의 단일 객체로 병합
+     *
+     * @param contentId        콘텐츠 ID (중간 파트 경로 접두사)
+     * @param chunkObjects     인덱스 순서의 청크 객체 이름 (임시 버킷의 전송받은 청크 또는 청크 저장소 객체)
+     * @param targetObjectName 최종 객체 이름
+     * @param contentType      최종 객체 콘텐츠 타입
+     */
+    public void mergeChunks(String contentId, List<String> chunkObjects, String targetObjectName,
+                            String contentType) throws Exception {
+        List<List<ChunkPart>> groups = planGroups(chunkObjects);
+        if (groups.size() > objectStorageBackend.maxComposeSources()) {
+            throw new IllegalStateException("Too many compose sources for content: " + contentId);
+        }
+
+        List<String> stagedObjects = new ArrayList<>();
+        try {
+            List<String> sources = new ArrayList<>();
+            for (int i = 0; i < groups.size(); i++) {
+                List<ChunkPart> group = groups.get(i);
+
+                // 단일 청크 묶음은 그대로 소스로 사용, 여러 청크 묶음은 중간 파트로 스테이징
+                String sourceObject;
+                if (group.size() == 1) {
+                    sourceObject = group.get(0).objectName();
+                } else {
+                    sourceObject = stageGroup(contentId, i, group);
+                    stagedObjects.add(sourceObject);
+                }
+
+                sources.add(sourceObject);
+            }
+
+            objectStorageBackend.compose(bucketName, targetObjectName, tempBucketName, sources,
+                    contentType != null ? contentType : "application/octet-stream");
+
+            log.info("Chunks merged: contentId={}, chunks={}, sources={}, staged={}, target={}",
+                    contentId, chunkObjects.size(), sources.size(), stagedObjects.size(), targetObjectName);
+        } finally {
+            removeTempObjects(stagedObjects);
+        }
+    }
+
+    /**
+     * 청크 크기를 조회하여 compose 소스 묶음 계획 수립
+     * 묶음 크기가 최소 파트 크기에 도달할 때까지 연속된 청크를 모은다
+     */
+    private List<List<ChunkPart>> planGroups(List<String> chunkObjects) throws Exception {
+        List<List<ChunkPart>> groups = new ArrayList<>();
+        List<ChunkPart> current = new ArrayList<>();
+        long currentSize = 0;
+        long minSourceSize = objectStorageBackend.minComposeSourceSize();
+
+        for (String objectName : chunkObjects) {
+            ObjectInfo info = objectStorageBackend.head(tempBucketName, objectName);
+            if (info == null) {
+                throw new FileNotFoundException("Chunk not found: " + objectName);
+            }
+
+            current.add(new ChunkPart(objectName, info.size()));
+            currentSize += info.size();
+
+            if (currentSize >= minSourceSize) {
+                groups.add(current);
+                current = new ArrayList<>();
+                currentSize = 0;
+            }
+        }
+
+        // 마지막 묶음은 최소 크기 미만이어도 허용
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    /**
+     * 작은 청크 묶음을 하나의 중간 파트로 스테이징
+     * 청크를 순서대로 스트리밍하며 파트 크기 버퍼 하나만 사용한다 (청크 전체를 힙에 올리지 않음)
+     */
+    private String stageGroup(String contentId, int groupIndex, List<ChunkPart> group) throws Exception {
+        String stagedObjectName = String.format("%s/staged_%d", contentId, groupIndex);
+        long groupSize = group.stream().mapToLong(ChunkPart::size).sum();
+
+        try (InputStream data = new SequenceInputStream(new ChunkStreamEnumeration(group))) {
+            objectStorageBackend.put(tempBucketName, stagedObjectName, data, groupSize, null, Map.of());
+        }
+
+        log.debug("Staged {} chunks into intermediate part: {} ({} bytes)",
+                group.size(), stagedObjectName, groupSize);
+        return stagedObjectName;
+    }
+
+    /**
+     * 스테이징에 사용된 중간 파트 정리
+     */
+    private void removeTempObjects(List<String> objectNames) {
+        for (String objectName : objectNames) {
+            objectStorageBackend.delete(tempBucketName, objectName);
+        }
+    }
+
+    /**
+     * 병합 대상 청크 정보
+     */
+    private record ChunkPart(String objectName, long size) {
+    }
+
+    /**
+     * 청크 스트림을 필요할 때 하나씩 여는 열거자
+     */
+    private class ChunkStreamEnumeration implements Enumeration<InputStream> {
+
+        private final Iterator<ChunkPart> parts;
+
+        ChunkStreamEnumeration(List<ChunkPart> parts) {
+            this.parts = parts.iterator();
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return parts.hasNext();
+        }
+
+        @Override
+        public InputStream nextElement() {
+            if (!parts.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ChunkPart part = parts.next();
+            try {
+                return objectStorageBackend.get(tempBucketName, part.objectName());
+            } catch (IOException e) {
+                throw new UncheckedIOException(new IOException(
+                        "Failed to open chunk: " + part.objectName(), e));
+            }
+        }
+    }
+}
@@ -1,20 +1,39 @@
 package com.project.storage.service;
 
+import com.project.common.claimcheck.PayloadTransport;
 import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.DelayedRetryRecoverer;
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.project.common.messaging.StageFailureException;
+import com.project.common.model.ChunkHashManifest;
+import com.project.common.model.ChunkHashMatch;
 import com.project.common.model.ContentMessage;
 import com.project.common.model.ContentStatus;
-import io.minio.*;
-import io.minio.http.Method;
+import com.project.common.model.StatusEvent;
+import com.project.storage.backend.ObjectInfo;
+import com.project.storage.backend.ObjectStorageBackend;
+import com.project.storage.service.ContentDedupService.ContentDigest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -24,101 +43,517 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class ChunkStorageService {
 
-    private final MinioClient minioClient;
-    private final RabbitTemplate rabbitTemplate;
+    private final ObjectStorageBackend objectStorageBackend;
+    private final PipelinePublisher pipelinePublisher;
+    private final PayloadTransport payloadTransport;
+    private final ChunkMergeService chunkMergeService;
+    private final ContentDedupService contentDedupService;
+    private final ChunkDedupService chunkDedupService;
+    private final StorageRecordService storageRecordService;
+    private final ChunkAssemblyTracker assemblyTracker;
+    private final DelayedRetryRecoverer delayedRetryRecoverer;
+    private final TaskExecutor chunkMergeExecutor;
     private final String bucketName;
     private final String tempBucketName;
 
-    // 청크 추적 맵 (contentId -> 수신된 청크 수)
-    private final Map<String, Integer> chunkTracker = new ConcurrentHashMap<>();
+    @Value("${storage.assembly.idle-expiry-minutes:1440}")
+    private long idleExpiryMinutes;
+
+    // 이 인스턴스에서 진행 중인 병합 (활동 시각 갱신 대상)
+    private final Set<String> activeMerges = ConcurrentHashMap.newKeySet();
 
     /**
      * 청크 단위 업로드 처리
      */
     @RabbitListener(queues = RabbitMQConstants.CHUNK_STORAGE_QUEUE)
-    public void handleChunkUpload(ContentMessage message) {
+    public void handleChunkUpload(ContentMessage message, Message source) {
         try {
             log.info("Received chunk [{}/{}] for content: {}",
                     message.getChunkIndex() + 1, message.getTotalChunks(), message.getId());
 
             // 청크 정보 추출
-            byte[] chunkData = message.getContentData();
             int chunkIndex = message.getChunkIndex();
             int totalChunks = message.getTotalChunks();
 
+            // 범위를 벗어난 청크는 다시 시도해도 소용없으므로 바로 실패 처리
+            if (chunkIndex < 0 || chunkIndex >= totalChunks) {
+                publishFailure(message, String.format("Invalid chunk index %d (total %d)", chunkIndex, totalChunks));
+                payloadTransport.release(message);
+                return;
+            }
+
+            // 병합이 끝난 뒤 재전달된 청크는 임시 버킷에 다시 올리지 않음
+            if (assemblyTracker.isCompleted(message.getId())) {
+                log.info("Chunk [{}/{}] redelivered after completion for content: {}, ignoring",
+                        chunkIndex + 1, totalChunks, message.getId());
+                payloadTransport.release(message);
+                return;
+            }
+
             // 객체 이름 생성
             String tempObjectName = String.format("%s/chunk_%d", message.getId(), chunkIndex);
 
-            // MinIO에 청크 저장
-            uploadChunk(tempObjectName, chunkData, message);
+            // 임시 버킷에 청크 저장 (저장하면서 청크 해시 계산)
+            ContentDigest chunkDigest = uploadChunk(tempObjectName, message);
+            recordUploadedChunk(message, chunkDigest);
 
-            // 청크 카운터 업데이트
-            Integer receivedChunks = chunkTracker.compute(message.getId(),
-                    (id, count) -> count == null ? 1 : count + 1);
+            // 청크 하나로 된 업로드는 청크 해시가 곧 내용 해시
+            ContentDigest contentDigest = totalChunks == 1 ? chunkDigest : null;
 
-            // 모든 청크 수신 완료 확인
-            if (receivedChunks == totalChunks) {
-                log.info("All chunks received for content: {}, merging...", message.getId());
+            // 수신 청크 기록 (재전달된 청크는 한 번만 계산)
+            ChunkAssemblyTracker.AssemblyProgress progress =
+                    assemblyTracker.markChunk(message.getId(), chunkIndex, totalChunks);
 
-                // 단일 파일 병합 (또는 단일 청크인 경우 바로 처리)
-                String finalObjectName = processCompleteContent(message);
+            if (!progress.newlyMarked()) {
+                log.info("Duplicate chunk [{}/{}] for content: {}, already recorded",
+                        chunkIndex + 1, totalChunks, message.getId());
+            }
 
-                // 액세스 URL 생성
-                String accessUrl = generateAccessUrl(finalObjectName);
+            // 모든 청크 수신 완료 확인 (병합 권한은 한 인스턴스만 획득)
+            if (progress.isComplete()) {
+                if (assemblyTracker.claimMerge(message.getId(), message)) {
+                    log.info("All chunks received for content: {}, scheduling merge...", message.getId());
+
+                    // 병합은 전용 실행기에서 수행 (리스너 스레드는 다른 업로드의 청크 수신을 계속 처리)
+                    chunkMergeExecutor.execute(() -> completeContent(message, contentDigest, source));
+                }
+            } else {
+                // 병합을 시작하지 않는 청크의 클레임 체크 페이로드는 더 이상 참조되지 않으므로 즉시 삭제
+                payloadTransport.release(message);
+            }
 
-                // 메시지 업데이트
-                ContentMessage validationMessage = message.createLightCopy();
-                validationMessage.setAccessUrl(accessUrl);
-                validationMessage.setStatus(ContentStatus.UPLOADED);
+        } catch (Exception e) {
+            // 일시적 오류 (임시 버킷 업로드 실패 등)는 지연 큐로 재시도, 한도 초과 시 실패 상태와 알림 발행
+            log.error("Error handling chunk upload for content: {}", message.getId(), e);
+            throw StageFailureException.of(message, "Chunk storage error: " + e.getMessage(), e);
+        }
+    }
 
-                // 상태 업데이트 발행
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                        validationMessage);
+    /**
+     * 직접 업로드 완료 처리
+     * 클라이언트가 presigned URL로 임시 버킷에 올린 청크를 확인하고 기존 병합 경로로 넘긴다
+     */
+    @RabbitListener(queues = RabbitMQConstants.CHUNK_MERGER_QUEUE)
+    public void handleUploadComplete(ContentMessage message, Message source) {
+        boolean claimed = false;
+        try {
+            log.info("Direct upload complete for content: {}, chunks: {}", message.getId(), message.getTotalChunks());
 
-                validationMessage.setContentData(chunkData);
+            if (assemblyTracker.isCompleted(message.getId())) {
+                log.info("Direct upload already merged for content: {}, ignoring duplicate completion", message.getId());
+                return;
+            }
 
-                // 검증 요청 발행
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.VALIDATION_ROUTING_KEY,
-                        validationMessage);
+            // 임시 버킷에 실제로 올라간 청크 확인
+            BitSet stored = listStoredChunks(message.getId());
+            int missing = stored.nextClearBit(0);
+            if (missing < message.getTotalChunks()) {
+                publishFailure(message, String.format("Direct upload incomplete: chunk %d not found (%d/%d stored)",
+                        missing, stored.get(0, message.getTotalChunks()).cardinality(), message.getTotalChunks()));
+                return;
+            }
 
-                // 임시 청크 정리
-                cleanupTempChunks(message.getId(), totalChunks);
+            // presigned PUT 은 길이를 제한할 수 없으므로 올라간 청크 크기를 세션 파일 크기와 대조
+            String sizeError = verifyStoredChunkSizes(message);
+            if (sizeError != null) {
+                publishFailure(message, "Direct upload rejected: " + sizeError);
+                return;
+            }
 
-                // 청크 트래커에서 제거
-                chunkTracker.remove(message.getId());
+            assemblyTracker.markChunks(message.getId(), stored.get(0, message.getTotalChunks()),
+                    message.getTotalChunks());
 
-                log.info("Content ready for validation: {}, url: {}", message.getId(), accessUrl);
+            claimed = assemblyTracker.claimMerge(message.getId(), message);
+            if (!claimed) {
+                log.info("Merge already in progress for content: {}, ignoring duplicate completion", message.getId());
+                return;
             }
 
+            chunkMergeExecutor.execute(() -> completeContent(message, null, source));
+
         } catch (Exception e) {
-            log.error("Error handling chunk upload for content: {}", message.getId(), e);
+            log.error("Error completing direct upload for content: {}", message.getId(), e);
+            if (claimed) {
+                assemblyTracker.releaseMerge(message.getId());
+            }
+            throw StageFailureException.of(message, "Direct upload completion error: " + e.getMessage(), e);
+        }
+    }
 
-            // 오류 상태 업데이트
-            ContentMessage errorMessage = message.createLightCopy();
-            errorMessage.withError("Chunk storage error: " + e.getMessage());
-            errorMessage.setStatus(ContentStatus.FAILED);
+    /**
+     * 청크 해시 협상 (업로드 서비스의 RPC 요청 처리)
+     * 청크 저장소에 이미 있는 청크는 수신한 것으로 기록하고, 그것으로 모든 청크가 채워지면 바로 병합한다
+     */
+    @RabbitListener(queues = RabbitMQConstants.CHUNK_HASH_QUEUE)
+    public ChunkHashMatch matchChunkHashes(ChunkHashManifest request) {
+        String contentId = request.getContentId();
+        boolean claimed = false;
+        try {
+            List<String> chunkHashes = request.getChunkHashes();
+            if (chunkHashes == null || chunkHashes.size() != request.getTotalChunks()) {
+                return ChunkHashMatch.failure(contentId, String.format("Expected %d chunk hashes, got %d",
+                        request.getTotalChunks(), chunkHashes == null ? 0 : chunkHashes.size()));
+            }
 
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                    errorMessage);
+            BitSet existing = chunkDedupService.matchChunks(request);
+            if (!existing.isEmpty()) {
+                ChunkAssemblyTracker.AssemblyProgress progress =
+                        assemblyTracker.markChunks(contentId, existing, request.getTotalChunks());
+
+                // 모든 청크가 이미 있으면 전송 없이 병합 (검증 샘플은 병합 후 객체 참조로 전달)
+                ContentMessage message = request.toContentMessage();
+                claimed = progress.isComplete() && assemblyTracker.claimMerge(contentId, message);
+                if (claimed) {
+                    log.info("All chunks already stored for content: {}, scheduling merge...", contentId);
+                    chunkMergeExecutor.execute(() -> completeContent(message, null, null));
+                }
+            }
 
-            // 알림 서비스로 전송
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.NOTIFICATION_ROUTING_KEY,
-                    errorMessage);
+            return new ChunkHashMatch(contentId, existing.stream().boxed().toList(), null);
+        } catch (Exception e) {
+            log.error("Error matching chunk hashes for content: {}", contentId, e);
+            if (claimed) {
+                assemblyTracker.releaseMerge(contentId);
+            }
+            return ChunkHashMatch.failure(contentId, e.getMessage());
+        }
+    }
+
+    /**
+     * 임시 버킷에 저장된 청크 인덱스 조회
+     */
+    private BitSet listStoredChunks(String contentId) throws Exception {
+        String prefix = contentId + "/chunk_";
+        BitSet stored = new BitSet();
+
+        for (String name : objectStorageBackend.list(tempBucketName, prefix)) {
+            try {
+                stored.set(Integer.parseInt(name.substring(prefix.length())));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring unexpected object under chunk prefix: {}", name);
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * 직접 업로드된 청크 크기 확인
+     * 마지막 청크를 제외한 청크는 모두 같은 크기, 마지막 청크는 그 이하이고 합계가 세션 파일 크기와 같아야 한다
+     *
+     * @return 불일치 설명 (정상이면 null)
+     */
+    private String verifyStoredChunkSizes(ContentMessage message) throws Exception {
+        int totalChunks = message.getTotalChunks();
+        long chunkSize = -1;
+        long total = 0;
+
+        for (int i = 0; i < totalChunks; i++) {
+            long size = storedChunkSize(ChunkDedupService.uploadedChunkName(message.getId(), i));
+            if (chunkSize < 0) {
+                chunkSize = size;
+            }
+            if (i < totalChunks - 1 ? size != chunkSize : size > chunkSize) {
+                return String.format("chunk %d has %d bytes, expected %s%d", i, size,
+                        i < totalChunks - 1 ? "" : "at most ", chunkSize);
+            }
+            total += size;
+        }
+
+        if (total != message.getFileSize()) {
+            return String.format("uploaded %d bytes, expected %d", total, message.getFileSize());
+        }
+        return null;
+    }
+
+    /**
+     * 임시 버킷 청크 객체 크기
+     */
+    private long storedChunkSize(String objectName) throws Exception {
+        ObjectInfo info = objectStorageBackend.head(tempBucketName, objectName);
+        if (info == null) {
+            throw new FileNotFoundException("Stored chunk not found: " + objectName);
+        }
+        return info.size();
+    }
+
+    /**
+     * 모든 청크 수신 후 병합 및 검증 요청 발행
+     * 같은 내용의 처리 결과가 이미 있으면 병합/검증/처리/저장을 건너뛰고 바로 완료한다
+     *
+     * @param knownDigest 청크 저장 중 계산된 내용 해시 (없으면 수신 시 기록된 청크 해시로 계산)
+     * @param source 병합을 시작한 수신 메시지 (실패 시 지연 큐로 다시 보냄, RPC 경로는 null)
+     */
+    private void completeContent(ContentMessage message, ContentDigest knownDigest, Message source) {
+        // 병합하는 동안 주기적으로 활동 시각을 갱신하여 오래 걸리는 병합이 중단된 병합으로 회수되지 않게 함
+        activeMerges.add(message.getId());
+        try {
+            mergeContent(message, knownDigest, source);
+        } finally {
+            activeMerges.remove(message.getId());
+        }
+    }
+
+    private void mergeContent(ContentMessage message, ContentDigest knownDigest, Message source) {
+        try {
+            // 인덱스 순서의 청크 객체 (청크 저장소에서 재사용한 청크 포함)
+            List<String> chunkObjects = chunkDedupService.sourceObjects(message.getId(), message.getTotalChunks());
+
+            ContentDigest digest = resolveDigest(message, knownDigest, chunkObjects);
+            String existingObject = findExistingObject(message, digest);
+            if (existingObject != null) {
+                completeDuplicate(message, existingObject, digest);
+                return;
+            }
+
+            // 청크 병합 (단일 청크인 경우 서버 측 복사)
+            String finalObjectName = generateFinalObjectName(message);
+            chunkMergeService.mergeChunks(message.getId(), chunkObjects,
+                    finalObjectName, message.getContentType());
+
+            // 처음 보는 내용은 색인에 등록 (저장 단계 완료 시 결과 객체 기록)
+            registerContent(message, digest, finalObjectName);
+
+            // 액세스 URL 생성
+            String accessUrl = generateAccessUrl(finalObjectName);
+
+            // 메시지 업데이트
+            ContentMessage validationMessage = message.createLightCopy();
+            validationMessage.setAccessUrl(accessUrl);
+            validationMessage.setStatus(ContentStatus.UPLOADED);
+
+            // 병합된 원본 객체 기록 (저장 단계 완료 시 STORED 로 갱신)
+            storageRecordService.recordOriginal(validationMessage, finalObjectName,
+                    digest != null ? digest.size() : message.getFileSize(),
+                    digest != null ? digest.sha256() : null, ContentStatus.UPLOADED);
+
+            // 검증 샘플은 항상 마지막 청크: 병합된 객체의 마지막 청크 구간을 URL 참조로 전달
+            // (병합을 시작한 청크는 도착 순서에 따라 임의의 청크이므로 그 페이로드를 쓰지 않음)
+            validationMessage.setChunkIndex(message.getTotalChunks() - 1);
+            payloadTransport.reference(validationMessage, accessUrl,
+                    storedChunkSize(chunkObjects.get(chunkObjects.size() - 1)));
+
+            // 상태 업데이트와 검증 요청을 함께 발행
+            pipelinePublisher.transition(StatusEvent.from(validationMessage),
+                    RabbitMQConstants.VALIDATION_ROUTING_KEY, validationMessage);
+
+            // 병합을 시작한 청크의 페이로드 삭제, 전송받은 청크를 청크 저장소로 옮긴 뒤 임시 청크 및 조립 상태 정리
+            payloadTransport.release(message);
+            chunkDedupService.promoteChunks(message.getId());
+            cleanupTempChunks(message.getId(), message.getTotalChunks());
+            assemblyTracker.complete(message.getId());
+
+            log.info("Content ready for validation: {}, url: {}", message.getId(), accessUrl);
+        } catch (Exception e) {
+            log.error("Error merging chunks for content: {}", message.getId(), e);
+
+            // 청크가 다시 전달되면 병합을 재시도할 수 있도록 수신 상태로 복귀
+            assemblyTracker.releaseMerge(message.getId());
+            retryMerge(message, source, StageFailureException.of(message, "Chunk merge error: " + e.getMessage(), e));
+        }
+    }
+
+    /**
+     * 병합 실패 재시도
+     * 병합은 리스너 스레드 밖에서 수행되므로 병합을 시작한 수신 메시지를 직접 지연 큐로 다시 보낸다
+     * (재전달된 청크는 같은 객체로 다시 저장되고 병합 권한을 다시 획득). 보낼 수 없으면 바로 실패 처리
+     */
+    private void retryMerge(ContentMessage message, Message source, StageFailureException failure) {
+        if (source != null) {
+            try {
+                delayedRetryRecoverer.recover(source, failure);
+                return;
+            } catch (Exception e) {
+                log.error("Failed to schedule merge retry for content: {}", message.getId(), e);
+            }
+        }
+        pipelinePublisher.publish(failure.getFailureMessages().toArray(Outbound[]::new));
+    }
+
+    /**
+     * 중복 내용 업로드 완료 처리
+     * 기존 결과 객체의 URL로 저장 완료/최종 완료 상태와 알림을 발행하고 임시 청크를 정리한다
+     */
+    private void completeDuplicate(ContentMessage message, String existingObject, ContentDigest digest)
+            throws Exception {
+        ContentMessage completed = message.createLightCopy();
+        completed.setAccessUrl(generateAccessUrl(existingObject));
+
+        completed.nextStage(ContentStatus.STORED);
+        StatusEvent stored = StatusEvent.from(completed);
+        completed.nextStage(ContentStatus.COMPLETED);
+        pipelinePublisher.publishAndWait(
+                Outbound.status(stored),
+                Outbound.status(StatusEvent.from(completed)),
+                Outbound.of(RabbitMQConstants.NOTIFICATION_ROUTING_KEY, completed));
+        storageRecordService.recordOriginal(completed, existingObject, digest.size(), digest.sha256(),
+                ContentStatus.STORED);
+
+        // 검증 단계로 넘기지 않으므로 병합을 시작한 청크 페이로드도 바로 삭제
+        payloadTransport.release(message);
+        chunkDedupService.promoteChunks(message.getId());
+        cleanupTempChunks(message.getId(), message.getTotalChunks());
+        assemblyTracker.complete(message.getId());
+
+        log.info("Duplicate content: {}, reusing stored object: {}", message.getId(), existingObject);
+    }
+
+    /**
+     * 업로드 내용 해시 결정 (중복 제거 비활성 또는 계산 실패 시 null)
+     */
+    private ContentDigest resolveDigest(ContentMessage message, ContentDigest knownDigest,
+                                        List<String> chunkObjects) {
+        if (!contentDedupService.isEnabled()) {
+            return null;
+        }
+        if (knownDigest != null) {
+            return knownDigest;
+        }
+        try {
+            return contentDedupService.digestChunks(message.getId(), chunkObjects,
+                    chunkDedupService.chunkDigests(message.getId(), message.getTotalChunks()));
+        } catch (Exception e) {
+            log.warn("Failed to hash content: {}, skipping deduplication", message.getId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 같은 내용의 기존 결과 객체 조회 (색인 오류 시 일반 경로로 처리)
+     */
+    private String findExistingObject(ContentMessage message, ContentDigest digest) {
+        if (digest == null) {
+            return null;
+        }
+        try {
+            return contentDedupService.acquireExisting(message.getId(), digest, message.getContentType());
+        } catch (Exception e) {
+            log.warn("Content object lookup failed for content: {}, skipping deduplication", message.getId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 병합된 원본을 내용 색인에 등록 (색인 오류는 업로드 결과에 영향 없음)
+     */
+    private void registerContent(ContentMessage message, ContentDigest digest, String finalObjectName) {
+        if (digest == null) {
+            return;
+        }
+        try {
+            contentDedupService.registerPending(message.getId(), digest, message.getContentType(), finalObjectName);
+        } catch (Exception e) {
+            log.warn("Failed to register content object for content: {}", message.getId(), e);
+        }
+    }
+
+    /**
+     * 장시간 활동이 없는 조립 상태 만료 처리
+     * 임시 청크를 정리하고 EXPIRED 상태를 발행한다
+     */
+    @Scheduled(fixedDelayString = "${storage.assembly.expiry-check-interval-ms:600000}")
+    public void expireIdleAssemblies() {
+        // 이 인스턴스의 병합은 회수 대상이 되지 않도록 먼저 활동 시각 갱신
+        touchActiveMerges();
+
+        // 병합 도중 종료된 인스턴스의 병합 권한 회수 후 기록된 병합 요청으로 다시 병합
+        List<String> released = assemblyTracker.releaseStaleMerges(
+                System.currentTimeMillis() - RabbitMQConstants.CHUNK_MERGE_TIMEOUT);
+        if (!released.isEmpty()) {
+            log.warn("Released {} stale chunk merges", released.size());
+            released.forEach(this::resumeMerge);
+        }
+
+        long threshold = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(idleExpiryMinutes);
+
+        for (ChunkAssemblyTracker.IdleAssembly idle : assemblyTracker.findIdleSince(threshold)) {
+            try {
+                cleanupTempChunks(idle.contentId(), idle.totalChunks());
+                chunkDedupService.discard(idle.contentId());
+                assemblyTracker.complete(idle.contentId());
+
+                pipelinePublisher.publish(Outbound.status(StatusEvent.of(idle.contentId(), ContentStatus.EXPIRED)));
+
+                log.info("Expired idle chunk assembly: {}", idle.contentId());
+            } catch (Exception e) {
+                log.warn("Error expiring chunk assembly: {}", idle.contentId(), e);
+            }
+        }
+
+        // 보존 기간이 지난 완료 표시 정리
+        int purged = assemblyTracker.purgeCompleted(threshold);
+        if (purged > 0) {
+            log.debug("Purged {} completed chunk assemblies", purged);
+        }
+    }
+
+    /**
+     * 진행 중인 병합의 활동 시각 갱신 (CHUNK_MERGE_TIMEOUT 보다 짧은 주기)
+     */
+    @Scheduled(fixedDelayString = "${storage.assembly.merge-heartbeat-interval-ms:60000}")
+    public void touchActiveMerges() {
+        for (String contentId : activeMerges) {
+            try {
+                assemblyTracker.touchMerge(contentId);
+            } catch (Exception e) {
+                log.warn("Failed to refresh merge activity for content: {}", contentId, e);
+            }
+        }
+    }
+
+    /**
+     * 회수한 병합 재개
+     * 모든 청크가 수신된 조립만 병합 권한을 다시 얻을 수 있고, 여러 인스턴스가 동시에 회수해도 한 곳만 병합한다
+     */
+    private void resumeMerge(String contentId) {
+        ContentMessage request = assemblyTracker.mergeRequest(contentId);
+        if (request == null) {
+            // 요청이 기록되지 않은 조립은 청크가 다시 전달되거나 유휴 만료될 때 처리
+            log.warn("No merge request recorded for content: {}, waiting for chunk redelivery", contentId);
+            return;
+        }
+        if (!assemblyTracker.claimMerge(contentId)) {
+            return;
+        }
+
+        try {
+            log.info("Resuming stale chunk merge for content: {}", contentId);
+            chunkMergeExecutor.execute(() -> completeContent(request, null, null));
+        } catch (Exception e) {
+            log.error("Failed to resume chunk merge for content: {}", contentId, e);
+            assemblyTracker.releaseMerge(contentId);
+        }
+    }
+
+    /**
+     * 오류 상태 업데이트 및 알림 발행
+     */
+    private void publishFailure(ContentMessage message, String error) {
+        // 상태 업데이트 및 알림 서비스로 전송
+        pipelinePublisher.publish(StageFailureException.of(message, error, null)
+                .getFailureMessages().toArray(Outbound[]::new));
+    }
+
+    /**
+     * 전송받은 청크의 해시 기록 (청크 단위 중복 제거, 기록 실패 시 청크 저장소로 옮기지 않을 뿐 병합은 그대로)
+     */
+    private void recordUploadedChunk(ContentMessage message, ContentDigest chunkDigest) {
+        if (chunkDigest == null || message.getTotalChunks() == 1 || message.getUserId() == null) {
+            return;
+        }
+        try {
+            chunkDedupService.recordUploadedChunk(message.getId(), message.getUserId(), message.getChunkIndex(),
+                    chunkDigest.sha256(), chunkDigest.size());
+        } catch (Exception e) {
+            log.warn("Failed to record chunk hash [{}] for content: {}", message.getChunkIndex(), message.getId(), e);
         }
     }
 
     /**
      * 단일 청크 업로드
+     *
+     * @return 청크 내용 요약 (해시가 필요 없으면 null)
      */
-    private void uploadChunk(String objectName, byte[] data, ContentMessage message) throws Exception {
+    private ContentDigest uploadChunk(String objectName, ContentMessage message) throws Exception {
         // 객체 메타데이터 설정
         Map<String, String> userMetadata = new HashMap<>();
         userMetadata.put("Content-Type", message.getContentType());
@@ -128,56 +563,21 @@ public class ChunkStorageService {
         userMetadata.put("X-User-Id", message.getUserId());
         userMetadata.put("X-File-Name", message.getFileName());
 
-        // MinIO에 업로드
-        minioClient.putObject(
-                PutObjectArgs.builder()
-                        .bucket(tempBucketName)
-                        .object(objectName)
-                        .stream(new ByteArrayInputStream(data), data.length, -1)
-                        .contentType(message.getContentType())
-                        .userMetadata(userMetadata)
-                        .build()
-        );
+        // 저장하면서 해시 계산 (청크 하나가 전체 내용이면 내용 해시, 아니면 청크 단위 중복 제거와 내용 키용)
+        boolean hashNeeded = contentDedupService.isEnabled()
+                || (message.getTotalChunks() > 1 && chunkDedupService.isEnabled());
+        MessageDigest digest = hashNeeded ? ContentDedupService.newDigest() : null;
+        long length = payloadTransport.payloadLength(message);
+
+        // 임시 버킷에 업로드 (인라인 데이터 또는 클레임 체크 저장소에서 스트리밍)
+        try (InputStream payload = payloadTransport.openPayload(message);
+             InputStream data = digest != null ? new DigestInputStream(payload, digest) : payload) {
+            objectStorageBackend.put(tempBucketName, objectName, data, length,
+                    message.getContentType(), userMetadata);
+        }
 
         log.debug("Chunk uploaded: bucket={}, object={}", tempBucketName, objectName);
-    }
-
-    /**
-     * 모든 청크가 수신된 후 처리
-     */
-    private String processCompleteContent(ContentMessage message) throws Exception {
-        int totalChunks = message.getTotalChunks();
-
-        // 단일 청크인 경우 바로 최종 버킷으로 복사
-        if (totalChunks == 1) {
-            String sourceObjectName = String.format("%s/chunk_0", message.getId());
-            String targetObjectName = generateFinalObjectName(message);
-
-            // 소스 객체 복사
-            minioClient.copyObject(
-                    CopyObjectArgs.builder()
-                            .source(CopySource.builder()
-                                    .bucket(tempBucketName)
-                                    .object(sourceObjectName)
-                                    .build())
-                            .bucket(bucketName)
-                            .object(targetObjectName)
-                            .build()
-            );
-
-            return targetObjectName;
-        } else {
-            // 여러 청크의 경우 병합 작업 필요
-            // 실제 구현에서는 MinIO의 Compose Object 또는 서버 측 병합 사용
-            // 여기서는 단순화하고 임시로 단일 객체로 처리
-
-            // 이 코드는 실제로 청크 병합을 구현해야 함
-            String finalObjectName = generateFinalObjectName(message);
-
-            // 구현해야 할 병합 로직...
-
-            return finalObjectName;
-        }
+        return digest != null ? new ContentDigest(HexFormat.of().formatHex(digest.digest()), length) : null;
     }
 
     /**
@@ -188,12 +588,7 @@ public class ChunkStorageService {
             for (int i = 0; i < totalChunks; i++) {
                 String chunkObjectName = String.format("%s/chunk_%d", contentId, i);
 
-                minioClient.removeObject(
-                        RemoveObjectArgs.builder()
-                                .bucket(tempBucketName)
-                                .object(chunkObjectName)
-                                .build()
-                );
+                objectStorageBackend.delete(tempBucketName, chunkObjectName);
             }
             log.debug("Temporary chunks cleaned up for content: {}", contentId);
         } catch (Exception e) {
@@ -205,14 +600,7 @@ public class ChunkStorageService {
      * 파일 접근 URL 생성
      */
     private String generateAccessUrl(String objectName) throws Exception {
-        return minioClient.getPresignedObjectUrl(
-                GetPresignedObjectUrlArgs.builder()
-                        .bucket(bucketName)
-                        .object(objectName)
-                        .method(Method.GET)
-                        .expiry(7, TimeUnit.DAYS)
-                        .build()
-        );
+        return objectStorageBackend.presignGet(bucketName, objectName, Duration.ofDays(7));
     }
 
     /**
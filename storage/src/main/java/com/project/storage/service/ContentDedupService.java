@@ -0,0 +1,304 @@
+package com.project.storage.service;
+
+import com.project.storage.backend.ObjectInfo;
+import com.project.storage.backend.ObjectStorageBackend;
+import com.project.storage.entity.ContentObjectEntity;
+import com.project.storage.entity.ContentObjectRepository;
+import com.project.storage.entity.ContentReferenceEntity;
+import com.project.storage.entity.ContentReferenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 내용 주소(SHA-256) 기반 중복 업로드 제거
+ *
+ * 병합 전에 업로드 내용 키를 계산하여 색인을 조회하고, 같은 내용(같은 콘텐츠 타입)의
+ * 처리 결과가 이미 있으면 병합/검증/처리/저장을 건너뛰고 기존 결과 객체를 공유한다.
+ * 처음 보는 내용은 병합 후 대기 상태로 등록되고, 저장 단계가 끝나면 결과 객체가 기록되어 이후 업로드부터 재사용된다.
+ * 처리 옵션은 업로드 요청에서 지정되지 않으므로 처리 결과는 내용과 콘텐츠 타입으로 결정된다.
+ *
+ * 내용 키는 청크를 수신하면서 계산한 청크별 SHA-256 으로 만든다 (병합 전에 청크를 다시 읽지 않음).
+ * 단일 청크는 청크 해시가 곧 파일 SHA-256 이고, 여러 청크는 인덱스 순서의 청크 해시를 이어 붙인 값의 SHA-256 이다.
+ * 따라서 같은 파일이라도 청크 크기가 다르면 다른 키가 되어 중복 제거되지 않는다 (결과는 같음).
+ *
+ * 콘텐츠 삭제 경로가 없으므로 공유 객체는 참조 수를 세어 지우지 않고 다른 저장 객체처럼 유지한다.
+ */
+@Slf4j
+@Service
+public class ContentDedupService {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    // 동시 최초 삽입 충돌 시 재시도 횟수
+    private static final int MAX_INSERT_ATTEMPTS = 3;
+
+    private final ContentObjectRepository objectRepository;
+    private final ContentReferenceRepository referenceRepository;
+    private final ObjectStorageBackend objectStorageBackend;
+    private final TransactionTemplate transactionTemplate;
+    private final String tempBucketName;
+
+    @Value("${storage.dedup.enabled:true}")
+    private boolean enabled;
+
+    // 수신 시 해시가 없는 청크(직접 업로드)를 다시 읽어 계산하는 최대 크기 (초과 시 중복 제거 생략)
+    @Value("${storage.dedup.max-content-size:1073741824}")
+    private long maxContentSize;
+
+    @Value("${storage.dedup.pending-expiry-hours:48}")
+    private long pendingExpiryHours;
+
+    public ContentDedupService(ContentObjectRepository objectRepository,
+                               ContentReferenceRepository referenceRepository,
+                               ObjectStorageBackend objectStorageBackend,
+                               PlatformTransactionManager transactionManager,
+                               String tempBucketName) {
+        this.objectRepository = objectRepository;
+        this.referenceRepository = referenceRepository;
+        this.objectStorageBackend = objectStorageBackend;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tempBucketName = tempBucketName;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 내용 해시 계산용 MessageDigest 생성
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " not available", e);
+        }
+    }
+
+    /**
+     * 청크별 요약으로 내용 키 계산
+     * 수신 시 해시가 기록되지 않은 청크만 임시 버킷에서 읽어 계산한다
+     *
+     * @param chunkObjects 인덱스 순서의 청크 객체 이름
+     * @param chunkDigests 인덱스 순서의 수신 시 계산된 청크 요약 (기록되지 않은 청크는 null)
+     * @return 내용 요약, 다시 읽어야 하는 청크의 합계 크기가 max-content-size 를 넘으면 null
+     */
+    public ContentDigest digestChunks(String contentId, List<String> chunkObjects, List<ContentDigest> chunkDigests)
+            throws IOException {
+        List<ContentDigest> digests = new ArrayList<>(chunkDigests);
+        long rereadSize = 0;
+        for (int i = 0; i < chunkObjects.size(); i++) {
+            if (digests.get(i) == null) {
+                ObjectInfo info = objectStorageBackend.head(tempBucketName, chunkObjects.get(i));
+                if (info == null) {
+                    throw new FileNotFoundException("Chunk not found: " + chunkObjects.get(i));
+                }
+                rereadSize += info.size();
+            }
+        }
+
+        if (rereadSize > maxContentSize) {
+            log.debug("Skipping content hash for {}: {} unhashed bytes exceeds {}", contentId, rereadSize, maxContentSize);
+            return null;
+        }
+
+        for (int i = 0; i < chunkObjects.size(); i++) {
+            if (digests.get(i) == null) {
+                digests.set(i, digestObject(chunkObjects.get(i)));
+            }
+        }
+        return combine(digests);
+    }
+
+    /**
+     * 인덱스 순서의 청크 요약을 내용 키로 결합 (단일 청크는 그대로)
+     */
+    public static ContentDigest combine(List<ContentDigest> chunkDigests) {
+        if (chunkDigests.size() == 1) {
+            return chunkDigests.get(0);
+        }
+
+        MessageDigest digest = newDigest();
+        long totalSize = 0;
+        for (ContentDigest chunk : chunkDigests) {
+            digest.update(HexFormat.of().parseHex(chunk.sha256()));
+            totalSize += chunk.size();
+        }
+        return new ContentDigest(HexFormat.of().formatHex(digest.digest()), totalSize);
+    }
+
+    private ContentDigest digestObject(String objectName) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[64 * 1024];
+        long size = 0;
+        try (InputStream data = objectStorageBackend.get(tempBucketName, objectName)) {
+            int read;
+            while ((read = data.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                size += read;
+            }
+        }
+        return new ContentDigest(HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    /**
+     * 같은 내용의 처리 결과가 있으면 이 콘텐츠의 참조를 확정하고 결과 객체 이름 반환
+     *
+     * @return 재사용할 결과 객체 이름, 없으면 null
+     */
+    public String acquireExisting(String contentId, ContentDigest digest, String contentType) {
+        return withInsertRetry(contentId, () -> transactionTemplate.execute(status -> {
+            ContentObjectEntity object = objectRepository.findForUpdate(digest.sha256()).orElse(null);
+            if (object == null || object.getResultObject() == null
+                    || !Objects.equals(object.getContentType(), contentType)) {
+                return null;
+            }
+
+            // 재전달로 다시 호출되어도 참조는 한 번만 기록
+            ContentReferenceEntity reference = referenceRepository.findById(contentId).orElse(null);
+            if (reference == null || !reference.isCounted()) {
+                if (reference == null) {
+                    reference = newReference(contentId, digest.sha256(), null);
+                }
+                reference.setCounted(true);
+                referenceRepository.saveAndFlush(reference);
+
+                object.setLastReferencedAt(System.currentTimeMillis());
+                objectRepository.save(object);
+            }
+            return object.getResultObject();
+        }));
+    }
+
+    /**
+     * 병합된 원본을 색인에 등록 (결과 객체는 저장 완료 시 recordResult 로 기록)
+     */
+    public void registerPending(String contentId, ContentDigest digest, String contentType, String originalObject) {
+        withInsertRetry(contentId, () -> transactionTemplate.execute(status -> {
+            long now = System.currentTimeMillis();
+            if (objectRepository.findForUpdate(digest.sha256()).isEmpty()) {
+                ContentObjectEntity object = new ContentObjectEntity();
+                object.setContentHash(digest.sha256());
+                object.setContentType(contentType);
+                object.setFileSize(digest.size());
+                object.setOriginalObject(originalObject);
+                object.setCreatedAt(now);
+                object.setLastReferencedAt(now);
+                objectRepository.saveAndFlush(object);
+            }
+
+            if (!referenceRepository.existsById(contentId)) {
+                referenceRepository.saveAndFlush(newReference(contentId, digest.sha256(), originalObject));
+            }
+            return null;
+        }));
+    }
+
+    /**
+     * 저장 단계 결과 기록
+     * 색인 객체에 아직 결과가 없으면 이 콘텐츠의 결과를 공유 결과로 등록하고 참조를 확정한다
+     *
+     * @param resultObject 저장된 결과 객체 이름, null 이면 이 콘텐츠가 병합한 원본
+     */
+    public void recordResult(String contentId, String resultObject) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                ContentReferenceEntity reference = referenceRepository.findById(contentId).orElse(null);
+                if (reference == null || reference.isCounted()) {
+                    return;
+                }
+
+                String result = resultObject != null ? resultObject : reference.getObjectName();
+                ContentObjectEntity object = objectRepository.findForUpdate(reference.getContentHash()).orElse(null);
+                if (object == null || result == null) {
+                    return;
+                }
+
+                if (object.getResultObject() == null) {
+                    object.setResultObject(result);
+                } else if (!object.getResultObject().equals(result)) {
+                    // 같은 내용이 동시에 처리되어 다른 업로드의 결과가 먼저 등록된 경우 (이 콘텐츠는 자기 결과를 사용)
+                    referenceRepository.delete(reference);
+                    return;
+                }
+
+                reference.setCounted(true);
+                referenceRepository.save(reference);
+
+                object.setLastReferencedAt(System.currentTimeMillis());
+                objectRepository.save(object);
+
+                log.info("Content object result recorded: hash={}, result={}", object.getContentHash(), result);
+            });
+        } catch (Exception e) {
+            // 색인 기록 실패는 저장 결과에 영향을 주지 않음 (이후 같은 내용은 일반 경로로 처리)
+            log.warn("Failed to record content object result for content: {}", contentId, e);
+        }
+    }
+
+    /**
+     * 저장 단계까지 가지 못한 업로드(검증 실패 등)의 미확정 참조 정리
+     */
+    @Scheduled(fixedDelayString = "${storage.dedup.cleanup-interval-ms:3600000}")
+    public void purgePendingReferences() {
+        if (!enabled) {
+            return;
+        }
+
+        long threshold = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(pendingExpiryHours);
+        Integer purged = transactionTemplate.execute(status -> referenceRepository.deleteUncountedBefore(threshold));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} pending content object references", purged);
+        }
+    }
+
+    private ContentReferenceEntity newReference(String contentId, String contentHash, String objectName) {
+        ContentReferenceEntity reference = new ContentReferenceEntity();
+        reference.setContentId(contentId);
+        reference.setContentHash(contentHash);
+        reference.setObjectName(objectName);
+        reference.setCreatedAt(System.currentTimeMillis());
+        return reference;
+    }
+
+    private <T> T withInsertRetry(String contentId, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (DataIntegrityViolationException e) {
+                // 같은 내용이 다른 인스턴스에서 동시에 등록된 경우 재시도 (다음에는 행 잠금 경로)
+                if (attempt >= MAX_INSERT_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Concurrent content object insert for content: {}, retrying", contentId);
+            }
+        }
+    }
+
+    /**
+     * 업로드 내용 요약 (SHA-256 hex, 전체 크기)
+     */
+    public record ContentDigest(String sha256, long size) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.storage.service;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.model.ContentMessage;
+import com.project.common.model.DirectUploadTicket;
+import com.project.storage.backend.ObjectStorageBackend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 객체 저장소 직접 업로드 URL 발급
+ *
+ * 클라이언트가 청크를 MinIO 임시 버킷에 바로 PUT 하도록 청크별 presigned URL을 만든다.
+ * 청크 객체 이름은 브로커 경유 업로드와 같아서 완료 후 병합은 기존 경로를 그대로 사용한다.
+ * 직접 업로드를 지원하지 않는 백엔드(로컬 파일 시스템)에서는 실패 티켓을 돌려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DirectUploadService {
+
+    private final ObjectStorageBackend objectStorageBackend;
+    private final String tempBucketName;
+
+    @Value("${storage.direct-upload.url-expiry-minutes:60}")
+    private int urlExpiryMinutes;
+
+    /**
+     * 청크별 presigned PUT URL 발급 (업로드 서비스의 RPC 요청 처리)
+     */
+    @RabbitListener(queues = RabbitMQConstants.DIRECT_UPLOAD_PRESIGN_QUEUE)
+    public DirectUploadTicket issueTicket(ContentMessage request) {
+        try {
+            List<String> urls = new ArrayList<>(request.getTotalChunks());
+            for (int i = 0; i < request.getTotalChunks(); i++) {
+                urls.add(objectStorageBackend.presignPut(tempBucketName,
+                        String.format("%s/chunk_%d", request.getId(), i), Duration.ofMinutes(urlExpiryMinutes)));
+            }
+
+            long expiresAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(urlExpiryMinutes);
+            log.info("Issued direct upload ticket: contentId={}, chunks={}", request.getId(), urls.size());
+
+            return new DirectUploadTicket(request.getId(), request.getTotalChunks(), urls, expiresAt, null);
+        } catch (Exception e) {
+            log.error("Error issuing direct upload ticket for content: {}", request.getId(), e);
+            return DirectUploadTicket.failure(request.getId(), e.getMessage());
+        }
+    }
+}
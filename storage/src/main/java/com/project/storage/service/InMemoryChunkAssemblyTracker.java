@@ -0,0 +1,203 @@
+package com.project.storage.service;
+
+import com.project.common.model.ContentMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 청크 조립 상태 저장소 (단일 인스턴스, 개발/테스트용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.assembly.store", havingValue = "memory")
+public class InMemoryChunkAssemblyTracker implements ChunkAssemblyTracker {
+
+    private final Map<String, Assembly> assemblies = new ConcurrentHashMap<>();
+
+    @Override
+    public AssemblyProgress markChunk(String contentId, int chunkIndex, int totalChunks) {
+        if (chunkIndex < 0 || chunkIndex >= totalChunks) {
+            throw new IllegalArgumentException(String.format("Chunk index %d out of range (total %d)",
+                    chunkIndex, totalChunks));
+        }
+        BitSet chunks = new BitSet();
+        chunks.set(chunkIndex);
+        return markChunks(contentId, chunks, totalChunks);
+    }
+
+    @Override
+    public AssemblyProgress markChunks(String contentId, BitSet chunks, int totalChunks) {
+        ChunkAssemblyTracker.checkRange(chunks, totalChunks);
+        Assembly assembly = assemblies.computeIfAbsent(contentId, id -> new Assembly(totalChunks));
+        synchronized (assembly) {
+            if (assembly.completed) {
+                // 완료 후 재전달된 청크는 기록하지 않음
+                return new AssemblyProgress(false, assembly.totalChunks, assembly.totalChunks);
+            }
+            if (assembly.totalChunks != totalChunks) {
+                throw new IllegalArgumentException(String.format("Total chunks mismatch for %s: %d != %d",
+                        contentId, totalChunks, assembly.totalChunks));
+            }
+            int before = assembly.received.cardinality();
+            assembly.received.or(chunks);
+            assembly.lastActivityAt = System.currentTimeMillis();
+            int after = assembly.received.cardinality();
+            return new AssemblyProgress(after > before, after, assembly.totalChunks);
+        }
+    }
+
+    @Override
+    public boolean claimMerge(String contentId, ContentMessage request) {
+        Assembly assembly = assemblies.get(contentId);
+        if (assembly == null) {
+            return false;
+        }
+        synchronized (assembly) {
+            if (assembly.completed || assembly.merging || assembly.received.cardinality() < assembly.totalChunks) {
+                return false;
+            }
+            assembly.merging = true;
+            assembly.lastActivityAt = System.currentTimeMillis();
+            if (request != null) {
+                assembly.mergeRequest = request.createLightCopy();
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public ContentMessage mergeRequest(String contentId) {
+        Assembly assembly = assemblies.get(contentId);
+        if (assembly == null) {
+            return null;
+        }
+        synchronized (assembly) {
+            return assembly.mergeRequest;
+        }
+    }
+
+    @Override
+    public void touchMerge(String contentId) {
+        Assembly assembly = assemblies.get(contentId);
+        if (assembly != null) {
+            synchronized (assembly) {
+                if (assembly.merging) {
+                    assembly.lastActivityAt = System.currentTimeMillis();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void releaseMerge(String contentId) {
+        Assembly assembly = assemblies.get(contentId);
+        if (assembly != null) {
+            synchronized (assembly) {
+                if (!assembly.completed) {
+                    assembly.merging = false;
+                    assembly.lastActivityAt = System.currentTimeMillis();
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<String> releaseStaleMerges(long threshold) {
+        List<String> released = new ArrayList<>();
+        assemblies.forEach((contentId, assembly) -> {
+            synchronized (assembly) {
+                if (assembly.merging && assembly.lastActivityAt < threshold) {
+                    assembly.merging = false;
+                    assembly.lastActivityAt = System.currentTimeMillis();
+                    released.add(contentId);
+                }
+            }
+        });
+        return released;
+    }
+
+    @Override
+    public void complete(String contentId) {
+        Assembly assembly = assemblies.get(contentId);
+        if (assembly == null) {
+            return;
+        }
+        synchronized (assembly) {
+            assembly.completed = true;
+            assembly.merging = false;
+            assembly.lastActivityAt = System.currentTimeMillis();
+        }
+    }
+
+    @Override
+    public boolean isCompleted(String contentId) {
+        Assembly assembly = assemblies.get(contentId);
+        if (assembly == null) {
+            return false;
+        }
+        synchronized (assembly) {
+            return assembly.completed;
+        }
+    }
+
+    @Override
+    public int purgeCompleted(long threshold) {
+        int purged = 0;
+        for (Iterator<Assembly> iterator = assemblies.values().iterator(); iterator.hasNext(); ) {
+            Assembly assembly = iterator.next();
+            synchronized (assembly) {
+                if (assembly.completed && assembly.lastActivityAt < threshold) {
+                    iterator.remove();
+                    purged++;
+                }
+            }
+        }
+        return purged;
+    }
+
+    @Override
+    public BitSet receivedChunks(String contentId) {
+        Assembly assembly = assemblies.get(contentId);
+        if (assembly == null) {
+            return new BitSet();
+        }
+        synchronized (assembly) {
+            return (BitSet) assembly.received.clone();
+        }
+    }
+
+    @Override
+    public List<IdleAssembly> findIdleSince(long threshold) {
+        return assemblies.entrySet().stream()
+                .filter(entry -> {
+                    Assembly assembly = entry.getValue();
+                    synchronized (assembly) {
+                        return !assembly.completed && !assembly.merging && assembly.lastActivityAt < threshold;
+                    }
+                })
+                .map(entry -> new IdleAssembly(entry.getKey(), entry.getValue().totalChunks))
+                .toList();
+    }
+
+    private static class Assembly {
+        private final int totalChunks;
+        private final BitSet received;
+        private boolean merging;
+        private boolean completed;
+        private long lastActivityAt = System.currentTimeMillis();
+        private ContentMessage mergeRequest;
+
+        Assembly(int totalChunks) {
+            this.totalChunks = totalChunks;
+            this.received = new BitSet(totalChunks);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.project.storage.service;
+
+import com.project.common.messaging.BinaryMessageCodec;
+import com.project.common.model.ContentMessage;
+import com.project.storage.entity.ChunkAssemblyEntity;
+import com.project.storage.entity.ChunkAssemblyEntity.AssemblyState;
+import com.project.storage.entity.ChunkAssemblyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * DB(JPA) 기반 청크 조립 상태 저장소
+ * 재시작 후에도 진행 중인 업로드가 유지되고, 여러 storage 인스턴스가 상태를 공유한다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.assembly.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaChunkAssemblyTracker implements ChunkAssemblyTracker {
+
+    // 동시 최초 삽입 충돌 시 재시도 횟수
+    private static final int MAX_INSERT_ATTEMPTS = 3;
+
+    private final ChunkAssemblyRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaChunkAssemblyTracker(ChunkAssemblyRepository repository,
+                                   PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public AssemblyProgress markChunk(String contentId, int chunkIndex, int totalChunks) {
+        if (chunkIndex < 0 || chunkIndex >= totalChunks) {
+            throw new IllegalArgumentException(String.format("Chunk index %d out of range (total %d)",
+                    chunkIndex, totalChunks));
+        }
+        BitSet chunks = new BitSet();
+        chunks.set(chunkIndex);
+        return markChunks(contentId, chunks, totalChunks);
+    }
+
+    @Override
+    public AssemblyProgress markChunks(String contentId, BitSet chunks, int totalChunks) {
+        ChunkAssemblyTracker.checkRange(chunks, totalChunks);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> doMarkChunks(contentId, chunks, totalChunks));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 같은 contentId의 첫 청크를 동시에 기록한 경우 재시도 (다음에는 행 잠금 경로)
+                if (attempt >= MAX_INSERT_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Concurrent assembly insert for content: {}, retrying", contentId);
+            }
+        }
+    }
+
+    private AssemblyProgress doMarkChunks(String contentId, BitSet chunks, int totalChunks) {
+        long now = System.currentTimeMillis();
+        ChunkAssemblyEntity entity = repository.findForUpdate(contentId).orElse(null);
+
+        if (entity == null) {
+            entity = new ChunkAssemblyEntity();
+            entity.setContentId(contentId);
+            entity.setTotalChunks(totalChunks);
+            entity.setReceivedBitmap(new byte[0]);
+            entity.setState(AssemblyState.RECEIVING);
+            entity.setCreatedAt(now);
+        } else if (entity.getState() == AssemblyState.COMPLETED) {
+            // 완료 후 재전달된 청크는 기록하지 않음
+            return new AssemblyProgress(false, entity.getTotalChunks(), entity.getTotalChunks());
+        } else if (entity.getTotalChunks() != totalChunks) {
+            throw new IllegalArgumentException(String.format("Total chunks mismatch for %s: %d != %d",
+                    contentId, totalChunks, entity.getTotalChunks()));
+        }
+
+        BitSet received = BitSet.valueOf(entity.getReceivedBitmap());
+        int before = received.cardinality();
+        received.or(chunks);
+        boolean newlyMarked = received.cardinality() > before;
+        if (newlyMarked) {
+            entity.setReceivedBitmap(received.toByteArray());
+            entity.setReceivedCount(received.cardinality());
+        }
+        entity.setLastActivityAt(now);
+
+        repository.saveAndFlush(entity);
+        return new AssemblyProgress(newlyMarked, entity.getReceivedCount(), entity.getTotalChunks());
+    }
+
+    @Override
+    public boolean claimMerge(String contentId, ContentMessage request) {
+        Boolean claimed = transactionTemplate.execute(status -> {
+            if (repository.transitionIfComplete(contentId, AssemblyState.RECEIVING, AssemblyState.MERGING,
+                    System.currentTimeMillis()) == 0) {
+                return false;
+            }
+            if (request != null) {
+                repository.updateMergeRequest(contentId, BinaryMessageCodec.encode(request.createLightCopy()));
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(claimed);
+    }
+
+    @Override
+    public ContentMessage mergeRequest(String contentId) {
+        return repository.findById(contentId)
+                .map(ChunkAssemblyEntity::getMergeRequest)
+                .map(request -> (ContentMessage) BinaryMessageCodec.decode(request))
+                .orElse(null);
+    }
+
+    @Override
+    public void touchMerge(String contentId) {
+        transactionTemplate.executeWithoutResult(status -> repository.transition(
+                contentId, AssemblyState.MERGING, AssemblyState.MERGING, System.currentTimeMillis()));
+    }
+
+    @Override
+    public void releaseMerge(String contentId) {
+        transactionTemplate.executeWithoutResult(status -> repository.transition(
+                contentId, AssemblyState.MERGING, AssemblyState.RECEIVING, System.currentTimeMillis()));
+    }
+
+    @Override
+    public List<String> releaseStaleMerges(long threshold) {
+        List<String> released = new ArrayList<>();
+        for (ChunkAssemblyEntity entity : repository.findByStateAndLastActivityAtLessThan(AssemblyState.MERGING,
+                threshold)) {
+            // 조회 후 갱신(touchMerge)된 병합은 건너뜀
+            Integer updated = transactionTemplate.execute(status -> repository.transitionIfIdle(
+                    entity.getContentId(), AssemblyState.MERGING, AssemblyState.RECEIVING, threshold,
+                    System.currentTimeMillis()));
+            if (updated != null && updated > 0) {
+                released.add(entity.getContentId());
+            }
+        }
+        return released;
+    }
+
+    @Override
+    public void complete(String contentId) {
+        transactionTemplate.executeWithoutResult(status -> repository.transitionAny(
+                contentId, AssemblyState.COMPLETED, System.currentTimeMillis()));
+    }
+
+    @Override
+    public boolean isCompleted(String contentId) {
+        return repository.findById(contentId)
+                .map(entity -> entity.getState() == AssemblyState.COMPLETED)
+                .orElse(false);
+    }
+
+    @Override
+    public int purgeCompleted(long threshold) {
+        Integer purged = transactionTemplate.execute(status ->
+                repository.deleteByStateAndLastActivityAtLessThan(AssemblyState.COMPLETED, threshold));
+        return purged != null ? purged : 0;
+    }
+
+    @Override
+    public BitSet receivedChunks(String contentId) {
+        return repository.findById(contentId)
+                .map(entity -> BitSet.valueOf(entity.getReceivedBitmap()))
+                .orElseGet(BitSet::new);
+    }
+
+    @Override
+    public List<IdleAssembly> findIdleSince(long threshold) {
+        return repository.findByStateAndLastActivityAtLessThan(AssemblyState.RECEIVING, threshold).stream()
+                .map(entity -> new IdleAssembly(entity.getContentId(), entity.getTotalChunks()))
+                .toList();
+    }
+}
@@ -0,0 +1,400 @@
+package com.project.storage.service;
+
+import com.project.common.model.ContentMessage;
+import com.project.common.model.ContentStatus;
+import com.project.common.model.StorageLookupRequest;
+import com.project.common.model.StoredObjectInfo;
+import com.project.storage.backend.ObjectStorageBackend;
+import com.project.storage.entity.StorageEntity;
+import com.project.storage.entity.StorageRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 저장 객체 메타데이터 색인 (stored_objects)
+ *
+ * 저장 경로에서는 기록을 메모리 버퍼에 넣기만 하고, 주기적으로 batch-size 단위 배치로 DB에 반영한다.
+ * 같은 콘텐츠/구분의 기록은 버퍼에서 합쳐져 한 번만 쓰이며, 상태는 단계 순위가 높아지는 방향으로만 바뀐다.
+ * 버퍼가 가득 차면 새 기록은 버린다 (색인은 조회용이며 저장 결과에는 영향 없음).
+ * 원본 행보다 먼저 반영하게 된 상태 기록은 orphan-retention-ms 동안 버퍼에 되돌려 다음 반영 때 다시 맞춰본다.
+ */
+@Slf4j
+@Service
+public class StorageRecordService {
+
+    // 조회 결과 최대 수
+    private static final int MAX_LOOKUP_SIZE = 100;
+
+    private final StorageRepository storageRepository;
+    private final ObjectStorageBackend objectStorageBackend;
+    private final TransactionTemplate transactionTemplate;
+    private final String bucketName;
+
+    // 아직 DB에 반영되지 않은 기록 (ID별로 합쳐짐)
+    private final Map<UUID, StorageEntity> pending = new ConcurrentHashMap<>();
+
+    @Value("${storage.records.enabled:true}")
+    private boolean enabled;
+
+    @Value("${storage.records.batch-size:200}")
+    private int batchSize;
+
+    @Value("${storage.records.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    // 원본 행이 없는 상태 기록을 다시 시도하는 기간
+    @Value("${storage.records.orphan-retention-ms:60000}")
+    private long orphanRetentionMillis;
+
+    @Value("${minio.presigned-url-expiry:7}")
+    private int presignedUrlExpiryDays;
+
+    public StorageRecordService(StorageRepository storageRepository,
+                                ObjectStorageBackend objectStorageBackend,
+                                PlatformTransactionManager transactionManager,
+                                String bucketName) {
+        this.storageRepository = storageRepository;
+        this.objectStorageBackend = objectStorageBackend;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bucketName = bucketName;
+    }
+
+    /**
+     * 콘텐츠 원본 객체 기록 (병합 결과 또는 저장 단계에서 올린 원본)
+     */
+    public void recordOriginal(ContentMessage message, String objectName, long fileSize,
+                               String contentHash, ContentStatus status) {
+        enqueue(newRecord(message, StorageEntity.VARIANT_ORIGINAL, objectName, fileSize, contentHash, status));
+    }
+
+    /**
+     * 처리 결과 객체 기록
+     */
+    public void recordProcessed(ContentMessage message, String objectName, long fileSize) {
+        enqueue(newRecord(message, StorageEntity.VARIANT_PROCESSED, objectName, fileSize, null,
+                ContentStatus.STORED));
+    }
+
+    /**
+     * 저장 단계 완료 시 원본 객체를 저장 완료로 표시 (기록된 원본이 없으면 무시)
+     */
+    public void markStored(String contentId) {
+        StorageEntity record = new StorageEntity();
+        record.setId(StorageEntity.recordId(contentId, StorageEntity.VARIANT_ORIGINAL));
+        record.setContentId(contentId);
+        record.setVariant(StorageEntity.VARIANT_ORIGINAL);
+        record.setStatus(ContentStatus.STORED.name());
+        record.setUpdatedAt(LocalDateTime.now());
+        enqueue(record);
+    }
+
+    /**
+     * 버퍼의 기록을 배치로 반영
+     */
+    @Scheduled(fixedDelayString = "${storage.records.flush-interval-ms:500}")
+    public void flush() {
+        List<StorageEntity> deferred = new ArrayList<>();
+        List<StorageEntity> batch;
+        while (!(batch = drain()).isEmpty()) {
+            deferred.addAll(write(batch));
+        }
+        // 이번 반영이 끝난 뒤 되돌림 (같은 반영 안에서 반복하지 않음)
+        deferred.forEach(this::requeue);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!pending.isEmpty()) {
+            log.info("Flushing {} pending storage records before shutdown", pending.size());
+            flush();
+        }
+    }
+
+    /**
+     * 저장 객체 메타데이터 조회
+     * 콘텐츠 ID 가 있으면 콘텐츠의 행(최대 2개)을 읽어 나머지 조건으로 거르고,
+     * 없으면 내용 해시/사용자 ID/상태 조건을 함께 건 쿼리로 조회한다 (LIMIT 적용 후 거르지 않음).
+     * 콘텐츠 ID 조회에는 아직 반영되지 않은 버퍼의 기록도 포함된다
+     */
+    public List<StoredObjectInfo> lookup(StorageLookupRequest request) {
+        if (!request.hasCriteria()) {
+            throw new IllegalArgumentException("At least one of contentId, userId, status, contentHash is required");
+        }
+        int limit = request.getLimit() > 0 ? Math.min(request.getLimit(), MAX_LOOKUP_SIZE) : MAX_LOOKUP_SIZE;
+
+        List<StorageEntity> rows = query(request, PageRequest.of(0, limit));
+        if (request.getContentId() != null) {
+            rows = withPending(request.getContentId(), rows);
+        }
+
+        return rows.stream()
+                .filter(row -> matches(row, request))
+                .limit(limit)
+                .map(this::toInfo)
+                .toList();
+    }
+
+    private List<StorageEntity> query(StorageLookupRequest request, Pageable pageable) {
+        if (request.getContentId() != null) {
+            return storageRepository.findByContentId(request.getContentId());
+        }
+        if (request.getContentHash() != null) {
+            if (request.getUserId() != null && request.getStatus() != null) {
+                return storageRepository.findByContentHashAndUserIdAndStatusOrderByUpdatedAtDesc(
+                        request.getContentHash(), request.getUserId(), request.getStatus(), pageable);
+            }
+            if (request.getUserId() != null) {
+                return storageRepository.findByContentHashAndUserIdOrderByUpdatedAtDesc(
+                        request.getContentHash(), request.getUserId(), pageable);
+            }
+            if (request.getStatus() != null) {
+                return storageRepository.findByContentHashAndStatusOrderByUpdatedAtDesc(
+                        request.getContentHash(), request.getStatus(), pageable);
+            }
+            return storageRepository.findByContentHashOrderByUpdatedAtDesc(request.getContentHash(), pageable);
+        }
+        if (request.getUserId() != null) {
+            return request.getStatus() != null
+                    ? storageRepository.findByUserIdAndStatusOrderByUpdatedAtDesc(
+                            request.getUserId(), request.getStatus(), pageable)
+                    : storageRepository.findByUserIdOrderByUpdatedAtDesc(request.getUserId(), pageable);
+        }
+        return storageRepository.findByStatusOrderByUpdatedAtDesc(request.getStatus(), pageable);
+    }
+
+    private List<StorageEntity> withPending(String contentId, List<StorageEntity> rows) {
+        Map<UUID, StorageEntity> merged = new LinkedHashMap<>();
+        rows.forEach(row -> merged.put(row.getId(), row));
+
+        for (String variant : List.of(StorageEntity.VARIANT_ORIGINAL, StorageEntity.VARIANT_PROCESSED)) {
+            StorageEntity buffered = pending.get(StorageEntity.recordId(contentId, variant));
+            if (buffered == null) {
+                continue;
+            }
+            StorageEntity row = merged.get(buffered.getId());
+            if (row != null) {
+                merged.put(row.getId(), combine(row, buffered));
+            } else if (buffered.getStoragePath() != null) {
+                merged.put(buffered.getId(), buffered);
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private boolean matches(StorageEntity row, StorageLookupRequest request) {
+        return (request.getContentId() == null || request.getContentId().equals(row.getContentId()))
+                && (request.getUserId() == null || request.getUserId().equals(row.getUserId()))
+                && (request.getStatus() == null || request.getStatus().equals(row.getStatus()))
+                && (request.getContentHash() == null || request.getContentHash().equals(row.getContentHash()));
+    }
+
+    private StoredObjectInfo toInfo(StorageEntity row) {
+        return new StoredObjectInfo(row.getContentId(), row.getVariant(), row.getUserId(), row.getFileName(),
+                row.getContentType(), row.getFileType(), row.getFileSize() != null ? row.getFileSize() : 0,
+                row.getContentHash(), row.getStoragePath(), row.getStatus(), accessUrl(row),
+                toEpochMillis(row.getCreatedAt()), toEpochMillis(row.getUpdatedAt()));
+    }
+
+    /**
+     * 조회 시점 기준으로 새 액세스 URL 발급 (서명만 하므로 객체 저장소 요청 없음)
+     */
+    private String accessUrl(StorageEntity row) {
+        try {
+            return objectStorageBackend.presignGet(bucketName, row.getStoragePath(),
+                    Duration.ofDays(presignedUrlExpiryDays));
+        } catch (Exception e) {
+            log.debug("Failed to presign {}, returning recorded url", row.getStoragePath(), e);
+            return row.getAccessUrl();
+        }
+    }
+
+    private void enqueue(StorageEntity record) {
+        if (!enabled) {
+            return;
+        }
+        if (pending.size() >= bufferCapacity && !pending.containsKey(record.getId())) {
+            log.warn("Storage record buffer full ({}), dropping record for content: {}",
+                    bufferCapacity, record.getContentId());
+            return;
+        }
+        pending.merge(record.getId(), record, StorageRecordService::combine);
+    }
+
+    /**
+     * 원본 행이 없던 상태 기록을 버퍼에 되돌림 (그 사이 들어온 같은 ID 기록이 우선)
+     */
+    private void requeue(StorageEntity record) {
+        LocalDateTime expiry = LocalDateTime.now().minus(Duration.ofMillis(orphanRetentionMillis));
+        if (record.getUpdatedAt() == null || record.getUpdatedAt().isBefore(expiry)) {
+            log.debug("No stored object recorded for content: {}, dropping status update", record.getContentId());
+            return;
+        }
+        if (pending.size() >= bufferCapacity && !pending.containsKey(record.getId())) {
+            log.warn("Storage record buffer full ({}), dropping status update for content: {}",
+                    bufferCapacity, record.getContentId());
+            return;
+        }
+        pending.merge(record.getId(), record, (later, earlier) -> combine(earlier, later));
+    }
+
+    private List<StorageEntity> drain() {
+        List<StorageEntity> batch = new ArrayList<>();
+        Iterator<UUID> ids = pending.keySet().iterator();
+        while (ids.hasNext() && batch.size() < batchSize) {
+            StorageEntity record = pending.remove(ids.next());
+            if (record != null) {
+                batch.add(record);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * @return 원본 행이 없어 반영하지 못한 상태 기록
+     */
+    private List<StorageEntity> write(List<StorageEntity> batch) {
+        try {
+            List<StorageEntity> deferred = transactionTemplate.execute(status -> persist(batch));
+            log.debug("Storage records written: {}", batch.size());
+            return deferred != null ? deferred : List.of();
+        } catch (Exception e) {
+            // 배치 중 한 건의 오류로 전체가 유실되지 않도록 개별 처리로 대체
+            log.warn("Batch storage record write failed, writing {} records individually", batch.size(), e);
+            List<StorageEntity> deferred = new ArrayList<>();
+            for (StorageEntity record : batch) {
+                try {
+                    List<StorageEntity> unmatched = transactionTemplate.execute(status -> persist(List.of(record)));
+                    if (unmatched != null) {
+                        deferred.addAll(unmatched);
+                    }
+                } catch (Exception ex) {
+                    log.warn("Failed to write storage record for content: {}", record.getContentId(), ex);
+                }
+            }
+            return deferred;
+        }
+    }
+
+    /**
+     * 기존 행은 한 번의 조회로 읽어 갱신하고, 신규 행은 조회 없이 일괄 INSERT
+     *
+     * @return 원본 행이 없어 반영하지 못한 상태 기록
+     */
+    private List<StorageEntity> persist(List<StorageEntity> batch) {
+        Map<UUID, StorageEntity> existing = storageRepository
+                .findAllById(batch.stream().map(StorageEntity::getId).toList()).stream()
+                .collect(Collectors.toMap(StorageEntity::getId, Function.identity()));
+
+        List<StorageEntity> inserts = new ArrayList<>();
+        List<StorageEntity> unmatched = new ArrayList<>();
+        for (StorageEntity record : batch) {
+            StorageEntity row = existing.get(record.getId());
+            if (row != null) {
+                overlay(row, record);
+            } else if (record.getStoragePath() != null) {
+                record.setNewRecord(true);
+                inserts.add(record);
+            } else {
+                // 원본 기록보다 상태가 먼저 반영되는 경우 (병합한 인스턴스가 아직 원본 기록을 반영하지 않음 등)
+                unmatched.add(record);
+            }
+        }
+        storageRepository.saveAll(inserts);
+        return unmatched;
+    }
+
+    private StorageEntity newRecord(ContentMessage message, String variant, String objectName, long fileSize,
+                                    String contentHash, ContentStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        StorageEntity record = new StorageEntity();
+        record.setId(StorageEntity.recordId(message.getId(), variant));
+        record.setContentId(message.getId());
+        record.setVariant(variant);
+        record.setUserId(message.getUserId() != null ? message.getUserId() : "");
+        record.setFileName(message.getFileName());
+        record.setContentType(message.getContentType());
+        record.setFileType(message.getFileType() != null ? message.getFileType().name() : null);
+        record.setFileSize(fileSize);
+        record.setContentHash(contentHash);
+        record.setSourcePath(message.getSourcePath());
+        record.setStoragePath(objectName);
+        record.setAccessUrl(message.getAccessUrl());
+        record.setStatus(status.name());
+        record.setCreatedAt(now);
+        record.setUpdatedAt(now);
+        return record;
+    }
+
+    /**
+     * 이전 기록에 이후 기록을 합친 새 기록 (이후 기록의 null 이 아닌 값 우선)
+     */
+    private static StorageEntity combine(StorageEntity earlier, StorageEntity later) {
+        StorageEntity combined = new StorageEntity();
+        overlay(combined, earlier);
+        combined.setId(earlier.getId());
+        overlay(combined, later);
+        return combined;
+    }
+
+    private static void overlay(StorageEntity target, StorageEntity source) {
+        copy(source.getContentId(), target::setContentId);
+        copy(source.getVariant(), target::setVariant);
+        copy(source.getUserId(), target::setUserId);
+        copy(source.getFileName(), target::setFileName);
+        copy(source.getContentType(), target::setContentType);
+        copy(source.getFileType(), target::setFileType);
+        copy(source.getFileSize(), target::setFileSize);
+        copy(source.getContentHash(), target::setContentHash);
+        copy(source.getSourcePath(), target::setSourcePath);
+        copy(source.getStoragePath(), target::setStoragePath);
+        copy(source.getAccessUrl(), target::setAccessUrl);
+        copy(source.getErrorMessage(), target::setErrorMessage);
+        copy(source.getUpdatedAt(), target::setUpdatedAt);
+        if (target.getCreatedAt() == null) {
+            target.setCreatedAt(source.getCreatedAt());
+        }
+        target.setStatus(advance(target.getStatus(), source.getStatus()));
+    }
+
+    private static <T> void copy(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+
+    /**
+     * 단계 순위가 높아지는 경우에만 상태 변경 (재전달된 이전 단계 기록은 무시)
+     */
+    private static String advance(String current, String next) {
+        if (current == null || next == null) {
+            return Objects.requireNonNullElse(next, current);
+        }
+        return ContentStatus.valueOf(current).canTransitionTo(ContentStatus.valueOf(next)) ? next : current;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0;
+    }
+}
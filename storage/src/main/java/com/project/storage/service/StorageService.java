@@ -2,20 +2,24 @@ package com.project.storage.service;
 
 import com.project.common.model.ContentMessage;
 
+import java.io.IOException;
+
 public interface StorageService {
     /**
      * 파일을 스토리지에 저장하고 접근 URL을 반환합니다.
      *
      * @param message 저장할 콘텐츠 정보를 포함한 메시지
-     * @return 저장된 파일에 접근 가능한 URL, 실패시 null
+     * @return 저장된 파일에 접근 가능한 URL, 저장할 데이터가 없으면 null
+     * @throws IOException 객체 저장소 오류 (일시적 오류 - 호출자가 재시도)
      */
-    String storeFile(ContentMessage message);
+    String storeFile(ContentMessage message) throws IOException;
 
     /**
      * 처리된 파일을 스토리지에 저장하고 접근 URL을 반환합니다.
      *
      * @param message 저장할 콘텐츠 정보를 포함한 메시지 (processedPath 포함)
-     * @return 저장된 파일에 접근 가능한 URL, 실패시 null
+     * @return 저장된 파일에 접근 가능한 URL, 처리 결과 파일이 없으면 null
+     * @throws IOException 객체 저장소 오류 (일시적 오류 - 호출자가 재시도)
      */
-    String storeProcessedFile(ContentMessage message);
+    String storeProcessedFile(ContentMessage message) throws IOException;
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+package com.project.storage.service;
+
+import com.project.common.claimcheck.PayloadTransport;
+import com.project.common.model.ContentMessage;
+import com.project.common.model.ContentStatus;
+import com.project.storage.backend.ObjectStorageBackend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageServiceImpl implements StorageService {
+
+    private final ObjectStorageBackend objectStorageBackend;
+    private final PayloadTransport payloadTransport;
+    private final ContentDedupService contentDedupService;
+    private final StorageRecordService storageRecordService;
+    private final String bucketName;
+
+    @Value("${minio.presigned-url-expiry:7}") // 기본 7일
+    private int presignedUrlExpiryDays;
+
+    @Override
+    public String storeFile(ContentMessage message) throws IOException {
+        // 콘텐츠 ID와 확장자로 고유한 객체 이름 생성
+        String objectName = generateObjectName(message);
+
+        // 콘텐츠 타입 결정
+        String contentType = determineContentType(message);
+
+        // 객체 메타데이터 설정
+        Map<String, String> userMetadata = new HashMap<>();
+        userMetadata.put("Content-Type", contentType);
+        userMetadata.put("X-Content-Id", message.getId());
+        userMetadata.put("X-User-Id", message.getUserId());
+        userMetadata.put("X-Original-Filename", message.getFileName());
+
+        // 객체 저장소에 업로드
+        long fileSize;
+        String contentHash = null;
+        if (payloadTransport.hasPayload(message)) {
+            // 메시지에 포함된 데이터 사용 (클레임 체크 참조인 경우 저장소에서 로드)
+            byte[] contentBytes = payloadTransport.readPayload(message);
+            objectStorageBackend.put(bucketName, objectName, new ByteArrayInputStream(contentBytes),
+                    contentBytes.length, contentType, userMetadata);
+            fileSize = contentBytes.length;
+            contentHash = message.getPayloadChecksum();
+        } else if (message.getSourcePath() != null || message.getTempFilePath() != null) {
+            // 파일 경로에서 스트리밍 업로드 (파일 전체를 힙에 올리지 않음)
+            String filePath = message.getSourcePath() != null ?
+                    message.getSourcePath() : message.getTempFilePath();
+            fileSize = Files.size(Paths.get(filePath));
+            objectStorageBackend.putFile(bucketName, objectName, Paths.get(filePath), contentType, userMetadata);
+        } else {
+            log.error("No content data or file path found in message for content: {}", message.getId());
+            return null;
+        }
+
+        // 접근 URL 생성 (presigned URL)
+        String accessUrl = objectStorageBackend.presignGet(bucketName, objectName,
+                Duration.ofDays(presignedUrlExpiryDays));
+
+        log.info("File stored: bucket={}, object={}", bucketName, objectName);
+
+        // 저장 객체 메타데이터 기록 (비동기 배치)
+        storageRecordService.recordOriginal(message, objectName, fileSize, contentHash, ContentStatus.STORED);
+
+        // 같은 내용의 이후 업로드가 재사용하도록 결과 객체 기록
+        contentDedupService.recordResult(message.getId(), objectName);
+
+        // 임시 파일 정리 (필요한 경우)
+        cleanupTempFile(message);
+
+        return accessUrl;
+    }
+
+    @Override
+    public String storeProcessedFile(ContentMessage message) throws IOException {
+        if (message.getProcessedPath() == null) {
+            log.error("Processed file path is missing for content: {}", message.getId());
+            return null;
+        }
+
+        // 파일 확장자를 포함한 객체 이름 생성
+        Path processedFilePath = Paths.get(message.getProcessedPath());
+        String fileName = processedFilePath.getFileName().toString();
+        String extension = fileName.lastIndexOf(".") > 0 ?
+                fileName.substring(fileName.lastIndexOf(".")) : "";
+
+        // 고유한 객체 이름 생성
+        String objectName = String.format("processed/%s/%s%s",
+                message.getUserId(), UUID.randomUUID().toString(), extension);
+
+        // 콘텐츠 타입 결정
+        String contentType = determineContentType(message);
+
+        // 객체 메타데이터 설정
+        Map<String, String> userMetadata = new HashMap<>();
+        userMetadata.put("Content-Type", contentType);
+        userMetadata.put("X-Content-Id", message.getId());
+        userMetadata.put("X-User-Id", message.getUserId());
+        userMetadata.put("X-Original-Filename", message.getFileName());
+        userMetadata.put("X-Is-Processed", "true");
+
+        // 객체 저장소에 스트리밍 업로드 (MinIO 는 큰 파일을 파트 단위 병렬 업로드)
+        long fileSize = Files.size(processedFilePath);
+        objectStorageBackend.putFile(bucketName, objectName, processedFilePath, contentType, userMetadata);
+
+        // 접근 URL 생성
+        String accessUrl = objectStorageBackend.presignGet(bucketName, objectName,
+                Duration.ofDays(presignedUrlExpiryDays));
+
+        log.info("Processed file stored: bucket={}, object={}", bucketName, objectName);
+
+        // 저장 객체 메타데이터 기록 (비동기 배치)
+        storageRecordService.recordProcessed(message, objectName, fileSize);
+
+        // 같은 내용의 이후 업로드가 재사용하도록 결과 객체 기록
+        contentDedupService.recordResult(message.getId(), objectName);
+
+        // 임시 파일 정리
+        cleanupTempFile(message);
+
+        return accessUrl;
+    }
+
+    /**
+     * 객체의 고유한 이름을 생성합니다.
+     */
+    private String generateObjectName(ContentMessage message) {
+        String extension = getFileExtension(message);
+        return String.format("original/%s/%s%s",
+                message.getUserId(), UUID.randomUUID().toString(), extension);
+    }
+
+    /**
+     * 메시지로부터 파일 확장자를 결정합니다.
+     */
+    private String getFileExtension(ContentMessage message) {
+        // 파일명에서 확장자 추출 시도
+        if (message.getFileName() != null && message.getFileName().lastIndexOf(".") > 0) {
+            return message.getFileName().substring(message.getFileName().lastIndexOf("."));
+        }
+
+        // 콘텐츠 타입으로 확장자 결정
+        if (message.getContentType() == null) {
+            return "";
+        }
+
+        return switch (message.getContentType().toLowerCase()) {
+            case "image/jpeg" -> ".jpg";
+            case "image/png" -> ".png";
+            case "image/gif" -> ".gif";
+            case "image/webp" -> ".webp";
+            case "video/mp4" -> ".mp4";
+            case "video/mpeg" -> ".mpeg";
+            case "video/webm" -> ".webm";
+            case "audio/mpeg" -> ".mp3";
+            case "audio/wav" -> ".wav";
+            case "audio/ogg" -> ".ogg";
+            case "application/pdf" -> ".pdf";
+            case "text/plain" -> ".txt";
+            case "text/html" -> ".html";
+            case "application/json" -> ".json";
+            case "application/xml" -> ".xml";
+            default -> "";
+        };
+    }
+
+    /**
+     * 메시지로부터 콘텐츠 타입을 결정합니다.
+     */
+    private String determineContentType(ContentMessage message) {
+        return message.getContentType() != null ?
+                message.getContentType() : "application/octet-stream";
+    }
+
+    /**
+     * 임시 파일을 정리합니다.
+     */
+    private void cleanupTempFile(ContentMessage message) {
+        try {
+            // 임시 파일 정리
+            if (message.getTempFilePath() != null) {
+                File tempFile = new File(message.getTempFilePath());
+                if (tempFile.exists() && tempFile.delete()) {
+                    log.debug("Temporary file deleted: {}", message.getTempFilePath());
+                }
+            }
+
+            // 처리된 파일 정리 (선택적)
+            if (message.getProcessedPath() != null) {
+                File processedFile = new File(message.getProcessedPath());
+                if (processedFile.exists() && processedFile.delete()) {
+                    log.debug("Processed file deleted: {}", message.getProcessedPath());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to clean up temporary files for content: {}", message.getId(), e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.project.storage.service;
+
+import com.project.common.model.ContentMessage;
+import com.project.storage.service.ChunkAssemblyTracker.AssemblyProgress;
+import com.project.storage.service.ChunkAssemblyTracker.IdleAssembly;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 청크 조립 상태 저장소 구현이 공통으로 지켜야 하는 동작
+ */
+abstract class ChunkAssemblyTrackerContractTests {
+
+    protected abstract ChunkAssemblyTracker tracker();
+
+    @Test
+    void markingIsIdempotentAndCompletesAtTotal() {
+        ChunkAssemblyTracker tracker = tracker();
+
+        assertThat(tracker.markChunk("c1", 0, 2)).isEqualTo(new AssemblyProgress(true, 1, 2));
+        assertThat(tracker.markChunk("c1", 0, 2)).isEqualTo(new AssemblyProgress(false, 1, 2));
+
+        AssemblyProgress progress = tracker.markChunk("c1", 1, 2);
+        assertThat(progress.newlyMarked()).isTrue();
+        assertThat(progress.isComplete()).isTrue();
+        assertThat(tracker.receivedChunks("c1").cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    void outOfRangeChunksAreRejected() {
+        ChunkAssemblyTracker tracker = tracker();
+        BitSet beyondTotal = new BitSet();
+        beyondTotal.set(3);
+
+        assertThatThrownBy(() -> tracker.markChunk("c1", 2, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tracker.markChunk("c1", -1, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tracker.markChunks("c1", beyondTotal, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(tracker.receivedChunks("c1").isEmpty()).isTrue();
+    }
+
+    @Test
+    void totalChunksMismatchIsRejected() {
+        ChunkAssemblyTracker tracker = tracker();
+        tracker.markChunk("c1", 0, 3);
+
+        assertThatThrownBy(() -> tracker.markChunk("c1", 1, 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void onlyFirstClaimWinsAndOnlyWhenComplete() {
+        ChunkAssemblyTracker tracker = tracker();
+        tracker.markChunk("c1", 0, 2);
+
+        assertThat(tracker.claimMerge("c1")).isFalse();
+
+        tracker.markChunk("c1", 1, 2);
+        assertThat(tracker.claimMerge("c1")).isTrue();
+        assertThat(tracker.claimMerge("c1")).isFalse();
+
+        // 병합 실패 후 재시도 허용
+        tracker.releaseMerge("c1");
+        assertThat(tracker.claimMerge("c1")).isTrue();
+    }
+
+    @Test
+    void staleMergesAreReleased() {
+        ChunkAssemblyTracker tracker = tracker();
+        tracker.markChunk("c1", 0, 1);
+        tracker.claimMerge("c1");
+
+        assertThat(tracker.releaseStaleMerges(System.currentTimeMillis() - 60_000)).isEmpty();
+        assertThat(tracker.releaseStaleMerges(System.currentTimeMillis() + 1_000)).containsExactly("c1");
+        assertThat(tracker.claimMerge("c1")).isTrue();
+    }
+
+    @Test
+    void touchedMergeIsNotReleased() throws InterruptedException {
+        ChunkAssemblyTracker tracker = tracker();
+        tracker.markChunk("c1", 0, 1);
+        tracker.claimMerge("c1");
+        Thread.sleep(5);
+        long threshold = System.currentTimeMillis();
+        Thread.sleep(5);
+
+        // 진행 중인 병합이 활동 시각을 갱신하면 회수 기준 시각보다 새로워짐
+        tracker.touchMerge("c1");
+
+        assertThat(tracker.releaseStaleMerges(threshold)).isEmpty();
+        assertThat(tracker.claimMerge("c1")).isFalse();
+    }
+
+    @Test
+    void mergeRequestIsKeptForResumingMerge() {
+        ChunkAssemblyTracker tracker = tracker();
+        tracker.markChunk("c1", 0, 1);
+        ContentMessage request = new ContentMessage();
+        request.setId("c1");
+        request.setUserId("u1");
+        request.setFileName("a.png");
+        request.setTotalChunks(1);
+        request.setContentData(new byte[]{1, 2, 3});
+
+        assertThat(tracker.claimMerge("c1", request)).isTrue();
+        tracker.releaseStaleMerges(System.currentTimeMillis() + 1_000);
+
+        // 재개 시 요청을 다시 기록하지 않고 권한만 얻어도 기록된 요청은 유지 (청크 데이터 제외)
+        assertThat(tracker.claimMerge("c1")).isTrue();
+        ContentMessage recorded = tracker.mergeRequest("c1");
+        assertThat(recorded.getUserId()).isEqualTo("u1");
+        assertThat(recorded.getFileName()).isEqualTo("a.png");
+        assertThat(recorded.getTotalChunks()).isEqualTo(1);
+        assertThat(recorded.getContentData()).isNull();
+        assertThat(tracker.mergeRequest("missing")).isNull();
+    }
+
+    @Test
+    void completedAssemblyIsKeptAsTombstone() {
+        ChunkAssemblyTracker tracker = tracker();
+        tracker.markChunk("c1", 0, 2);
+        tracker.markChunk("c1", 1, 2);
+        tracker.claimMerge("c1");
+
+        tracker.complete("c1");
+
+        assertThat(tracker.isCompleted("c1")).isTrue();
+        // 늦게 재전달된 청크는 기록되지 않고 병합도 다시 시작되지 않음
+        assertThat(tracker.markChunk("c1", 0, 2)).isEqualTo(new AssemblyProgress(false, 2, 2));
+        assertThat(tracker.claimMerge("c1")).isFalse();
+    }
+
+    @Test
+    void completingUnknownAssemblyDoesNothing() {
+        ChunkAssemblyTracker tracker = tracker();
+
+        tracker.complete("missing");
+
+        assertThat(tracker.isCompleted("missing")).isFalse();
+    }
+
+    @Test
+    void idleLookupReturnsOnlyReceivingAssemblies() {
+        ChunkAssemblyTracker tracker = tracker();
+        tracker.markChunk("receiving", 0, 2);
+        tracker.markChunk("merging", 0, 1);
+        tracker.claimMerge("merging");
+        tracker.markChunk("completed", 0, 1);
+        tracker.complete("completed");
+
+        assertThat(tracker.findIdleSince(System.currentTimeMillis() + 1_000))
+                .containsExactly(new IdleAssembly("receiving", 2));
+        assertThat(tracker.findIdleSince(System.currentTimeMillis() - 60_000)).isEmpty();
+    }
+
+    @Test
+    void purgeRemovesOnlyOldCompletedAssemblies() {
+        ChunkAssemblyTracker tracker = tracker();
+        tracker.markChunk("receiving", 0, 2);
+        tracker.markChunk("completed", 0, 1);
+        tracker.complete("completed");
+
+        assertThat(tracker.purgeCompleted(System.currentTimeMillis() - 60_000)).isZero();
+        assertThat(tracker.purgeCompleted(System.currentTimeMillis() + 1_000)).isEqualTo(1);
+
+        assertThat(tracker.isCompleted("completed")).isFalse();
+        assertThat(tracker.receivedChunks("receiving").cardinality()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,173 @@
+package com.project.storage.service;
+
+import com.project.common.model.ChunkHashManifest;
+import com.project.storage.backend.ObjectStorageBackend;
+import com.project.storage.entity.ChunkManifestRepository;
+import com.project.storage.entity.ChunkObjectEntity;
+import com.project.storage.entity.ChunkObjectRepository;
+import com.project.storage.service.ContentDedupService.ContentDigest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ContextConfiguration(classes = ChunkDedupServiceTests.Config.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChunkDedupServiceTests {
+
+    private static final String TEMP_BUCKET = "temp";
+    private static final String HASH_A = "a".repeat(64);
+    private static final String HASH_B = "b".repeat(64);
+    private static final String HASH_C = "c".repeat(64);
+
+    @Autowired
+    private ChunkObjectRepository chunkObjectRepository;
+
+    @Autowired
+    private ChunkManifestRepository chunkManifestRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ObjectStorageBackend objectStorageBackend;
+    private ChunkDedupService dedupService;
+
+    @BeforeEach
+    void setUp() {
+        objectStorageBackend = mock(ObjectStorageBackend.class);
+        dedupService = new ChunkDedupService(chunkObjectRepository, chunkManifestRepository, objectStorageBackend,
+                transactionManager, TEMP_BUCKET);
+        ReflectionTestUtils.setField(dedupService, "enabled", true);
+        ReflectionTestUtils.setField(dedupService, "retentionDays", 30L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        chunkManifestRepository.deleteAll();
+        chunkObjectRepository.deleteAll();
+    }
+
+    @Test
+    void matchesOnlyOwnChunksWithExpectedSize() {
+        storeChunk("u1", HASH_A, 100);
+        storeChunk("u2", HASH_B, 100);
+        // 마지막 청크 크기(50)와 다른 청크
+        storeChunk("u1", HASH_C, 100);
+
+        BitSet existing = dedupService.matchChunks(manifest("c1", "u1", HASH_A, HASH_B, HASH_C));
+
+        assertThat(existing.stream().toArray()).containsExactly(0);
+        assertThat(dedupService.sourceObjects("c1", 3)).containsExactly(
+                ChunkDedupService.storedChunkName("u1", HASH_A), "c1/chunk_1", "c1/chunk_2");
+    }
+
+    @Test
+    void invalidHashesAreIgnored() {
+        storeChunk("u1", HASH_A, 100);
+
+        BitSet existing = dedupService.matchChunks(manifest("c1", "u1", HASH_A.toUpperCase(), "not-a-hash", null));
+
+        assertThat(existing.stream().toArray()).containsExactly(0);
+    }
+
+    @Test
+    void chunkDigestsComeFromReusedAndUploadedChunks() {
+        storeChunk("u1", HASH_A, 100);
+        dedupService.matchChunks(manifest("c1", "u1", HASH_A, null, null));
+        dedupService.recordUploadedChunk("c1", "u1", 2, HASH_C, 50);
+
+        assertThat(dedupService.chunkDigests("c1", 3)).containsExactly(
+                new ContentDigest(HASH_A, 100), null, new ContentDigest(HASH_C, 50));
+    }
+
+    @Test
+    void promoteMovesUploadedChunksToStoreOnce() throws Exception {
+        dedupService.recordUploadedChunk("c1", "u1", 0, HASH_A, 100);
+        dedupService.recordUploadedChunk("c2", "u1", 0, HASH_A, 100);
+
+        dedupService.promoteChunks("c1");
+        dedupService.promoteChunks("c2");
+
+        verify(objectStorageBackend, times(1)).copy(TEMP_BUCKET, "c1/chunk_0",
+                TEMP_BUCKET, ChunkDedupService.storedChunkName("u1", HASH_A));
+        assertThat(chunkObjectRepository.findById(ChunkDedupService.chunkKey("u1", HASH_A))).isPresent();
+        assertThat(chunkManifestRepository.count()).isZero();
+    }
+
+    @Test
+    void disabledDedupOnlyDiscardsManifest() throws Exception {
+        ReflectionTestUtils.setField(dedupService, "enabled", false);
+        dedupService.recordUploadedChunk("c1", "u1", 0, HASH_A, 100);
+
+        dedupService.promoteChunks("c1");
+
+        verify(objectStorageBackend, never()).copy(anyString(), anyString(), anyString(), anyString());
+        assertThat(chunkManifestRepository.count()).isZero();
+        assertThat(dedupService.matchChunks(manifest("c2", "u1", HASH_A, null, null)).isEmpty()).isTrue();
+    }
+
+    @Test
+    void unusedChunksArePurged() {
+        storeChunk("u1", HASH_A, 100);
+        ReflectionTestUtils.setField(dedupService, "retentionDays", -1L);
+
+        dedupService.purgeUnusedChunks();
+
+        assertThat(chunkObjectRepository.count()).isZero();
+        verify(objectStorageBackend).delete(TEMP_BUCKET, ChunkDedupService.storedChunkName("u1", HASH_A));
+    }
+
+    private void storeChunk(String userId, String hash, long size) {
+        ChunkObjectEntity chunk = new ChunkObjectEntity();
+        chunk.setId(ChunkDedupService.chunkKey(userId, hash));
+        chunk.setUserId(userId);
+        chunk.setChunkHash(hash);
+        chunk.setSize(size);
+        chunk.setCreatedAt(System.currentTimeMillis());
+        chunk.setLastUsedAt(System.currentTimeMillis());
+        chunkObjectRepository.save(chunk);
+    }
+
+    /**
+     * 청크 크기 100, 마지막 청크 50 인 3청크 업로드
+     */
+    private static ChunkHashManifest manifest(String contentId, String userId, String... hashes) {
+        ChunkHashManifest manifest = new ChunkHashManifest();
+        manifest.setContentId(contentId);
+        manifest.setUserId(userId);
+        manifest.setChunkSize(100);
+        manifest.setFileSize(250);
+        manifest.setTotalChunks(3);
+        manifest.setChunkHashes(Arrays.asList(hashes));
+        return manifest;
+    }
+
+    /**
+     * 메시징/객체 저장소 빈 없이 엔티티와 리포지토리만 로드
+     */
+    @Configuration
+    @EntityScan(basePackageClasses = ChunkObjectRepository.class)
+    @EnableJpaRepositories(basePackageClasses = ChunkObjectRepository.class)
+    static class Config {
+    }
+}
@@ -0,0 +1,193 @@
+package com.project.storage.service;
+
+import com.project.storage.backend.ObjectInfo;
+import com.project.storage.backend.ObjectStorageBackend;
+import com.project.storage.entity.ContentObjectRepository;
+import com.project.storage.entity.ContentReferenceRepository;
+import com.project.storage.service.ContentDedupService.ContentDigest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ContextConfiguration(classes = ContentDedupServiceTests.Config.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContentDedupServiceTests {
+
+    private static final String TEMP_BUCKET = "temp";
+
+    @Autowired
+    private ContentObjectRepository objectRepository;
+
+    @Autowired
+    private ContentReferenceRepository referenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ObjectStorageBackend objectStorageBackend;
+    private ContentDedupService dedupService;
+
+    @BeforeEach
+    void setUp() {
+        objectStorageBackend = mock(ObjectStorageBackend.class);
+        dedupService = new ContentDedupService(objectRepository, referenceRepository, objectStorageBackend,
+                transactionManager, TEMP_BUCKET);
+        ReflectionTestUtils.setField(dedupService, "enabled", true);
+        ReflectionTestUtils.setField(dedupService, "maxContentSize", 1024L);
+        ReflectionTestUtils.setField(dedupService, "pendingExpiryHours", 48L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        referenceRepository.deleteAll();
+        objectRepository.deleteAll();
+    }
+
+    @Test
+    void singleChunkKeyIsFileHash() {
+        ContentDigest chunk = digest("whole file");
+
+        assertThat(ContentDedupService.combine(List.of(chunk))).isEqualTo(chunk);
+    }
+
+    @Test
+    void multiChunkKeyHashesChunkDigestsInOrder() throws Exception {
+        ContentDigest first = digest("first");
+        ContentDigest second = digest("second");
+
+        MessageDigest expected = MessageDigest.getInstance("SHA-256");
+        expected.update(HexFormat.of().parseHex(first.sha256()));
+        expected.update(HexFormat.of().parseHex(second.sha256()));
+
+        ContentDigest combined = ContentDedupService.combine(List.of(first, second));
+        assertThat(combined.sha256()).isEqualTo(HexFormat.of().formatHex(expected.digest()));
+        assertThat(combined.size()).isEqualTo(first.size() + second.size());
+        assertThat(ContentDedupService.combine(List.of(second, first)).sha256()).isNotEqualTo(combined.sha256());
+    }
+
+    @Test
+    void onlyChunksWithoutIngestionHashAreRead() throws Exception {
+        when(objectStorageBackend.head(TEMP_BUCKET, "c1/chunk_1")).thenReturn(info(6));
+        when(objectStorageBackend.get(TEMP_BUCKET, "c1/chunk_1")).thenReturn(stream("second"));
+
+        ContentDigest result = dedupService.digestChunks("c1", List.of("c1/chunk_0", "c1/chunk_1"),
+                Arrays.asList(digest("first"), null));
+
+        assertThat(result).isEqualTo(ContentDedupService.combine(List.of(digest("first"), digest("second"))));
+        verify(objectStorageBackend, never()).get(TEMP_BUCKET, "c1/chunk_0");
+    }
+
+    @Test
+    void unhashedChunksOverLimitSkipDedup() throws Exception {
+        when(objectStorageBackend.head(eq(TEMP_BUCKET), anyString())).thenReturn(info(600));
+
+        assertThat(dedupService.digestChunks("c1", List.of("c1/chunk_0", "c1/chunk_1"),
+                Arrays.asList(null, null))).isNull();
+        verify(objectStorageBackend, never()).get(eq(TEMP_BUCKET), anyString());
+    }
+
+    @Test
+    void resultIsSharedOnlyAfterFirstUploadIsStored() {
+        ContentDigest content = digest("same content");
+        dedupService.registerPending("c1", content, "image/png", "content/u1/a.png");
+
+        assertThat(dedupService.acquireExisting("c2", content, "image/png")).isNull();
+
+        dedupService.recordResult("c1", null);
+
+        assertThat(dedupService.acquireExisting("c2", content, "image/png")).isEqualTo("content/u1/a.png");
+        // 콘텐츠 타입이 다르면 처리 결과가 다를 수 있으므로 공유하지 않음
+        assertThat(dedupService.acquireExisting("c3", content, "text/plain")).isNull();
+    }
+
+    @Test
+    void redeliveredAcquireRecordsReferenceOnce() {
+        ContentDigest content = digest("same content");
+        dedupService.registerPending("c1", content, "image/png", "content/u1/a.png");
+        dedupService.recordResult("c1", "content/u1/a-processed.png");
+
+        assertThat(dedupService.acquireExisting("c2", content, "image/png")).isEqualTo("content/u1/a-processed.png");
+        assertThat(dedupService.acquireExisting("c2", content, "image/png")).isEqualTo("content/u1/a-processed.png");
+
+        assertThat(referenceRepository.count()).isEqualTo(2);
+        assertThat(referenceRepository.findById("c2")).hasValueSatisfying(ref -> assertThat(ref.isCounted()).isTrue());
+    }
+
+    @Test
+    void concurrentUploadKeepsFirstRecordedResult() {
+        ContentDigest content = digest("same content");
+        dedupService.registerPending("c1", content, "image/png", "content/u1/a.png");
+        dedupService.registerPending("c2", content, "image/png", "content/u1/b.png");
+
+        dedupService.recordResult("c1", "content/u1/a-processed.png");
+        dedupService.recordResult("c2", "content/u1/b-processed.png");
+
+        assertThat(objectRepository.findById(content.sha256()))
+                .hasValueSatisfying(object -> assertThat(object.getResultObject()).isEqualTo("content/u1/a-processed.png"));
+        assertThat(referenceRepository.existsById("c2")).isFalse();
+    }
+
+    @Test
+    void unconfirmedReferencesArePurged() {
+        ContentDigest content = digest("same content");
+        dedupService.registerPending("c1", content, "image/png", "content/u1/a.png");
+        dedupService.registerPending("c2", content, "image/png", "content/u1/a.png");
+        dedupService.recordResult("c1", null);
+        ReflectionTestUtils.setField(dedupService, "pendingExpiryHours", -1L);
+
+        dedupService.purgePendingReferences();
+
+        assertThat(referenceRepository.existsById("c1")).isTrue();
+        assertThat(referenceRepository.existsById("c2")).isFalse();
+    }
+
+    private static ContentDigest digest(String data) {
+        MessageDigest digest = ContentDedupService.newDigest();
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        return new ContentDigest(HexFormat.of().formatHex(digest.digest(bytes)), bytes.length);
+    }
+
+    private static ObjectInfo info(long size) {
+        return new ObjectInfo(size, "application/octet-stream", Map.of(), 0);
+    }
+
+    private static ByteArrayInputStream stream(String data) {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 메시징/객체 저장소 빈 없이 엔티티와 리포지토리만 로드
+     */
+    @Configuration
+    @EntityScan(basePackageClasses = ContentObjectRepository.class)
+    @EnableJpaRepositories(basePackageClasses = ContentObjectRepository.class)
+    static class Config {
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.storage.service;
+
+import org.junit.jupiter.api.BeforeEach;
+
+class InMemoryChunkAssemblyTrackerTests extends ChunkAssemblyTrackerContractTests {
+
+    private ChunkAssemblyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new InMemoryChunkAssemblyTracker();
+    }
+
+    @Override
+    protected ChunkAssemblyTracker tracker() {
+        return tracker;
+    }
+}
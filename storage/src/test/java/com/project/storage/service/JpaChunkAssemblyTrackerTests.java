@@ -0,0 +1,55 @@
+package com.project.storage.service;
+
+import com.project.storage.entity.ChunkAssemblyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 내장 H2 에서 실제 조건부 갱신 쿼리로 확인 (트래커가 직접 트랜잭션을 열도록 테스트 트랜잭션은 사용하지 않음)
+ */
+@DataJpaTest
+@ContextConfiguration(classes = JpaChunkAssemblyTrackerTests.Config.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaChunkAssemblyTrackerTests extends ChunkAssemblyTrackerContractTests {
+
+    @Autowired
+    private ChunkAssemblyRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ChunkAssemblyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new JpaChunkAssemblyTracker(repository, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Override
+    protected ChunkAssemblyTracker tracker() {
+        return tracker;
+    }
+
+    /**
+     * 메시징/객체 저장소 빈 없이 엔티티와 리포지토리만 로드
+     */
+    @Configuration
+    @EntityScan(basePackageClasses = ChunkAssemblyRepository.class)
+    @EnableJpaRepositories(basePackageClasses = ChunkAssemblyRepository.class)
+    static class Config {
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.storage.service;
+
+import com.project.common.model.ContentMessage;
+import com.project.common.model.ContentStatus;
+import com.project.common.model.StorageLookupRequest;
+import com.project.storage.backend.ObjectStorageBackend;
+import com.project.storage.entity.StorageEntity;
+import com.project.storage.entity.StorageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StorageRecordServiceTests {
+
+    private StorageRepository storageRepository;
+    private StorageRecordService recordService;
+
+    @BeforeEach
+    void setUp() {
+        storageRepository = mock(StorageRepository.class);
+        recordService = new StorageRecordService(storageRepository, mock(ObjectStorageBackend.class),
+                mock(PlatformTransactionManager.class), "content");
+        ReflectionTestUtils.setField(recordService, "enabled", true);
+        ReflectionTestUtils.setField(recordService, "batchSize", 200);
+        ReflectionTestUtils.setField(recordService, "bufferCapacity", 100);
+        ReflectionTestUtils.setField(recordService, "orphanRetentionMillis", 60000L);
+        when(storageRepository.findAllById(anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    void recordsForSameContentAreCoalescedIntoOneInsert() {
+        recordService.recordOriginal(message(), "content/u1/a.bin", 10, "ab".repeat(32), ContentStatus.UPLOADED);
+        recordService.markStored("c1");
+
+        recordService.flush();
+
+        List<StorageEntity> inserted = captureSaved(1).get(0);
+        assertThat(inserted).hasSize(1);
+        assertThat(inserted.get(0).getStoragePath()).isEqualTo("content/u1/a.bin");
+        assertThat(inserted.get(0).getStatus()).isEqualTo(ContentStatus.STORED.name());
+        assertThat(inserted.get(0).isNew()).isTrue();
+    }
+
+    @Test
+    void earlierStageDoesNotOverwriteLaterStatus() {
+        recordService.markStored("c1");
+        recordService.recordOriginal(message(), "content/u1/a.bin", 10, null, ContentStatus.UPLOADED);
+
+        recordService.flush();
+
+        assertThat(captureSaved(1).get(0).get(0).getStatus()).isEqualTo(ContentStatus.STORED.name());
+    }
+
+    @Test
+    void statusWithoutOriginalIsRetriedOnNextFlush() {
+        recordService.markStored("c1");
+        recordService.flush();
+
+        // 다른 인스턴스가 원본 행을 반영한 뒤
+        StorageEntity row = new StorageEntity();
+        row.setId(StorageEntity.recordId("c1", StorageEntity.VARIANT_ORIGINAL));
+        row.setContentId("c1");
+        row.setStatus(ContentStatus.UPLOADED.name());
+        when(storageRepository.findAllById(anyList())).thenReturn(List.of(row));
+
+        recordService.flush();
+
+        assertThat(row.getStatus()).isEqualTo(ContentStatus.STORED.name());
+        assertThat(captureSaved(2).get(0)).isEmpty();
+    }
+
+    @Test
+    void expiredStatusWithoutOriginalIsDropped() {
+        ReflectionTestUtils.setField(recordService, "orphanRetentionMillis", -1L);
+        recordService.markStored("c1");
+
+        recordService.flush();
+        recordService.flush();
+
+        verify(storageRepository, times(1)).findAllById(anyList());
+    }
+
+    @Test
+    void hashLookupFiltersUserInQuery() {
+        String hash = "cd".repeat(32);
+
+        recordService.lookup(new StorageLookupRequest(null, "u1", null, hash, 10));
+
+        verify(storageRepository).findByContentHashAndUserIdOrderByUpdatedAtDesc(eq(hash), eq("u1"), any(Pageable.class));
+        verify(storageRepository, never()).findByContentHashOrderByUpdatedAtDesc(any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<StorageEntity>> captureSaved(int times) {
+        ArgumentCaptor<List<StorageEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(storageRepository, times(times)).saveAll(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static ContentMessage message() {
+        ContentMessage message = new ContentMessage();
+        message.setId("c1");
+        message.setUserId("u1");
+        message.setFileName("a.bin");
+        return message;
+    }
+}
@@ -0,0 +1,44 @@
+package com.project.upload.api;
+
+import com.project.common.model.ContentStatus;
+import com.project.upload.dto.ContentStatusPageDTO;
+import com.project.upload.service.StatusService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class ContentStatusRestController {
+
+    private final StatusService statusService;
+
+    /**
+     * 사용자 콘텐츠 상태 목록 API (커서 페이지네이션)
+     * 응답의 nextCursor를 cursor로 넘겨 다음 페이지를 조회
+     */
+    @GetMapping("/{userId}/contents")
+    public ResponseEntity<?> listContents(
+            @PathVariable String userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "status", required = false) List<ContentStatus> statuses) {
+
+        try {
+            ContentStatusPageDTO page = statusService.getUserContentPage(userId, cursor, size, statuses);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.upload.api;
+
+import com.project.upload.dto.DeadLetterEntry;
+import com.project.upload.dto.DeadLetterResult;
+import com.project.upload.service.DeadLetterService;
+import com.project.upload.service.DeadLetterService.Filter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DLQ 관리 API
+ * 조회는 큐에서 메시지를 제거하지 않으며, 재처리는 설정된 속도 제한에 맞춰 순차 발행된다
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/dlq")
+@RequiredArgsConstructor
+public class DeadLetterRestController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final DeadLetterService deadLetterService;
+
+    /**
+     * DLQ 메시지 조회 (contentId 완전 일치, stage/error 부분 일치)
+     */
+    @GetMapping
+    public ResponseEntity<?> browse(
+            @RequestParam(value = "contentId", required = false) String contentId,
+            @RequestParam(value = "stage", required = false) String stage,
+            @RequestParam(value = "error", required = false) String error,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return badRequest("limit must be between 1 and " + MAX_LIMIT);
+        }
+        List<DeadLetterEntry> entries = deadLetterService.browse(new Filter(contentId, stage, error), limit);
+        return ResponseEntity.ok(entries);
+    }
+
+    /**
+     * 조건에 맞는 메시지를 원래 라우팅 키로 재처리
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<?> replay(
+            @RequestParam(value = "contentId", required = false) String contentId,
+            @RequestParam(value = "stage", required = false) String stage,
+            @RequestParam(value = "error", required = false) String error,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return badRequest("limit must be between 1 and " + MAX_LIMIT);
+        }
+        DeadLetterResult result = deadLetterService.replay(new Filter(contentId, stage, error), limit);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 보관 기간이 지난 메시지 삭제
+     */
+    @DeleteMapping("/expired")
+    public ResponseEntity<?> purgeExpired(
+            @RequestParam(value = "olderThanHours", required = false) Long olderThanHours) {
+
+        if (olderThanHours != null && olderThanHours < 0) {
+            return badRequest("olderThanHours must not be negative");
+        }
+        DeadLetterResult result = deadLetterService.purgeExpired(olderThanHours);
+        return ResponseEntity.ok(result);
+    }
+
+    private static ResponseEntity<?> badRequest(String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", message);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+}
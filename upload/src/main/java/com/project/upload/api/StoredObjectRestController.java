@@ -0,0 +1,74 @@
+package com.project.upload.api;
+
+import com.project.common.model.StorageLookupRequest;
+import com.project.common.model.StorageLookupResult;
+import com.project.upload.service.StorageLookupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/storage/objects")
+@RequiredArgsConstructor
+public class StoredObjectRestController {
+
+    private final StorageLookupService storageLookupService;
+
+    /**
+     * 콘텐츠의 저장 객체 조회 API (원본/처리 결과의 위치와 크기)
+     */
+    @GetMapping("/{contentId}")
+    public ResponseEntity<?> getObjects(@PathVariable String contentId) {
+        ResponseEntity<?> response = lookup(new StorageLookupRequest(contentId, null, null, null, 0));
+        if (response.getBody() instanceof StorageLookupResult result && result.getObjects().isEmpty()) {
+            return errorResponse(HttpStatus.NOT_FOUND, "No stored object for content: " + contentId);
+        }
+        return response;
+    }
+
+    /**
+     * 저장 객체 검색 API (사용자 ID, 상태, 내용 해시 중 하나 이상 지정, 최근 갱신 순)
+     */
+    @GetMapping
+    public ResponseEntity<?> searchObjects(
+            @RequestParam(value = "userId", required = false) String userId,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "contentHash", required = false) String contentHash,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+
+        StorageLookupRequest request = new StorageLookupRequest(null, userId, status,
+                contentHash != null ? contentHash.toLowerCase() : null, limit);
+        if (!request.hasCriteria()) {
+            return errorResponse(HttpStatus.BAD_REQUEST, "One of userId, status, contentHash is required");
+        }
+        return lookup(request);
+    }
+
+    private ResponseEntity<?> lookup(StorageLookupRequest request) {
+        try {
+            StorageLookupResult result = storageLookupService.lookup(request);
+            if (result == null) {
+                return errorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Storage service did not respond");
+            }
+            if (result.getErrorMessage() != null) {
+                return errorResponse(HttpStatus.BAD_GATEWAY, result.getErrorMessage());
+            }
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("Error looking up stored objects: {}", request, e);
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> errorResponse(HttpStatus status, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", message);
+        return ResponseEntity.status(status).body(response);
+    }
+}
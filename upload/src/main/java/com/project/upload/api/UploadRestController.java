@@ -1,18 +1,34 @@
 package com.project.upload.api;
 
+import com.project.common.claimcheck.PayloadTransport;
 import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.project.common.model.ChunkHashMatch;
 import com.project.common.model.ContentMessage;
 import com.project.common.model.ContentPriority;
 import com.project.common.model.ContentStatus;
+import com.project.common.model.DirectUploadTicket;
+import com.project.common.model.StatusEvent;
+import com.project.upload.entity.UploadSessionEntity;
+import com.project.upload.service.ChunkHashNegotiationService;
+import com.project.upload.service.DirectUploadService;
+import com.project.upload.service.UploadBackpressureService;
+import com.project.upload.service.UploadSessionService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -23,11 +39,213 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UploadRestController {
 
-    private final RabbitTemplate rabbitTemplate;
+    // 권장 동시 업로드 윈도우 응답 헤더
+    private static final String UPLOAD_WINDOW_HEADER = "X-Upload-Window";
+
+    private final PipelinePublisher pipelinePublisher;
+    private final PayloadTransport payloadTransport;
+    private final UploadSessionService uploadSessionService;
+    private final UploadBackpressureService uploadBackpressureService;
+    private final DirectUploadService directUploadService;
+    private final ChunkHashNegotiationService chunkHashNegotiationService;
+
+    /**
+     * 재개 가능한 업로드 세션 생성 API
+     * contentId와 협상된 청크 크기, 총 청크 수를 반환
+     */
+    @PostMapping("/sessions")
+    public ResponseEntity<Map<String, Object>> createSession(
+            @RequestParam("userId") String userId,
+            @RequestParam("fileName") String fileName,
+            @RequestParam("fileSize") long fileSize,
+            @RequestParam(value = "contentType", required = false) String contentType,
+            @RequestParam(value = "priority", defaultValue = "LOW") String priority,
+            @RequestParam(value = "chunkSize", required = false) Long chunkSize) {
+
+        try {
+            UploadSessionEntity session = uploadSessionService.createSession(
+                    userId, fileName, contentType, fileSize, chunkSize, priority);
+
+            return ResponseEntity.ok(createSessionResponse(session));
+        } catch (IllegalArgumentException e) {
+            return errorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * 객체 저장소 직접 업로드 세션 생성 API
+     * 청크별 presigned PUT URL을 함께 반환하며, 클라이언트는 모든 청크를 올린 뒤 complete를 호출
+     */
+    @PostMapping("/direct")
+    public ResponseEntity<Map<String, Object>> createDirectSession(
+            @RequestParam("userId") String userId,
+            @RequestParam("fileName") String fileName,
+            @RequestParam("fileSize") long fileSize,
+            @RequestParam(value = "contentType", required = false) String contentType,
+            @RequestParam(value = "priority", defaultValue = "LOW") String priority,
+            @RequestParam(value = "chunkSize", required = false) Long chunkSize) {
+
+        try {
+            UploadSessionEntity session = uploadSessionService.createDirectSession(
+                    userId, fileName, contentType, fileSize, chunkSize, priority);
+
+            return issueDirectTicket(session);
+        } catch (IllegalArgumentException e) {
+            return errorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * 직접 업로드 URL 재발급 API (URL 만료 후 이어서 업로드하는 경우)
+     */
+    @PostMapping("/direct/{contentId}/urls")
+    public ResponseEntity<Map<String, Object>> renewDirectUrls(@PathVariable String contentId) {
+        return uploadSessionService.getSession(contentId)
+                .filter(UploadSessionEntity::isDirect)
+                .map(this::issueDirectTicket)
+                .orElseGet(() -> errorResponse(HttpStatus.NOT_FOUND, "Direct upload session not found: " + contentId));
+    }
+
+    /**
+     * 직접 업로드 완료 API
+     * 저장 서비스로 완료 메시지 하나만 발행 (청크 확인/병합/검증 요청은 저장 서비스가 수행)
+     */
+    @PostMapping("/direct/{contentId}/complete")
+    public ResponseEntity<Map<String, Object>> completeDirectUpload(@PathVariable String contentId) {
+        UploadSessionEntity session = uploadSessionService.getSession(contentId)
+                .filter(UploadSessionEntity::isDirect)
+                .orElse(null);
+        if (session == null) {
+            return errorResponse(HttpStatus.NOT_FOUND, "Direct upload session not found: " + contentId);
+        }
+
+        try {
+            // 완료 메시지를 먼저 발행하고 확인된 뒤에 완료로 표시 (발행 실패 시 재요청 가능)
+            // 동시 완료 요청으로 두 번 발행되어도 저장 서비스는 병합 권한을 한 번만 내준다
+            if (!session.isCompleted()) {
+                directUploadService.publishCompletion(session);
+                uploadSessionService.markCompleted(contentId);
+            } else {
+                log.info("Direct upload already completed for content: {}", contentId);
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("id", contentId);
+            response.put("fileName", session.getFileName());
+            response.put("totalChunks", session.getTotalChunks());
+            response.put("status", ContentStatus.UPLOADED.name());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error completing direct upload for content: {}", contentId, e);
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * 업로드 세션 상태 조회 API (GET/HEAD)
+     * 이미 저장된 청크 인덱스를 반환하여 클라이언트가 누락된 청크만 재전송하도록 함
+     */
+    @GetMapping("/sessions/{contentId}")
+    public ResponseEntity<Map<String, Object>> getSession(@PathVariable String contentId) {
+        return uploadSessionService.getSession(contentId)
+                .map(session -> {
+                    int[] received = uploadSessionService.receivedChunks(session);
+                    return ResponseEntity.ok()
+                            .header("Upload-Received-Chunks", String.valueOf(received.length))
+                            .header("Upload-Total-Chunks", String.valueOf(session.getTotalChunks()))
+                            .body(createSessionResponse(session));
+                })
+                .orElseGet(() -> errorResponse(HttpStatus.NOT_FOUND, "Upload session not found: " + contentId));
+    }
+
+    /**
+     * 청크 해시 협상 API (델타 업로드)
+     * 데이터 전송 전에 인덱스 순서의 청크별 SHA-256 (hex) 목록을 보내면 저장 서비스에 이미 있는 청크를
+     * 수신된 것으로 기록하고 그 인덱스를 반환한다. 클라이언트는 나머지 청크만
+     * /sessions/{contentId}/chunks/{chunkIndex} 또는 /stream (contentId 지정) 으로 전송한다
+     */
+    @PostMapping("/sessions/{contentId}/chunk-hashes")
+    public ResponseEntity<Map<String, Object>> negotiateChunkHashes(
+            @PathVariable String contentId,
+            @RequestBody List<String> chunkHashes) {
+
+        UploadSessionEntity session = uploadSessionService.getSession(contentId)
+                .filter(s -> !s.isDirect())
+                .orElse(null);
+        if (session == null) {
+            return errorResponse(HttpStatus.NOT_FOUND, "Upload session not found: " + contentId);
+        }
+        if (chunkHashes.size() != session.getTotalChunks()) {
+            return errorResponse(HttpStatus.BAD_REQUEST, String.format(
+                    "Expected %d chunk hashes, got %d", session.getTotalChunks(), chunkHashes.size()));
+        }
+
+        try {
+            ChunkHashMatch match = chunkHashNegotiationService.negotiate(session, chunkHashes);
+            if (match == null) {
+                return errorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Storage service did not respond");
+            }
+            if (match.getErrorMessage() != null) {
+                return errorResponse(HttpStatus.BAD_GATEWAY, match.getErrorMessage());
+            }
+
+            UploadSessionEntity current = uploadSessionService.getSession(contentId).orElse(session);
+            Map<String, Object> response = createSessionResponse(current);
+            response.put("existingChunks", match.getExistingChunks());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error negotiating chunk hashes for content: {}", contentId, e);
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * 세션 기반 청크 업로드 API (멱등 - 이미 저장된 청크는 다시 발행하지 않음)
+     */
+    @PutMapping("/sessions/{contentId}/chunks/{chunkIndex}")
+    public ResponseEntity<Map<String, Object>> putChunk(
+            @PathVariable String contentId,
+            @PathVariable int chunkIndex,
+            @RequestParam("file") MultipartFile file) {
+
+        return uploadSessionService.getSession(contentId)
+                .map(session -> {
+                    if (!uploadSessionService.isValidChunkLength(session, chunkIndex, file.getSize())) {
+                        return invalidChunkLength(session, chunkIndex, file.getSize());
+                    }
+                    return acceptChunk(session, chunkIndex, file.getContentType(), file.getSize(),
+                            file::getInputStream);
+                })
+                .orElseGet(() -> errorResponse(HttpStatus.NOT_FOUND, "Upload session not found: " + contentId));
+    }
+
+    /**
+     * 세션 기반 청크 업로드 API (요청 본문 스트리밍)
+     * multipart 파싱/임시 파일 없이 본문을 그대로 페이로드 저장소로 흘려 보낸다
+     */
+    @PutMapping(value = "/sessions/{contentId}/chunks/{chunkIndex}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Map<String, Object>> putChunkStream(
+            @PathVariable String contentId,
+            @PathVariable int chunkIndex,
+            HttpServletRequest request) {
+
+        return uploadSessionService.getSession(contentId)
+                .map(session -> {
+                    long length = request.getContentLengthLong();
+                    if (!uploadSessionService.isValidChunkLength(session, chunkIndex, length)) {
+                        return invalidChunkLength(session, chunkIndex, length);
+                    }
+                    return acceptChunk(session, chunkIndex, null, length, request::getInputStream);
+                })
+                .orElseGet(() -> errorResponse(HttpStatus.NOT_FOUND, "Upload session not found: " + contentId));
+    }
 
     /**
      * 청크 기반 대용량 파일 업로드 API
-     * 파일을 바로 스토리지로 스트리밍하고 검증 요청을 발행
+     * 파일을 바로 스토리지로 스트리밍하고, 모든 청크가 수신되면 업로드 완료 상태를 발행
+     * (세션 없이 첫 청크를 보내면 암묵적 세션을 생성, 청크 크기는 chunkSize 로 지정하거나
+     * 생략하면 마지막이 아닌 청크의 크기를 사용)
      */
     @PostMapping("/stream")
     public ResponseEntity<Map<String, Object>> streamUpload(
@@ -36,7 +254,9 @@ public class UploadRestController {
             @RequestParam(value = "priority", defaultValue = "LOW") String priority,
             @RequestParam(value = "chunkIndex", defaultValue = "0") int chunkIndex,
             @RequestParam(value = "totalChunks", defaultValue = "1") int totalChunks,
-            @RequestParam(value = "contentId", required = false) String contentIdStr) {
+            @RequestParam(value = "contentId", required = false) String contentIdStr,
+            @RequestParam(value = "chunkSize", required = false) Long chunkSize,
+            @RequestParam(value = "fileSize", required = false) Long fileSize) {
 
         try {
             log.info("File chunk upload: {} [{}/{}], size: {}",
@@ -45,61 +265,121 @@ public class UploadRestController {
             log.info("userId: {}, priority: {}", userId, priority);
 
             // 첫번째 청크인 경우 새 contentId 생성
-            UUID contentId = (contentIdStr == null || contentIdStr.isEmpty())
-                    ? UUID.randomUUID() : UUID.fromString(contentIdStr);
+            String contentId = (contentIdStr == null || contentIdStr.isEmpty())
+                    ? UUID.randomUUID().toString() : UUID.fromString(contentIdStr).toString();
+
+            UploadSessionEntity session = uploadSessionService.getSession(contentId).orElse(null);
+            if (session == null) {
+                // 짧은 마지막 청크가 먼저 도착하면 그 크기로는 청크 크기를 알 수 없음
+                Long sessionChunkSize = chunkSize != null ? chunkSize
+                        : chunkIndex < totalChunks - 1 || totalChunks == 1 ? Long.valueOf(file.getSize()) : null;
+                if (sessionChunkSize == null || sessionChunkSize <= 0) {
+                    return errorResponse(HttpStatus.BAD_REQUEST,
+                            "chunkSize is required when the last chunk is sent first");
+                }
+                session = uploadSessionService.createImplicitSession(
+                        contentId, userId, file.getOriginalFilename(), file.getContentType(),
+                        fileSize, sessionChunkSize, totalChunks, priority);
+            }
 
-            // 파일 정보 준비
-            String originalFilename = file.getOriginalFilename();
-            String contentType = file.getContentType();
+            if (!uploadSessionService.isValidChunkLength(session, chunkIndex, file.getSize())) {
+                return invalidChunkLength(session, chunkIndex, file.getSize());
+            }
+            return acceptChunk(session, chunkIndex, file.getContentType(), file.getSize(), file::getInputStream);
 
-            // 청크 업로드 메시지 생성
-            ContentMessage message = createStreamingMessage(
-                    contentId, userId, originalFilename, contentType,
-                    file.getBytes(), file.getSize(), chunkIndex, totalChunks, priority);
-
-            // 저장 서비스로 바로 스트리밍
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.CHUNK_STORAGE_ROUTING_KEY,
-                    message);
-
-            // 마지막 청크인 경우 검증 요청 발행
-            if (chunkIndex == totalChunks - 1) {
-                // 상태 업데이트
-                message.setStatus(ContentStatus.UPLOADED);
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                        message);
-
-                // 검증 요청
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.VALIDATION_ROUTING_KEY,
-                        message);
-
-                log.info("All chunks uploaded, validation request sent for content: {}", contentId);
+        } catch (Exception e) {
+            log.error("Error uploading file chunk", e);
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> invalidChunkLength(UploadSessionEntity session, int chunkIndex,
+                                                                   long length) {
+        return errorResponse(HttpStatus.BAD_REQUEST, String.format(
+                "Invalid length %d for chunk %d (chunk size %d)", length, chunkIndex, session.getChunkSize()));
+    }
+
+    /**
+     * 세션의 청크 하나를 수신하여 저장 서비스로 발행
+     */
+    private ResponseEntity<Map<String, Object>> acceptChunk(UploadSessionEntity session, int chunkIndex,
+                                                            String contentType, long size, PayloadSource source) {
+        String contentId = session.getContentId();
+        int totalChunks = session.getTotalChunks();
+
+        if (chunkIndex < 0 || chunkIndex >= totalChunks) {
+            return errorResponse(HttpStatus.BAD_REQUEST,
+                    String.format("Invalid chunk index %d (total %d)", chunkIndex, totalChunks));
+        }
+
+        try {
+            boolean duplicate = uploadSessionService.isChunkReceived(session, chunkIndex);
+
+            // 청크 저장 큐 적체 시 재시도 대기 요청 (이미 저장된 청크는 그대로 응답)
+            if (!duplicate && uploadBackpressureService.shouldThrottle()) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("id", contentId);
+                response.put("chunkIndex", chunkIndex);
+                response.put("error", "Chunk storage queue is busy, retry later");
+                response.put("window", 1);
+                response.put("status", ContentStatus.UPLOADING.name());
+
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(uploadBackpressureService.retryAfterSeconds()))
+                        .header(UPLOAD_WINDOW_HEADER, "1")
+                        .body(response);
+            }
+
+            if (!duplicate) {
+                // 청크 업로드 메시지 생성
+                ContentMessage message = createStreamingMessage(
+                        UUID.fromString(contentId), session.getUserId(), session.getFileName(),
+                        session.getContentType() != null ? session.getContentType() : contentType,
+                        source, size, chunkIndex, totalChunks, session.getPriority());
+
+                // 저장 서비스로 바로 스트리밍 (발행 확인 후 기록 - 기록 실패 시 재전송은 저장 서비스에서 멱등 처리)
+                pipelinePublisher.publishAndWait(Outbound.of(RabbitMQConstants.CHUNK_STORAGE_ROUTING_KEY, message));
+
+                UploadSessionService.ChunkReceipt receipt =
+                        uploadSessionService.markChunkReceived(contentId, chunkIndex);
+
+                // 모든 청크 수신 시 업로드 완료 상태 발행 (검증 요청은 저장 서비스가 병합 후 발행)
+                if (receipt.firstCompletion()) {
+                    StatusEvent statusEvent = StatusEvent.from(message);
+                    statusEvent.setStatus(ContentStatus.UPLOADED);
+                    pipelinePublisher.publish(Outbound.status(statusEvent));
+
+                    log.info("All chunks uploaded for content: {}", contentId);
+                }
+            } else {
+                log.info("Chunk [{}/{}] already stored for content: {}, skipping",
+                        chunkIndex + 1, totalChunks, contentId);
             }
 
+            UploadSessionEntity current = uploadSessionService.getSession(contentId).orElse(session);
+
             // 응답 생성
             Map<String, Object> response = new HashMap<>();
             response.put("id", contentId);
-            response.put("fileName", originalFilename);
+            response.put("fileName", current.getFileName());
             response.put("chunkIndex", chunkIndex);
             response.put("totalChunks", totalChunks);
-            response.put("status", chunkIndex == totalChunks - 1
+            response.put("receivedChunks", current.getReceivedCount());
+            response.put("duplicate", duplicate);
+            response.put("status", current.isCompleted()
                     ? ContentStatus.UPLOADED.name() : ContentStatus.UPLOADING.name());
 
-            return ResponseEntity.ok(response);
+            // 권장 동시 업로드 윈도우 힌트
+            int window = uploadBackpressureService.recommendedWindow();
+            response.put("window", window);
 
-        } catch (Exception e) {
-            log.error("Error uploading file chunk", e);
+            return ResponseEntity.ok()
+                    .header(UPLOAD_WINDOW_HEADER, String.valueOf(window))
+                    .body(response);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("error", e.getMessage());
-            response.put("status", ContentStatus.FAILED.name());
-
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        } catch (Exception e) {
+            log.error("Error uploading chunk [{}/{}] for content: {}", chunkIndex + 1, totalChunks, contentId, e);
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
         }
     }
 
@@ -111,46 +391,64 @@ public class UploadRestController {
     public ResponseEntity<Map<String, Object>> uploadFile(
             @RequestParam("file") MultipartFile file,
             @RequestParam("userId") String userId,
-            @RequestParam(value = "priority", defaultValue = "NORMAL") String priority) {
+            @RequestParam(value = "priority", defaultValue = "MEDIUM") String priority) {
 
-        try {
-            log.info("Small file upload request: {}, size: {}", file.getOriginalFilename(), file.getSize());
+        log.info("Small file upload request: {}, size: {}", file.getOriginalFilename(), file.getSize());
 
+        return uploadSingle(userId, priority, file.getOriginalFilename(), file.getContentType(),
+                file.getSize(), file::getInputStream);
+    }
+
+    /**
+     * 단일 요청 업로드 API (요청 본문 스트리밍)
+     * 파일명/사용자는 쿼리 파라미터로 받고 본문은 힙에 올리지 않고 페이로드 저장소로 복사
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Map<String, Object>> uploadFileStream(
+            @RequestParam("userId") String userId,
+            @RequestParam("fileName") String fileName,
+            @RequestParam(value = "contentType", required = false) String contentType,
+            @RequestParam(value = "priority", defaultValue = "MEDIUM") String priority,
+            HttpServletRequest request) {
+
+        long length = request.getContentLengthLong();
+        if (length < 0) {
+            return errorResponse(HttpStatus.LENGTH_REQUIRED, "Content-Length header is required");
+        }
+
+        log.info("Streaming file upload request: {}, size: {}", fileName, length);
+
+        return uploadSingle(userId, priority, fileName,
+                contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                length, request::getInputStream);
+    }
+
+    private ResponseEntity<Map<String, Object>> uploadSingle(String userId, String priority, String fileName,
+                                                             String contentType, long size, PayloadSource source) {
+        try {
             // 컨텐츠 ID 생성
             UUID contentId = UUID.randomUUID();
 
             // ContentMessage 객체 생성
             ContentMessage message = createStreamingMessage(
-                    contentId, userId, file.getOriginalFilename(),
-                    file.getContentType(), file.getBytes(), file.getSize(), 0, 1, priority);
+                    contentId, userId, fileName, contentType, source, size, 0, 1, priority);
 
             message.setStatus(ContentStatus.UPLOADING);
 
-            // 저장 서비스로 직접 전송
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.CHUNK_STORAGE_ROUTING_KEY,
-                    message);
+            // 저장 서비스로 직접 전송 (검증 요청은 저장 서비스가 내용 중복 확인/병합 후 발행)
+            pipelinePublisher.publishAndWait(Outbound.of(RabbitMQConstants.CHUNK_STORAGE_ROUTING_KEY, message));
 
             // 상태 업데이트 (업로드 완료)
-            message.setStatus(ContentStatus.UPLOADED);
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                    message);
-
-            // 검증 서비스 요청
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.VALIDATION_ROUTING_KEY,
-                    message);
+            StatusEvent statusEvent = StatusEvent.from(message);
+            statusEvent.setStatus(ContentStatus.UPLOADED);
+            pipelinePublisher.publish(Outbound.status(statusEvent));
 
-            log.info("File uploaded and sent for validation: {}", contentId);
+            log.info("File uploaded and sent to storage: {}", contentId);
 
             // 응답 생성
             Map<String, Object> response = new HashMap<>();
             response.put("id", contentId);
-            response.put("fileName", file.getOriginalFilename());
+            response.put("fileName", fileName);
             response.put("status", ContentStatus.UPLOADED.name());
             response.put("message", "파일 업로드가 완료되었으며 검증이 진행 중입니다");
 
@@ -168,22 +466,77 @@ public class UploadRestController {
     }
 
     private ContentMessage createStreamingMessage(UUID contentId, String userId, String fileName,
-                                                  String contentType, byte[] data, long fileSize,
-                                                  int chunkIndex, int totalChunks, String priority) {
+                                                  String contentType, PayloadSource source, long size,
+                                                  int chunkIndex, int totalChunks, String priority)
+            throws IOException {
 
         ContentMessage message = new ContentMessage();
         message.setId(contentId.toString());
         message.setUserId(userId);
         message.setFileName(fileName);
         message.setContentType(contentType);
-        message.setFileSize(fileSize);
+        message.setFileSize(size);
         message.setChunkIndex(chunkIndex);
         message.setTotalChunks(totalChunks);
-        message.setContentData(data);  // 청크 데이터
-        message.setPriority(ContentPriority.valueOf(priority.toUpperCase()));
+        message.setPriority(ContentPriority.from(priority));
         message.setStatus(ContentStatus.UPLOADING);
         message.setTimestamp(System.currentTimeMillis());
 
+        // 청크 데이터 첨부 (클레임 체크 모드에서는 블롭 저장소 참조만 첨부)
+        try (InputStream data = source.open()) {
+            payloadTransport.attach(message, data, size);
+        }
+
         return message;
     }
-}
\ No newline at end of file
+
+    private Map<String, Object> createSessionResponse(UploadSessionEntity session) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", session.getContentId());
+        response.put("fileName", session.getFileName());
+        response.put("fileSize", session.getFileSize());
+        response.put("chunkSize", session.getChunkSize());
+        response.put("totalChunks", session.getTotalChunks());
+        response.put("uploadedChunks", uploadSessionService.receivedChunks(session));
+        response.put("window", uploadBackpressureService.recommendedWindow());
+        response.put("status", session.isCompleted()
+                ? ContentStatus.UPLOADED.name() : ContentStatus.UPLOADING.name());
+        return response;
+    }
+
+    private ResponseEntity<Map<String, Object>> issueDirectTicket(UploadSessionEntity session) {
+        try {
+            DirectUploadTicket ticket = directUploadService.requestTicket(session);
+            if (ticket == null) {
+                return errorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Storage service did not respond");
+            }
+            if (ticket.getErrorMessage() != null) {
+                return errorResponse(HttpStatus.BAD_GATEWAY, ticket.getErrorMessage());
+            }
+
+            Map<String, Object> response = createSessionResponse(session);
+            response.put("direct", true);
+            response.put("chunkUrls", ticket.getChunkUrls());
+            response.put("expiresAt", ticket.getExpiresAt());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error issuing direct upload URLs for content: {}", session.getContentId(), e);
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> errorResponse(HttpStatus status, String error) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", error);
+        response.put("status", ContentStatus.FAILED.name());
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * 페이로드 입력 스트림 공급자 (multipart 파일 또는 요청 본문)
+     */
+    @FunctionalInterface
+    private interface PayloadSource {
+        InputStream open() throws IOException;
+    }
+}
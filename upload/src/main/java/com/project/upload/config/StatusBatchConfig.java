@@ -0,0 +1,52 @@
+package com.project.upload.config;
+
+import com.project.common.messaging.DelayedRetryRecoverer;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상태 업데이트 배치 수신 설정
+ * batch-size 만큼 모이거나 receive-timeout 동안 새 메시지가 없으면 한 번에 전달한다
+ * 배치 반영에 실패하면 배치의 메시지를 모두 지연 재시도 큐로 넘기고, 한도를 넘기면 DLQ 로 보낸다
+ * (상태 반영은 순위 조건부라 이미 반영된 메시지가 다시 와도 안전)
+ */
+@Configuration
+public class StatusBatchConfig {
+
+    @Value("${upload.status.batch-size:200}")
+    private int batchSize;
+
+    @Value("${upload.status.receive-timeout-ms:100}")
+    private long receiveTimeoutMillis;
+
+    @Value("${upload.status.concurrency:4}")
+    private int concurrency;
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory statusBatchContainerFactory(ConnectionFactory connectionFactory,
+                                                                           MessageConverter messageConverter,
+                                                                           DelayedRetryRecoverer delayedRetryRecoverer) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMillis);
+        // 배치 하나를 채울 수 있도록 프리페치를 배치 크기 이상으로 유지
+        factory.setPrefetchCount(Math.max(batchSize, 250));
+        factory.setConcurrentConsumers(concurrency);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(1)
+                .recoverer((MessageBatchRecoverer) (messages, cause) ->
+                        messages.forEach(message -> delayedRetryRecoverer.recover(message, cause)))
+                .build());
+        return factory;
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.upload.config;
+
+import com.project.common.constants.RabbitMQConstants;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상태 캐시 무효화 수신 설정
+ * 업로드 인스턴스마다 익명 큐(배타적, 자동 삭제)를 fanout 교환기에 바인딩하여 모든 인스턴스가 알림을 받는다
+ */
+@Configuration
+public class StatusCacheConfig {
+
+    @Bean
+    public FanoutExchange statusCacheExchange() {
+        return new FanoutExchange(RabbitMQConstants.STATUS_CACHE_EXCHANGE);
+    }
+
+    @Bean
+    public Queue statusCacheQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding statusCacheBinding(Queue statusCacheQueue, FanoutExchange statusCacheExchange) {
+        return BindingBuilder.bind(statusCacheQueue).to(statusCacheExchange);
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.upload.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 상태 목록 페이지
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentStatusPageDTO {
+    private List<ContentStatusSummary> items;
+    private String nextCursor;     // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,18 @@
+package com.project.upload.dto;
+
+import com.project.common.model.ContentStatus;
+
+/**
+ * 목록 조회용 상태 프로젝션 (엔티티 전체 대신 필요한 컬럼만 조회)
+ * id는 같은 생성 시각의 행을 구분하는 커서 보조 키
+ */
+public record ContentStatusSummary(
+        Long id,
+        String contentId,
+        String fileName,
+        ContentStatus status,
+        String errorMessage,
+        String accessUrl,
+        Long createdAt,
+        Long updatedAt) {
+}
@@ -0,0 +1,15 @@
+package com.project.upload.dto;
+
+/**
+ * DLQ 메시지 요약 (본문 없이 식별/원인 정보만)
+ * position 은 조회 시점의 큐 내 순번
+ */
+public record DeadLetterEntry(
+        int position,
+        String contentId,
+        String stage,              // 원래 처리 단계 (원래 라우팅 키)
+        String error,              // 예외 메시지 또는 x-death 사유 (expired, rejected 등)
+        int retryCount,
+        Long deadLetteredAt,       // DLQ 에 들어간 시각 (알 수 없으면 null)
+        int size) {
+}
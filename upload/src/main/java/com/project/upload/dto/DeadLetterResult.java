@@ -0,0 +1,8 @@
+package com.project.upload.dto;
+
+/**
+ * DLQ 일괄 작업 결과 (재처리/정리)
+ * scanned: 확인한 메시지 수, affected: 재발행 또는 삭제된 수, failed: 재발행 실패로 DLQ 에 남은 수
+ */
+public record DeadLetterResult(int scanned, int affected, int failed) {
+}
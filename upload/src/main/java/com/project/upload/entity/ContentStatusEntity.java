@@ -10,7 +10,8 @@ import lombok.Data;
         name = "content_status",
         indexes = {
                 @Index(name = "idx_content_id", columnList = "content_id", unique = true),
-                @Index(name = "idx_user_id", columnList = "user_id"),
+                // 사용자 목록 커서 페이지 조회 (user_id 단독 조회도 이 인덱스로 처리)
+                @Index(name = "idx_user_created", columnList = "user_id, created_at, id"),
                 @Index(name = "idx_status", columnList = "status"),
                 @Index(name = "idx_created_at", columnList = "created_at")
         }
@@ -34,6 +35,10 @@ public class ContentStatusEntity {
     @Column(name = "status", nullable = false, length = 30)
     private ContentStatus status;
 
+    // 상태 단계 순위 (조건부 갱신 기준 - 순위가 높아지는 경우에만 상태 변경)
+    @Column(name = "stage_rank", nullable = false)
+    private int stageRank;
+
     @Column(name = "error_message", length = 1000)
     private String errorMessage;
 
@@ -46,6 +51,14 @@ public class ContentStatusEntity {
     @Column(name = "updated_at", nullable = false)
     private Long updatedAt;
 
+    /**
+     * 상태와 단계 순위를 함께 설정
+     */
+    public void setStatus(ContentStatus status) {
+        this.status = status;
+        this.stageRank = status != null ? status.getStageRank() : 0;
+    }
+
     // 기본 생성자
     public ContentStatusEntity() {
         this.createdAt = System.currentTimeMillis();
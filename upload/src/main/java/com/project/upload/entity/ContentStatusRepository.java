@@ -1,9 +1,14 @@
 package com.project.upload.entity;
 
 import com.project.common.model.ContentStatus;
+import com.project.upload.dto.ContentStatusSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +17,8 @@ public interface ContentStatusRepository extends JpaRepository<ContentStatusEnti
 
     Optional<ContentStatusEntity> findByContentId(String contentId);
 
+    List<ContentStatusEntity> findByContentIdIn(Collection<String> contentIds);
+
     List<ContentStatusEntity> findByUserId(String userId);
 
     List<ContentStatusEntity> findByUserIdAndStatus(String userId, ContentStatus status);
@@ -19,4 +26,63 @@ public interface ContentStatusRepository extends JpaRepository<ContentStatusEnti
     List<ContentStatusEntity> findByStatus(ContentStatus status);
 
     List<ContentStatusEntity> findByUserIdOrderByCreatedAtDesc(String userId);
+
+    /**
+     * 사용자 상태 목록 첫 페이지 (user_id, created_at, id 인덱스 순서)
+     */
+    @Query("""
+            SELECT new com.project.upload.dto.ContentStatusSummary(
+                c.id, c.contentId, c.fileName, c.status, c.errorMessage, c.accessUrl, c.createdAt, c.updatedAt)
+            FROM ContentStatusEntity c
+            WHERE c.userId = :userId
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<ContentStatusSummary> findFirstPage(@Param("userId") String userId, Limit limit);
+
+    /**
+     * 커서(createdAt, id) 이후 페이지
+     */
+    @Query("""
+            SELECT new com.project.upload.dto.ContentStatusSummary(
+                c.id, c.contentId, c.fileName, c.status, c.errorMessage, c.accessUrl, c.createdAt, c.updatedAt)
+            FROM ContentStatusEntity c
+            WHERE c.userId = :userId
+              AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<ContentStatusSummary> findPageAfter(@Param("userId") String userId,
+                                             @Param("createdAt") long createdAt,
+                                             @Param("id") long id,
+                                             Limit limit);
+
+    /**
+     * 상태 필터 적용 첫 페이지
+     */
+    @Query("""
+            SELECT new com.project.upload.dto.ContentStatusSummary(
+                c.id, c.contentId, c.fileName, c.status, c.errorMessage, c.accessUrl, c.createdAt, c.updatedAt)
+            FROM ContentStatusEntity c
+            WHERE c.userId = :userId AND c.status IN :statuses
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<ContentStatusSummary> findFirstPageByStatus(@Param("userId") String userId,
+                                                     @Param("statuses") Collection<ContentStatus> statuses,
+                                                     Limit limit);
+
+    /**
+     * 상태 필터 적용 커서 이후 페이지
+     */
+    @Query("""
+            SELECT new com.project.upload.dto.ContentStatusSummary(
+                c.id, c.contentId, c.fileName, c.status, c.errorMessage, c.accessUrl, c.createdAt, c.updatedAt)
+            FROM ContentStatusEntity c
+            WHERE c.userId = :userId AND c.status IN :statuses
+              AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<ContentStatusSummary> findPageAfterByStatus(@Param("userId") String userId,
+                                                     @Param("statuses") Collection<ContentStatus> statuses,
+                                                     @Param("createdAt") long createdAt,
+                                                     @Param("id") long id,
+                                                     Limit limit);
 }
\ No newline at end of file
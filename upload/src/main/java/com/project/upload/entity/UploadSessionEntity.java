@@ -0,0 +1,73 @@
+package com.project.upload.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * 재개 가능한 업로드 세션 (청크 수신 비트셋)
+ */
+@Data
+@Entity
+@Table(
+        name = "upload_session",
+        indexes = {
+                @Index(name = "idx_session_content_id", columnList = "content_id", unique = true),
+                @Index(name = "idx_session_user_id", columnList = "user_id")
+        }
+)
+public class UploadSessionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_id", nullable = false, length = 50)
+    private String contentId;
+
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Long chunkSize;
+
+    @Column(name = "total_chunks", nullable = false)
+    private Integer totalChunks;
+
+    @Column(name = "priority", length = 20)
+    private String priority;
+
+    // java.util.BitSet#toByteArray 형식의 수신 청크 비트셋
+    @Column(name = "received_bitmap", nullable = false, length = 2048)
+    private byte[] receivedBitmap = new byte[0];
+
+    @Column(name = "received_count", nullable = false)
+    private Integer receivedCount = 0;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    // 객체 저장소 직접 업로드 세션 여부 (청크가 업로드 서비스를 거치지 않음)
+    @Column(name = "direct", nullable = false)
+    private boolean direct;
+
+    @Column(name = "created_at", nullable = false)
+    private Long createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Long updatedAt;
+
+    // 기본 생성자
+    public UploadSessionEntity() {
+        this.createdAt = System.currentTimeMillis();
+        this.updatedAt = System.currentTimeMillis();
+    }
+}
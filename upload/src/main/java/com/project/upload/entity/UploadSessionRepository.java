@@ -0,0 +1,20 @@
+package com.project.upload.entity;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSessionEntity, Long> {
+
+    Optional<UploadSessionEntity> findByContentId(String contentId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UploadSessionEntity s where s.contentId = :contentId")
+    Optional<UploadSessionEntity> findForUpdate(@Param("contentId") String contentId);
+}
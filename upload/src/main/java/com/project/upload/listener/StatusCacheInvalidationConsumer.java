@@ -0,0 +1,26 @@
+package com.project.upload.listener;
+
+import com.project.upload.service.StatusCache;
+import com.project.upload.service.StatusCache.Invalidation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatusCacheInvalidationConsumer {
+
+    private final StatusCache statusCache;
+
+    /**
+     * 다른 인스턴스가 반영한 상태의 캐시 항목 제거
+     */
+    @RabbitListener(queues = "#{statusCacheQueue.name}")
+    public void consumeInvalidation(Invalidation invalidation) {
+        log.debug("Status cache invalidation from {}: {} contents",
+                invalidation.origin(), invalidation.contentIds() != null ? invalidation.contentIds().size() : 0);
+        statusCache.applyInvalidation(invalidation);
+    }
+}
@@ -1,14 +1,18 @@
 package com.project.upload.listener;
 
 import com.project.common.constants.RabbitMQConstants;
-import com.project.common.model.ContentMessage;
-import com.project.common.model.ContentStatus;
+import com.project.common.model.StatusEvent;
 import com.project.upload.service.StatusService;
+import com.project.upload.service.StatusService.StatusUpdate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -16,44 +20,40 @@ public class StatusUpdateConsumer {
 
     private final StatusService statusService;
 
-    @RabbitListener(queues = RabbitMQConstants.STATUS_UPDATE_QUEUE)
-    public void consumeStatusUpdate(ContentMessage message) {
-        log.info("Received status update for content: {}, status: {}",
-                message.getId(), message.getStatus());
-
-        try {
-            // userId 필드가 없는 경우 처리
-            if (message.getUserId() == null || message.getUserId().isEmpty()) {
-                log.warn("Status update missing userId for content: {}", message.getId());
+    /**
+     * 상태 업데이트 배치 처리
+     * 같은 콘텐츠의 업데이트는 단계 순위가 가장 높은 상태로 병합하여 한 번만 기록/알림
+     * (상태 반영은 순위 조건부라 여러 컨슈머가 동시에 처리해도 안전)
+     */
+    @RabbitListener(queues = RabbitMQConstants.STATUS_UPDATE_QUEUE, containerFactory = "statusBatchContainerFactory")
+    public void consumeStatusUpdates(List<StatusEvent> events) {
+        log.debug("Received {} status updates", events.size());
+
+        Map<String, StatusUpdate> coalesced = new LinkedHashMap<>();
+
+        for (StatusEvent event : events) {
+            if (event.getId() == null || event.getStatus() == null) {
+                log.warn("Ignoring status update without id/status: {}", event.getId());
+                continue;
             }
 
-            // 파일명 필드가 없는 경우 처리
-            if (message.getFileName() == null || message.getFileName().isEmpty()) {
-                log.warn("Status update missing fileName for content: {}", message.getId());
+            // userId 필드가 없는 경우 처리
+            if (event.getUserId() == null || event.getUserId().isEmpty()) {
+                log.warn("Status update missing userId for content: {}", event.getId());
             }
 
-            //status에서 PROCCESSED 받을 경우 COMPLETED 호출
-            if (message.getStatus() == ContentStatus.PROCESSED) {
-                message.setStatus(ContentStatus.COMPLETED);
-            }
+            StatusUpdate update = StatusUpdate.from(event);
+            coalesced.merge(event.getId(), update, StatusUpdate::merge);
+        }
 
-            // 상태 업데이트 서비스 호출 (웹소켓 알림 포함)
-            boolean updated = statusService.updateStatus(
-                    message.getId(),
-                    message.getUserId(),      // 사용자 ID 전달
-                    message.getFileName(),    // 파일명 전달
-                    message.getStatus(),
-                    message.getErrorMessage(),
-                    message.getAccessUrl()
-            );
-
-            if (updated) {
-                log.debug("Status updated successfully for content: {}", message.getId());
-            } else {
-                log.warn("Failed to update status for content: {}", message.getId());
-            }
-        } catch (Exception e) {
-            log.error("Error processing status update for content: {}", message.getId(), e);
+        if (coalesced.isEmpty()) {
+            return;
         }
+
+        // 일괄 업서트 및 콘텐츠별 웹소켓 알림
+        // 실패 시 예외를 그대로 던져 배치가 확인(ack)되지 않고 지연 재시도로 넘어가게 한다
+        statusService.applyStatusUpdates(coalesced.values());
+
+        log.debug("Applied {} coalesced status updates from {} messages", coalesced.size(), events.size());
     }
-}
\ No newline at end of file
+}
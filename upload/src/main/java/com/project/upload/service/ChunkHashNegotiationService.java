@@ -0,0 +1,79 @@
+package com.project.upload.service;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.project.common.model.ChunkHashManifest;
+import com.project.common.model.ChunkHashMatch;
+import com.project.common.model.ContentPriority;
+import com.project.common.model.ContentStatus;
+import com.project.common.model.StatusEvent;
+import com.project.upload.entity.UploadSessionEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 청크 해시 협상 (델타 업로드)
+ *
+ * 클라이언트가 데이터 전송 전에 보낸 청크별 SHA-256 을 저장 서비스에 전달하고,
+ * 저장 서비스가 이미 가진 청크는 세션에 수신된 것으로 기록하여 나머지 청크만 전송받는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkHashNegotiationService {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final PipelinePublisher pipelinePublisher;
+    private final UploadSessionService uploadSessionService;
+
+    /**
+     * 저장 서비스에 청크 해시 협상 요청 (RPC) 후 이미 저장된 청크를 수신 기록
+     *
+     * @param chunkHashes 인덱스 순서의 청크 SHA-256 (hex, 모르면 null)
+     * @return 협상 결과, 응답 시간 초과 시 null
+     */
+    public ChunkHashMatch negotiate(UploadSessionEntity session, List<String> chunkHashes) {
+        ChunkHashManifest request = new ChunkHashManifest(
+                session.getContentId(), session.getUserId(), session.getFileName(), session.getContentType(),
+                session.getFileSize(), session.getChunkSize(), session.getTotalChunks(),
+                ContentPriority.from(session.getPriority()),
+                chunkHashes);
+
+        ChunkHashMatch match = rabbitTemplate.convertSendAndReceiveAsType(
+                RabbitMQConstants.CONTENT_EXCHANGE,
+                RabbitMQConstants.CHUNK_HASH_ROUTING_KEY,
+                request,
+                new ParameterizedTypeReference<ChunkHashMatch>() {});
+
+        if (match == null) {
+            log.warn("Chunk hash negotiation timed out for content: {}", session.getContentId());
+            return null;
+        }
+        if (match.getErrorMessage() != null || match.getExistingChunks().isEmpty()) {
+            return match;
+        }
+
+        BitSet existing = new BitSet();
+        match.getExistingChunks().forEach(existing::set);
+        UploadSessionService.ChunkReceipt receipt =
+                uploadSessionService.markChunksReceived(session.getContentId(), existing);
+
+        // 이미 저장된 청크만으로 모두 채워지면 업로드 완료 상태 발행 (병합은 저장 서비스가 바로 시작)
+        if (receipt.firstCompletion()) {
+            pipelinePublisher.publish(Outbound.status(new StatusEvent(session.getContentId(), session.getUserId(),
+                    session.getFileName(), ContentStatus.UPLOADED, null, null, System.currentTimeMillis())));
+            log.info("All chunks already stored for content: {}", session.getContentId());
+        }
+
+        log.info("Chunk hashes negotiated: contentId={}, existing={}/{}",
+                session.getContentId(), existing.cardinality(), session.getTotalChunks());
+        return match;
+    }
+}
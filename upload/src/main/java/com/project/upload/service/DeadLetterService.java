@@ -0,0 +1,369 @@
+package com.project.upload.service;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.project.common.messaging.ProcessingLane;
+import com.project.common.model.ContentMessage;
+import com.project.common.model.ContentStatus;
+import com.project.common.model.StatusEvent;
+import com.project.common.model.ValidationResult;
+import com.project.upload.dto.DeadLetterEntry;
+import com.project.upload.dto.DeadLetterResult;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * DLQ 조회/재처리/정리
+ *
+ * RabbitMQ 큐는 읽기 전용 조회가 없으므로 basic.get(수동 ack)으로 메시지를 꺼내 본 뒤,
+ * 남길 메시지는 작업이 끝날 때 한꺼번에 nack(requeue) 하여 원래 순서대로 되돌린다.
+ * 한 번에 확인하는 메시지 수는 dlq.scan-limit 으로 제한한다.
+ *
+ * 재처리는 원래 라우팅 키(x-original-routing-key, 없으면 x-death)로 다시 발행하며,
+ * 장애 복구 직후 저장소(MinIO)에 요청이 몰리지 않도록 초당 dlq.replay.rate-per-second 건으로 제한한다.
+ * 발행이 확인된 메시지만 DLQ 에서 제거한다.
+ * DLQ 로 보낼 때 기록된 실패 상태는 종료 순위라 이후 상태가 무시되므로, 재발행 전에 재처리할 단계 직전 상태로
+ * 되돌리고 발행에 실패하면 다시 실패 상태로 기록한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterService {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final PipelinePublisher pipelinePublisher;
+    private final MessageConverter messageConverter;
+    private final StatusService statusService;
+
+    @Value("${dlq.scan-limit:1000}")
+    private int scanLimit;
+
+    @Value("${dlq.replay.rate-per-second:20}")
+    private double replayRatePerSecond;
+
+    @Value("${dlq.retention-hours:72}")
+    private long retentionHours;
+
+    private final DefaultMessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+
+    // 재처리 속도 제한 (여러 요청이 동시에 재처리해도 전체 속도는 동일)
+    private final Object replayThrottleLock = new Object();
+    private long nextReplayAt = System.nanoTime();
+
+    /**
+     * 조회/재처리 조건 (null 인 조건은 무시)
+     * stage 와 error 는 부분 일치(대소문자 무시), contentId 는 완전 일치
+     */
+    public record Filter(String contentId, String stage, String error) {
+
+        boolean matches(DeadLetterEntry entry) {
+            return (contentId == null || contentId.equals(entry.contentId()))
+                    && contains(entry.stage(), stage)
+                    && contains(entry.error(), error);
+        }
+
+        private static boolean contains(String value, String keyword) {
+            return keyword == null || keyword.isBlank()
+                    || (value != null && value.toLowerCase().contains(keyword.toLowerCase()));
+        }
+    }
+
+    private enum Action { KEEP, REMOVE }
+
+    @FunctionalInterface
+    private interface ScanHandler {
+        Action handle(DeadLetterEntry entry, Message message) throws Exception;
+    }
+
+    /**
+     * 조건에 맞는 DLQ 메시지 목록 (큐에서 제거하지 않음)
+     */
+    public List<DeadLetterEntry> browse(Filter filter, int limit) {
+        List<DeadLetterEntry> entries = new ArrayList<>();
+        scan(limit, (entry, message) -> {
+            if (filter.matches(entry)) {
+                entries.add(entry);
+            }
+            return Action.KEEP;
+        }, () -> entries.size() >= limit);
+        return entries;
+    }
+
+    /**
+     * 조건에 맞는 메시지를 원래 단계로 재발행 (최대 limit 건, 속도 제한)
+     */
+    public DeadLetterResult replay(Filter filter, int limit) {
+        int[] counts = new int[2]; // 재발행, 실패
+        int scanned = scan(limit, (entry, message) -> {
+            if (!filter.matches(entry)) {
+                return Action.KEEP;
+            }
+
+            String routingKey = originalRoutingKey(message.getMessageProperties());
+            if (routingKey == null) {
+                log.warn("Dead letter at position {} has no original routing key, skipping", entry.position());
+                counts[1]++;
+                return Action.KEEP;
+            }
+
+            throttleReplay();
+            boolean reset = resetStatus(entry.contentId(), routingKey);
+            try {
+                pipelinePublisher.publishAndWait(new Outbound(originalExchange(message.getMessageProperties()),
+                        routingKey, prepareReplay(message)));
+                counts[0]++;
+                return Action.REMOVE;
+            } catch (Exception e) {
+                log.error("Failed to replay dead letter for content {} to {}: {}",
+                        entry.contentId(), routingKey, e.getMessage());
+                if (reset) {
+                    // 메시지는 DLQ 에 남으므로 실패 상태로 되돌림
+                    statusService.updateStatus(entry.contentId(), null, null, ContentStatus.FAILED, entry.error(), null);
+                }
+                counts[1]++;
+                return Action.KEEP;
+            }
+        }, () -> counts[0] + counts[1] >= limit);
+
+        log.info("DLQ replay finished: scanned={}, replayed={}, failed={}", scanned, counts[0], counts[1]);
+        return new DeadLetterResult(scanned, counts[0], counts[1]);
+    }
+
+    /**
+     * 보관 기간이 지난 메시지 삭제
+     *
+     * @param olderThanHours 보관 기간 (null 이면 dlq.retention-hours)
+     */
+    public DeadLetterResult purgeExpired(Long olderThanHours) {
+        long hours = olderThanHours != null ? olderThanHours : retentionHours;
+        long cutoff = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(hours);
+
+        int[] purged = new int[1];
+        int scanned = scan(scanLimit, (entry, message) -> {
+            if (entry.deadLetteredAt() != null && entry.deadLetteredAt() < cutoff) {
+                purged[0]++;
+                return Action.REMOVE;
+            }
+            return Action.KEEP;
+        }, () -> false);
+
+        log.info("DLQ purge finished: scanned={}, purged={} (older than {}h)", scanned, purged[0], hours);
+        return new DeadLetterResult(scanned, purged[0], 0);
+    }
+
+    /**
+     * DLQ 를 앞에서부터 꺼내며 처리하고, 남길 메시지는 끝난 뒤 모두 되돌림
+     */
+    private int scan(int limit, ScanHandler handler, BooleanSupplier done) {
+        int maxScan = Math.max(limit, scanLimit);
+        Integer scanned = rabbitTemplate.execute(channel -> {
+            List<Long> keep = new ArrayList<>();
+            int position = 0;
+            try {
+                while (position < maxScan && !done.getAsBoolean()) {
+                    GetResponse response = channel.basicGet(RabbitMQConstants.DLQ_QUEUE, false);
+                    if (response == null) {
+                        break;
+                    }
+                    long deliveryTag = response.getEnvelope().getDeliveryTag();
+                    Message message = toMessage(response);
+                    DeadLetterEntry entry = describe(position++, message);
+
+                    if (handler.handle(entry, message) == Action.REMOVE) {
+                        channel.basicAck(deliveryTag, false);
+                    } else {
+                        keep.add(deliveryTag);
+                    }
+                }
+            } finally {
+                requeue(channel, keep);
+            }
+            return position;
+        });
+        return scanned != null ? scanned : 0;
+    }
+
+    private static void requeue(Channel channel, List<Long> deliveryTags) throws IOException {
+        for (Long deliveryTag : deliveryTags) {
+            channel.basicNack(deliveryTag, false, true);
+        }
+    }
+
+    private Message toMessage(GetResponse response) {
+        MessageProperties properties = propertiesConverter.toMessageProperties(
+                response.getProps(), response.getEnvelope(), StandardCharsets.UTF_8.name());
+        properties.setMessageCount(response.getMessageCount());
+        return new Message(response.getBody(), properties);
+    }
+
+    private DeadLetterEntry describe(int position, Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        Object retryCount = properties.getHeader(RabbitMQConstants.X_RETRY_COUNT);
+        return new DeadLetterEntry(
+                position,
+                contentId(message),
+                originalRoutingKey(properties),
+                error(properties),
+                retryCount instanceof Number number ? number.intValue() : 0,
+                deadLetteredAt(properties),
+                message.getBody().length);
+    }
+
+    /**
+     * 콘텐츠 ID (청크 헤더 우선, 없으면 본문 변환)
+     */
+    private String contentId(Message message) {
+        Object header = message.getMessageProperties().getHeader(RabbitMQConstants.X_CONTENT_ID);
+        if (header != null) {
+            return header.toString();
+        }
+        try {
+            Object payload = messageConverter.fromMessage(message);
+            if (payload instanceof ContentMessage content) {
+                return content.getId();
+            }
+            if (payload instanceof StatusEvent event) {
+                return event.getId();
+            }
+            if (payload instanceof ValidationResult result) {
+                return result.getContentId();
+            }
+        } catch (Exception e) {
+            log.debug("Failed to read dead letter payload: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private static String originalRoutingKey(MessageProperties properties) {
+        Object header = properties.getHeader(RabbitMQConstants.X_ORIGINAL_ROUTING_KEY);
+        if (header != null) {
+            return header.toString();
+        }
+        Map<String, ?> death = firstDeath(properties);
+        if (death != null && death.get("routing-keys") instanceof List<?> keys && !keys.isEmpty()) {
+            return keys.get(0).toString();
+        }
+        return null;
+    }
+
+    private static String originalExchange(MessageProperties properties) {
+        Object header = properties.getHeader(RabbitMQConstants.X_ORIGINAL_EXCHANGE);
+        if (header != null && !header.toString().isEmpty()) {
+            return header.toString();
+        }
+        Map<String, ?> death = firstDeath(properties);
+        if (death != null && death.get("exchange") instanceof String exchange && !exchange.isEmpty()) {
+            return exchange;
+        }
+        return RabbitMQConstants.CONTENT_EXCHANGE;
+    }
+
+    private static String error(MessageProperties properties) {
+        Object header = properties.getHeader(RabbitMQConstants.X_EXCEPTION_MESSAGE);
+        if (header != null) {
+            return header.toString();
+        }
+        Map<String, ?> death = firstDeath(properties);
+        return death != null && death.get("reason") != null ? death.get("reason").toString() : null;
+    }
+
+    private static Long deadLetteredAt(MessageProperties properties) {
+        Object header = properties.getHeader(RabbitMQConstants.X_DEAD_LETTERED_AT);
+        if (header instanceof Number number) {
+            return number.longValue();
+        }
+        Map<String, ?> death = firstDeath(properties);
+        if (death != null && death.get("time") instanceof Date time) {
+            return time.getTime();
+        }
+        return properties.getTimestamp() != null ? properties.getTimestamp().getTime() : null;
+    }
+
+    private static Map<String, ?> firstDeath(MessageProperties properties) {
+        List<Map<String, ?>> deaths = properties.getXDeathHeader();
+        return deaths != null && !deaths.isEmpty() ? deaths.get(0) : null;
+    }
+
+    /**
+     * 재처리 전 실패 상태를 재처리할 단계 직전 상태로 되돌림
+     */
+    private boolean resetStatus(String contentId, String routingKey) {
+        ContentStatus status = replayStatus(routingKey);
+        if (contentId == null || status == null) {
+            return false;
+        }
+        return statusService.resetFailedForReplay(contentId, status);
+    }
+
+    /**
+     * 재처리 단계가 기대하는 직전 상태 (상태와 무관한 메시지는 null)
+     */
+    static ContentStatus replayStatus(String routingKey) {
+        String key = routingKey.endsWith(RabbitMQConstants.HIGH_LANE_SUFFIX)
+                ? routingKey.substring(0, routingKey.length() - RabbitMQConstants.HIGH_LANE_SUFFIX.length())
+                : routingKey;
+        if (ProcessingLane.isLaneRoutingKey(key)) {
+            return ContentStatus.VALIDATED;
+        }
+        return switch (key) {
+            case RabbitMQConstants.UPLOAD_ROUTING_KEY, RabbitMQConstants.CHUNK_STORAGE_ROUTING_KEY,
+                 RabbitMQConstants.CHUNK_MERGER_ROUTING_KEY -> ContentStatus.UPLOADING;
+            case RabbitMQConstants.VALIDATION_ROUTING_KEY -> ContentStatus.UPLOADED;
+            case RabbitMQConstants.PROCESSING_ROUTING_KEY -> ContentStatus.VALIDATED;
+            case RabbitMQConstants.STORAGE_ROUTING_KEY -> ContentStatus.PROCESSED;
+            default -> null;
+        };
+    }
+
+    /**
+     * 재처리 메시지 정리: 재시도 횟수를 초기화하여 원래 단계에서 다시 재시도 기회를 가짐
+     */
+    private static Message prepareReplay(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        properties.getHeaders().remove(RabbitMQConstants.X_RETRY_COUNT);
+        properties.getHeaders().remove(RabbitMQConstants.X_RETRY_DELAY);
+        properties.getHeaders().remove(RabbitMQConstants.X_EXCEPTION_MESSAGE);
+        properties.getHeaders().remove(RabbitMQConstants.X_DEAD_LETTERED_AT);
+        if (properties.getDeliveryMode() == null) {
+            properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        }
+        return message;
+    }
+
+    private void throttleReplay() throws InterruptedException {
+        if (replayRatePerSecond <= 0) {
+            return;
+        }
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / replayRatePerSecond);
+        long waitNanos;
+        synchronized (replayThrottleLock) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextReplayAt);
+            nextReplayAt = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.upload.service;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.model.ContentMessage;
+import com.project.common.model.ContentPriority;
+import com.project.common.model.ContentStatus;
+import com.project.common.model.DirectUploadTicket;
+import com.project.common.model.StatusEvent;
+import com.project.upload.entity.UploadSessionEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+
+/**
+ * 객체 저장소 직접 업로드 조정
+ *
+ * 청크 바이트는 클라이언트가 presigned URL로 MinIO에 바로 올리고,
+ * 이 서비스는 저장 서비스에 URL 발급을 요청하고 완료 메시지 하나만 발행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DirectUploadService {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final PipelinePublisher pipelinePublisher;
+
+    /**
+     * 저장 서비스에 청크별 presigned PUT URL 발급 요청 (RPC)
+     *
+     * @return 발급 결과, 응답 시간 초과 시 null
+     */
+    public DirectUploadTicket requestTicket(UploadSessionEntity session) {
+        ContentMessage request = createSessionMessage(session);
+
+        DirectUploadTicket ticket = rabbitTemplate.convertSendAndReceiveAsType(
+                RabbitMQConstants.CONTENT_EXCHANGE,
+                RabbitMQConstants.DIRECT_UPLOAD_PRESIGN_ROUTING_KEY,
+                request,
+                new ParameterizedTypeReference<DirectUploadTicket>() {});
+
+        if (ticket == null) {
+            log.warn("Direct upload ticket request timed out for content: {}", session.getContentId());
+        }
+        return ticket;
+    }
+
+    /**
+     * 업로드 완료 메시지 발행 (저장 서비스가 청크 확인 후 병합)
+     */
+    public void publishCompletion(UploadSessionEntity session) {
+        ContentMessage message = createSessionMessage(session);
+        message.setStatus(ContentStatus.UPLOADED);
+
+        pipelinePublisher.transition(StatusEvent.from(message),
+                RabbitMQConstants.CHUNK_MERGER_ROUTING_KEY, message);
+
+        log.info("Direct upload completed for content: {}, chunks: {}",
+                session.getContentId(), session.getTotalChunks());
+    }
+
+    private ContentMessage createSessionMessage(UploadSessionEntity session) {
+        ContentMessage message = new ContentMessage();
+        message.setId(session.getContentId());
+        message.setUserId(session.getUserId());
+        message.setFileName(session.getFileName());
+        message.setContentType(session.getContentType());
+        message.setFileSize(session.getFileSize());
+        message.setTotalChunks(session.getTotalChunks());
+        message.setPriority(ContentPriority.from(session.getPriority()));
+        message.setStatus(ContentStatus.UPLOADING);
+        message.setTimestamp(System.currentTimeMillis());
+        return message;
+    }
+}
@@ -0,0 +1,174 @@
+package com.project.upload.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.project.upload.dto.ContentStatusDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 콘텐츠 상태 조회 캐시 (콘텐츠별 상태 / 사용자별 이력)
+ *
+ * 조회 시 없으면 DB에서 읽어 채우고(read-through), 상태 컨슈머가 반영한 결과로 즉시 갱신한다(write-through).
+ * 크기 상한과 TTL로 만료되며, 적중/미스 지표는 actuator metrics(cache.*)로 노출된다.
+ *
+ * 상태 큐는 경쟁 소비라 갱신을 반영한 인스턴스의 캐시만 write-through 된다.
+ * 반영한 인스턴스가 바뀐 키를 fanout 교환기로 알리면 다른 업로드 인스턴스는 해당 항목을 제거하여
+ * 다음 조회에서 DB 값을 읽는다 (단일 인스턴스 운영 시 upload.status.cache.broadcast: false 로 끌 수 있음).
+ */
+@Slf4j
+@Component
+public class StatusCache {
+
+    private static final Comparator<ContentStatusDTO> NEWEST_FIRST =
+            Comparator.comparing(ContentStatusDTO::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final Cache<String, ContentStatusDTO> contentCache;
+    private final Cache<String, List<ContentStatusDTO>> userCache;
+    private final PipelinePublisher pipelinePublisher;
+    private final boolean broadcast;
+
+    // 자기 무효화 알림을 구분하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 다른 인스턴스에 알리는 무효화 대상 키
+     */
+    public record Invalidation(String origin, Set<String> contentIds, Set<String> userIds) {
+    }
+
+    public StatusCache(MeterRegistry meterRegistry,
+                       PipelinePublisher pipelinePublisher,
+                       @Value("${upload.status.cache.max-contents:10000}") long maxContents,
+                       @Value("${upload.status.cache.max-users:1000}") long maxUsers,
+                       @Value("${upload.status.cache.ttl-seconds:300}") long ttlSeconds,
+                       @Value("${upload.status.cache.broadcast:true}") boolean broadcast) {
+        this.pipelinePublisher = pipelinePublisher;
+        this.broadcast = broadcast;
+        this.contentCache = Caffeine.newBuilder()
+                .maximumSize(maxContents)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, contentCache, "status.content");
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, "status.user");
+    }
+
+    /**
+     * 콘텐츠 상태 조회 (없으면 loader로 DB 조회, null 결과는 캐시하지 않음)
+     */
+    public ContentStatusDTO getContent(String contentId, Function<String, ContentStatusDTO> loader) {
+        return contentCache.get(contentId, loader);
+    }
+
+    /**
+     * 사용자 이력 조회 (최신순)
+     */
+    public List<ContentStatusDTO> getUserHistory(String userId, Function<String, List<ContentStatusDTO>> loader) {
+        return userCache.get(userId, id -> List.copyOf(loader.apply(id)));
+    }
+
+    /**
+     * DB에 반영된 최신 상태로 캐시 갱신
+     * 사용자 이력은 이미 캐시된 경우에만 해당 항목을 교체하거나 맨 앞에 추가
+     */
+    public void put(ContentStatusDTO status) {
+        // 여러 컨슈머가 동시에 갱신하므로 이전 단계 스냅샷이 최신 상태를 덮어쓰지 않도록 함
+        contentCache.asMap().merge(status.getContentId(), status, StatusCache::newer);
+
+        if (status.getUserId() == null || status.getUserId().isEmpty()) {
+            return;
+        }
+        userCache.asMap().computeIfPresent(status.getUserId(), (userId, history) -> {
+            List<ContentStatusDTO> updated = new ArrayList<>(history.size() + 1);
+            ContentStatusDTO latest = status;
+            for (ContentStatusDTO item : history) {
+                if (item.getContentId().equals(status.getContentId())) {
+                    latest = newer(item, status);
+                } else {
+                    updated.add(item);
+                }
+            }
+            updated.add(latest);
+            updated.sort(NEWEST_FIRST);
+            return List.copyOf(updated);
+        });
+    }
+
+    /**
+     * 갱신한 키를 다른 업로드 인스턴스에 알림 (발행 실패 시 TTL 까지 다른 인스턴스의 캐시가 늦을 뿐)
+     */
+    public void broadcastInvalidation(Collection<String> contentIds, Collection<String> userIds) {
+        if (!broadcast || contentIds.isEmpty()) {
+            return;
+        }
+
+        Set<String> users = new HashSet<>();
+        for (String userId : userIds) {
+            if (userId != null && !userId.isEmpty()) {
+                users.add(userId);
+            }
+        }
+        try {
+            pipelinePublisher.publish(new Outbound(RabbitMQConstants.STATUS_CACHE_EXCHANGE, "",
+                    new Invalidation(instanceId, Set.copyOf(contentIds), users)));
+        } catch (Exception e) {
+            log.warn("Failed to broadcast status cache invalidation ({} contents)", contentIds.size(), e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 갱신한 항목 제거 (자기 알림은 이미 write-through 되었으므로 무시)
+     */
+    public void applyInvalidation(Invalidation invalidation) {
+        if (instanceId.equals(invalidation.origin())) {
+            return;
+        }
+        if (invalidation.contentIds() != null) {
+            contentCache.invalidateAll(invalidation.contentIds());
+        }
+        if (invalidation.userIds() != null) {
+            userCache.invalidateAll(invalidation.userIds());
+        }
+    }
+
+    private static ContentStatusDTO newer(ContentStatusDTO current, ContentStatusDTO candidate) {
+        if (current.getStatus() == null || current.getStatus() == candidate.getStatus()
+                || current.getStatus().canTransitionTo(candidate.getStatus())) {
+            return candidate;
+        }
+        return current;
+    }
+
+    /**
+     * 캐시 항목 제거 (전체 행을 알 수 없는 갱신 경로에서 사용)
+     */
+    public void evict(String contentId, String userId) {
+        contentCache.invalidate(contentId);
+        if (userId != null && !userId.isEmpty()) {
+            userCache.invalidate(userId);
+        }
+    }
+}
@@ -1,15 +1,31 @@
 package com.project.upload.service;
 
 import com.project.common.model.ContentStatus;
+import com.project.common.model.StatusEvent;
 import com.project.upload.dto.ContentStatusDTO;
+import com.project.upload.dto.ContentStatusPageDTO;
+import com.project.upload.dto.ContentStatusSummary;
 import com.project.upload.entity.ContentStatusEntity;
 import com.project.upload.entity.ContentStatusRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,59 +38,253 @@ public class StatusService {
 
     private final ContentStatusRepository contentStatusRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StatusCache statusCache;
+
+    // 목록 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // DB 종류에 맞는 업서트 구문 (최초 사용 시 결정)
+    private volatile String upsertSql;
+
+    // 단계 순위가 높아지는 경우에만 상태 변경 (읽기 없이 한 문장으로 판단)
+    private static final String CONDITIONAL_UPDATE_SQL = """
+            UPDATE content_status
+            SET status = ?, stage_rank = ?,
+                error_message = COALESCE(?, error_message),
+                access_url = COALESCE(?, access_url),
+                updated_at = ?
+            WHERE content_id = ? AND stage_rank < ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO content_status
+                (content_id, user_id, file_name, status, stage_rank, error_message, access_url, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // DLQ 재처리: 실패 종료 상태만 재처리 단계 직전 상태로 되돌림 (순위 조건을 거치지 않는 유일한 갱신)
+    private static final String RESET_FAILED_SQL = """
+            UPDATE content_status
+            SET status = ?, stage_rank = ?, error_message = NULL, updated_at = ?
+            WHERE content_id = ? AND status IN (?, ?)
+            """;
+
+    // MariaDB/MySQL: 고유 인덱스(content_id) 충돌 시 순위가 높아지는 경우에만 갱신
+    // (할당은 왼쪽부터 적용되므로 stage_rank는 마지막에 갱신)
+    private static final String MARIADB_UPSERT_SQL = """
+            INSERT INTO content_status
+                (content_id, user_id, file_name, status, stage_rank, error_message, access_url, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                status = IF(stage_rank < VALUES(stage_rank), VALUES(status), status),
+                error_message = IF(stage_rank < VALUES(stage_rank),
+                        COALESCE(VALUES(error_message), error_message), error_message),
+                access_url = IF(stage_rank < VALUES(stage_rank),
+                        COALESCE(VALUES(access_url), access_url), access_url),
+                updated_at = IF(stage_rank < VALUES(stage_rank), VALUES(updated_at), updated_at),
+                stage_rank = GREATEST(stage_rank, VALUES(stage_rank))
+            """;
+
+    // 그 외 (H2 등): 표준 MERGE
+    private static final String STANDARD_UPSERT_SQL = """
+            MERGE INTO content_status t
+            USING (VALUES (CAST(? AS VARCHAR(50)), CAST(? AS VARCHAR(50)), CAST(? AS VARCHAR(255)),
+                           CAST(? AS VARCHAR(30)), CAST(? AS INT), CAST(? AS VARCHAR(1000)),
+                           CAST(? AS VARCHAR(1000)), CAST(? AS BIGINT), CAST(? AS BIGINT)))
+                AS s (content_id, user_id, file_name, status, stage_rank, error_message, access_url,
+                      created_at, updated_at)
+            ON t.content_id = s.content_id
+            WHEN MATCHED AND t.stage_rank < s.stage_rank THEN UPDATE SET
+                status = s.status,
+                stage_rank = s.stage_rank,
+                error_message = COALESCE(s.error_message, t.error_message),
+                access_url = COALESCE(s.access_url, t.access_url),
+                updated_at = s.updated_at
+            WHEN NOT MATCHED THEN INSERT
+                (content_id, user_id, file_name, status, stage_rank, error_message, access_url,
+                 created_at, updated_at)
+            VALUES (s.content_id, s.user_id, s.file_name, s.status, s.stage_rank, s.error_message,
+                    s.access_url, s.created_at, s.updated_at)
+            """;
+
+    /**
+     * 병합된 상태 업데이트 일괄 반영
+     * 한 번의 JDBC 배치로 업서트한 뒤 커밋 후 콘텐츠별로 웹소켓 알림을 한 번씩 전송
+     */
+    public void applyStatusUpdates(Collection<StatusUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> batchUpsert(updates));
+        } catch (DataAccessException e) {
+            // 배치 중 한 건의 오류로 전체가 유실되지 않도록 개별 처리로 대체
+            log.warn("Batch status upsert failed, applying {} updates individually", updates.size(), e);
+            DataAccessException failure = null;
+            for (StatusUpdate update : updates) {
+                try {
+                    applyStatus(update.contentId(), update.userId(), update.fileName(), update.status(),
+                            update.errorMessage(), update.accessUrl());
+                } catch (DataAccessException rowFailure) {
+                    log.error("Failed to update status: contentId={}, status={}",
+                            update.contentId(), update.status(), rowFailure);
+                    if (failure == null) {
+                        failure = rowFailure;
+                    } else {
+                        failure.addSuppressed(rowFailure);
+                    }
+                }
+            }
+            if (failure != null) {
+                // 반영하지 못한 업데이트가 있으면 호출자(배치 컨슈머)가 재시도하도록 전파
+                throw failure;
+            }
+            return;
+        }
+
+        // 반영 결과로 캐시 갱신 후, 실제로 반영된 (늦게 도착해 무시되지 않은) 상태만 알림
+        Map<String, ContentStatus> applied = updates.stream()
+                .collect(Collectors.toMap(StatusUpdate::contentId, StatusUpdate::status, (a, b) -> b));
+        List<String> userIds = new ArrayList<>(applied.size());
+        for (ContentStatusEntity entity : contentStatusRepository.findByContentIdIn(applied.keySet())) {
+            statusCache.put(mapToDTO(entity));
+            userIds.add(entity.getUserId());
+            if (entity.getStatus() == applied.get(entity.getContentId())) {
+                sendStatusUpdateWebSocket(entity);
+            }
+        }
+        statusCache.broadcastInvalidation(applied.keySet(), userIds);
+
+        log.debug("Batch status upsert applied: {} contents", updates.size());
+    }
+
+    private void batchUpsert(Collection<StatusUpdate> updates) {
+        List<StatusUpdate> rows = List.copyOf(updates);
+        long now = System.currentTimeMillis();
+
+        jdbcTemplate.batchUpdate(resolveUpsertSql(), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StatusUpdate update = rows.get(i);
+                ps.setString(1, update.contentId());
+                // user_id는 NOT NULL 컬럼 - 신규 행인데 사용자 정보가 없는 경우 빈 값으로 저장
+                ps.setString(2, update.userId() != null ? update.userId() : "");
+                ps.setString(3, update.fileName());
+                ps.setString(4, update.status().name());
+                ps.setInt(5, update.status().getStageRank());
+                ps.setString(6, update.errorMessage());
+                ps.setString(7, update.accessUrl());
+                ps.setLong(8, now);
+                ps.setLong(9, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    private String resolveUpsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            boolean mysqlFamily = product != null
+                    && (product.toLowerCase().contains("mariadb") || product.toLowerCase().contains("mysql"));
+            sql = mysqlFamily ? MARIADB_UPSERT_SQL : STANDARD_UPSERT_SQL;
+            upsertSql = sql;
+            log.info("Status upsert dialect: {} ({})", mysqlFamily ? "mariadb" : "standard", product);
+        }
+        return sql;
+    }
 
     /**
      * 콘텐츠 상태 업데이트 및 웹소켓으로 알림
+     * 기존 상태보다 단계 순위가 높은 경우에만 반영 (조건부 UPDATE, 없으면 INSERT)
+     *
+     * @return 상태가 반영되었는지 여부 (늦게 도착한 이전 단계 상태는 false)
      */
-    @Transactional
     public boolean updateStatus(String contentId, String userId, String fileName, ContentStatus status,
                                 String errorMessage, String accessUrl) {
         try {
-            // 기존 상태 조회
-            ContentStatusEntity entity = contentStatusRepository.findByContentId(contentId)
-                    .orElse(new ContentStatusEntity());
+            return applyStatus(contentId, userId, fileName, status, errorMessage, accessUrl);
+        } catch (Exception e) {
+            log.error("Failed to update status: contentId={}, status={}", contentId, status, e);
+            return false;
+        }
+    }
 
-            // 상태 업데이트
-            entity.setContentId(contentId);
+    private boolean applyStatus(String contentId, String userId, String fileName, ContentStatus status,
+                                String errorMessage, String accessUrl) {
+        long now = System.currentTimeMillis();
 
-            // 사용자 ID와 파일명 설정 (처음 저장할 때만)
-            if (entity.getId() == null) {
-                entity.setCreatedAt(System.currentTimeMillis());
+        int updated = jdbcTemplate.update(CONDITIONAL_UPDATE_SQL,
+                status.name(), status.getStageRank(), errorMessage, accessUrl, now,
+                contentId, status.getStageRank());
 
-                if (userId != null && !userId.isEmpty()) {
-                    entity.setUserId(userId);
-                }
-                if (fileName != null && !fileName.isEmpty()) {
-                    entity.setFileName(fileName);
-                }
+        if (updated == 0) {
+            try {
+                // 첫 상태 기록 (user_id는 NOT NULL 컬럼)
+                jdbcTemplate.update(INSERT_SQL,
+                        contentId, userId != null ? userId : "", fileName, status.name(),
+                        status.getStageRank(), errorMessage, accessUrl, now, now);
+            } catch (DuplicateKeyException e) {
+                // 이미 같거나 이후 단계 상태가 기록되어 있음
+                log.debug("Ignoring stale status: contentId={}, status={}", contentId, status);
+                return false;
             }
+        }
 
-            entity.setStatus(status);
-            entity.setUpdatedAt(System.currentTimeMillis());
+        // 행 전체를 읽지 않았으므로 캐시는 제거 후 다음 조회에서 다시 채움
+        statusCache.evict(contentId, userId);
+        statusCache.broadcastInvalidation(List.of(contentId), Collections.singletonList(userId));
 
-            // 오류 메시지 업데이트 (있는 경우)
-            if (errorMessage != null) {
-                entity.setErrorMessage(errorMessage);
-            }
+        // 웹소켓으로 상태 업데이트 전송
+        ContentStatusEntity entity = new ContentStatusEntity();
+        entity.setContentId(contentId);
+        entity.setUserId(userId);
+        entity.setFileName(fileName);
+        entity.setStatus(status);
+        entity.setErrorMessage(errorMessage);
+        entity.setAccessUrl(accessUrl);
+        entity.setUpdatedAt(now);
+        sendStatusUpdateWebSocket(entity);
 
-            // 액세스 URL 업데이트 (있는 경우)
-            if (accessUrl != null) {
-                entity.setAccessUrl(accessUrl);
-            }
+        log.debug("Status updated: contentId={}, status={}", contentId, status);
+        return true;
+    }
 
-            // 엔티티 저장
-            contentStatusRepository.save(entity);
+    /**
+     * DLQ 재처리 전 실패 상태 되돌리기
+     * 실패 상태는 종료 순위라 이후 상태가 모두 무시되므로, 재처리할 단계 직전 상태로 순위를 낮춰
+     * 재발행된 메시지가 다시 완료까지 진행할 수 있게 한다 (완료/취소 등 다른 종료 상태는 유지)
+     *
+     * @return 상태를 되돌렸는지 여부
+     */
+    public boolean resetFailedForReplay(String contentId, ContentStatus status) {
+        long now = System.currentTimeMillis();
+        int updated = jdbcTemplate.update(RESET_FAILED_SQL,
+                status.name(), status.getStageRank(), now,
+                contentId, ContentStatus.FAILED.name(), ContentStatus.VALIDATION_FAILED.name());
+        if (updated == 0) {
+            return false;
+        }
 
-            // 웹소켓으로 상태 업데이트 전송
+        statusCache.evict(contentId, null);
+        contentStatusRepository.findByContentId(contentId).ifPresentOrElse(entity -> {
+            statusCache.put(mapToDTO(entity));
+            statusCache.broadcastInvalidation(List.of(contentId), Collections.singletonList(entity.getUserId()));
             sendStatusUpdateWebSocket(entity);
+        }, () -> statusCache.broadcastInvalidation(List.of(contentId), List.of()));
 
-            log.debug("Status updated: contentId={}, status={}", contentId, status);
-            return true;
-        } catch (Exception e) {
-            log.error("Failed to update status: contentId={}, status={}", contentId, status, e);
-            return false;
-        }
+        log.info("Status reset for replay: contentId={}, status={}", contentId, status);
+        return true;
     }
+
     /**
      * 웹소켓으로 상태 업데이트 전송
      */
@@ -127,22 +337,73 @@ public class StatusService {
     }
 
     /**
-     * 콘텐츠 상태 조회
+     * 콘텐츠 상태 조회 (캐시 우선)
      */
     public ContentStatusDTO getStatus(String contentId) {
-        return contentStatusRepository.findByContentId(contentId)
+        return statusCache.getContent(contentId, id -> contentStatusRepository.findByContentId(id)
                 .map(this::mapToDTO)
-                .orElse(null);
+                .orElse(null));
     }
 
     /**
-     * 사용자의 콘텐츠 상태 목록 조회
+     * 사용자의 콘텐츠 상태 목록 조회 (캐시 우선)
      */
     public List<ContentStatusDTO> getUserContentStatus(String userId) {
-        return contentStatusRepository.findByUserIdOrderByCreatedAtDesc(userId)
+        return statusCache.getUserHistory(userId, id -> contentStatusRepository.findByUserIdOrderByCreatedAtDesc(id)
                 .stream()
                 .map(this::mapToDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 사용자 상태 목록 커서 페이지 조회
+     * (created_at, id) 키셋으로 이어서 조회하므로 페이지가 깊어져도 비용이 일정
+     *
+     * @param cursor   이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param statuses 상태 필터 (비어 있으면 전체)
+     */
+    public ContentStatusPageDTO getUserContentPage(String userId, String cursor, int size,
+                                                   Collection<ContentStatus> statuses) {
+        int pageSize = Math.max(1, Math.min(MAX_PAGE_SIZE, size));
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        boolean filtered = statuses != null && !statuses.isEmpty();
+
+        List<ContentStatusSummary> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = filtered
+                    ? contentStatusRepository.findFirstPageByStatus(userId, statuses, limit)
+                    : contentStatusRepository.findFirstPage(userId, limit);
+        } else {
+            long[] key = decodeCursor(cursor);
+            rows = filtered
+                    ? contentStatusRepository.findPageAfterByStatus(userId, statuses, key[0], key[1], limit)
+                    : contentStatusRepository.findPageAfter(userId, key[0], key[1], limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ContentStatusSummary> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? encodeCursor(items.get(items.size() - 1)) : null;
+
+        return new ContentStatusPageDTO(List.copyOf(items), nextCursor, hasNext);
+    }
+
+    private String encodeCursor(ContentStatusSummary last) {
+        String key = last.createdAt() + ":" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long[] decodeCursor(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.indexOf(':');
+            return new long[] {
+                    Long.parseLong(key.substring(0, separator)),
+                    Long.parseLong(key.substring(separator + 1))
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
     }
 
     /**
@@ -160,4 +421,38 @@ public class StatusService {
         dto.setUpdatedAt(entity.getUpdatedAt());
         return dto;
     }
-}
\ No newline at end of file
+
+    /**
+     * 콘텐츠 하나에 대한 상태 업데이트 (배치 병합 단위)
+     */
+    public record StatusUpdate(String contentId, String userId, String fileName, ContentStatus status,
+                               String errorMessage, String accessUrl) {
+
+        public static StatusUpdate from(StatusEvent event) {
+            return new StatusUpdate(event.getId(), emptyToNull(event.getUserId()),
+                    emptyToNull(event.getFileName()), event.getStatus(),
+                    event.getErrorMessage(), event.getAccessUrl());
+        }
+
+        /**
+         * 같은 콘텐츠의 다른 업데이트와 병합
+         * 단계 순위가 높은 상태를 남기고 (같으면 먼저 받은 상태 유지), 비어 있는 값은 다른 쪽에서 보충
+         */
+        public StatusUpdate merge(StatusUpdate other) {
+            boolean keepThis = !status.canTransitionTo(other.status);
+            StatusUpdate winner = keepThis ? this : other;
+            StatusUpdate loser = keepThis ? other : this;
+            return new StatusUpdate(
+                    contentId,
+                    userId != null ? userId : other.userId,
+                    fileName != null ? fileName : other.fileName,
+                    winner.status,
+                    winner.errorMessage != null ? winner.errorMessage : loser.errorMessage,
+                    winner.accessUrl != null ? winner.accessUrl : loser.accessUrl);
+        }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.isEmpty() ? null : value;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.upload.service;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.model.StorageLookupRequest;
+import com.project.common.model.StorageLookupResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+
+/**
+ * 저장 객체 메타데이터 조회 (저장 서비스 색인에 RPC 요청)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageLookupService {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    /**
+     * @return 조회 결과, 응답 시간 초과 시 null
+     */
+    public StorageLookupResult lookup(StorageLookupRequest request) {
+        StorageLookupResult result = rabbitTemplate.convertSendAndReceiveAsType(
+                RabbitMQConstants.CONTENT_EXCHANGE,
+                RabbitMQConstants.STORAGE_LOOKUP_ROUTING_KEY,
+                request,
+                new ParameterizedTypeReference<StorageLookupResult>() {});
+
+        if (result == null) {
+            log.warn("Stored object lookup timed out: {}", request);
+        }
+        return result;
+    }
+}
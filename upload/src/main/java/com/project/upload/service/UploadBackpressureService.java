@@ -0,0 +1,85 @@
+package com.project.upload.service;
+
+import com.project.common.constants.RabbitMQConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 청크 저장 큐 적체량 기반 업로드 흐름 제어
+ * 큐 깊이에 따라 클라이언트 동시 업로드 윈도우를 줄이고, 임계치를 넘으면 재시도 대기를 요청한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadBackpressureService {
+
+    private final AmqpAdmin amqpAdmin;
+
+    @Value("${upload.flow-control.max-window:6}")
+    private int maxWindow;
+
+    @Value("${upload.flow-control.low-watermark:50}")
+    private int lowWatermark;
+
+    @Value("${upload.flow-control.high-watermark:500}")
+    private int highWatermark;
+
+    @Value("${upload.flow-control.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    @Value("${upload.flow-control.depth-cache-ms:1000}")
+    private long depthCacheMillis;
+
+    // 요청마다 큐를 조회하지 않도록 깊이를 짧게 캐시
+    private volatile long cachedDepth;
+    private volatile long cachedAt;
+
+    /**
+     * 현재 큐 상태에서 권장 동시 업로드 윈도우 계산
+     * 저수위 이하에서는 최대 윈도우, 고수위에 가까울수록 1까지 선형 감소
+     */
+    public int recommendedWindow() {
+        long depth = queueDepth();
+        if (depth <= lowWatermark) {
+            return maxWindow;
+        }
+        if (depth >= highWatermark) {
+            return 1;
+        }
+        double load = (double) (depth - lowWatermark) / (highWatermark - lowWatermark);
+        return Math.max(1, (int) Math.round(maxWindow * (1.0 - load)));
+    }
+
+    /**
+     * 새 청크 수신을 잠시 거절해야 하는지 여부 (고수위 초과)
+     */
+    public boolean shouldThrottle() {
+        return queueDepth() >= highWatermark;
+    }
+
+    public int retryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    private long queueDepth() {
+        long now = System.currentTimeMillis();
+        if (now - cachedAt < depthCacheMillis) {
+            return cachedDepth;
+        }
+
+        try {
+            QueueInformation info = amqpAdmin.getQueueInfo(RabbitMQConstants.CHUNK_STORAGE_QUEUE);
+            cachedDepth = info != null ? info.getMessageCount() : 0;
+        } catch (Exception e) {
+            // 브로커 조회 실패 시 흐름 제어 없이 진행 (발행 실패는 업로드 오류로 처리됨)
+            log.debug("Failed to read chunk storage queue depth", e);
+            cachedDepth = 0;
+        }
+        cachedAt = now;
+        return cachedDepth;
+    }
+}
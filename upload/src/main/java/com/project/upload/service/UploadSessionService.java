@@ -0,0 +1,231 @@
+package com.project.upload.service;
+
+import com.project.upload.entity.UploadSessionEntity;
+import com.project.upload.entity.UploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 재개 가능한 청크 업로드 세션 관리
+ * 세션별로 수신된 청크 인덱스를 기록하여 실패 지점부터 이어서 업로드할 수 있게 한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadSessionService {
+
+    // 비트셋 컬럼 크기(2048바이트)로 표현 가능한 최대 청크 수
+    private static final int MAX_TOTAL_CHUNKS = 2048 * 8;
+
+    private final UploadSessionRepository uploadSessionRepository;
+
+    @Value("${upload.chunk.default-size:5242880}")
+    private long defaultChunkSize;
+
+    @Value("${upload.chunk.min-size:5242880}")
+    private long minChunkSize;
+
+    @Value("${upload.chunk.max-size:52428800}")
+    private long maxChunkSize;
+
+    /**
+     * 업로드 세션 생성 및 청크 크기 협상
+     *
+     * @param requestedChunkSize 클라이언트 희망 청크 크기 (null이면 기본값)
+     */
+    @Transactional
+    public UploadSessionEntity createSession(String userId, String fileName, String contentType,
+                                             long fileSize, Long requestedChunkSize, String priority) {
+        long chunkSize = negotiateChunkSize(fileSize, requestedChunkSize);
+        int totalChunks = (int) Math.max(1, (fileSize + chunkSize - 1) / chunkSize);
+
+        return saveNewSession(UUID.randomUUID().toString(), userId, fileName, contentType,
+                fileSize, chunkSize, totalChunks, priority);
+    }
+
+    /**
+     * 객체 저장소 직접 업로드 세션 생성
+     */
+    @Transactional
+    public UploadSessionEntity createDirectSession(String userId, String fileName, String contentType,
+                                                   long fileSize, Long requestedChunkSize, String priority) {
+        UploadSessionEntity session = createSession(userId, fileName, contentType, fileSize,
+                requestedChunkSize, priority);
+        session.setDirect(true);
+        return uploadSessionRepository.save(session);
+    }
+
+    /**
+     * 세션 없이 시작된 기존 방식(/stream) 업로드용 세션 생성
+     * 같은 contentId 의 첫 청크들이 동시에 도착해 한쪽이 먼저 생성하면 그 세션을 사용한다
+     * (삽입 충돌 후 다시 조회해야 하므로 하나의 트랜잭션으로 묶지 않음)
+     *
+     * @param fileSize 전체 파일 크기 (null 이면 청크 크기 * 청크 수)
+     */
+    public UploadSessionEntity createImplicitSession(String contentId, String userId, String fileName,
+                                                     String contentType, Long fileSize, long chunkSize,
+                                                     int totalChunks, String priority) {
+        Optional<UploadSessionEntity> existing = uploadSessionRepository.findByContentId(contentId);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        try {
+            return saveNewSession(contentId, userId, fileName, contentType,
+                    fileSize != null ? fileSize : chunkSize * totalChunks, chunkSize, totalChunks, priority);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Upload session created concurrently: contentId={}", contentId);
+            return uploadSessionRepository.findByContentId(contentId).orElseThrow(() -> e);
+        }
+    }
+
+    public Optional<UploadSessionEntity> getSession(String contentId) {
+        return uploadSessionRepository.findByContentId(contentId);
+    }
+
+    /**
+     * 청크 수신 기록 (멱등)
+     *
+     * @return 수신 결과 (신규 여부, 이번 기록으로 모든 청크가 처음 채워졌는지 여부)
+     */
+    @Transactional
+    public ChunkReceipt markChunkReceived(String contentId, int chunkIndex) {
+        BitSet chunks = new BitSet();
+        chunks.set(chunkIndex);
+        return markChunksReceived(contentId, chunks);
+    }
+
+    /**
+     * 여러 청크 수신 기록 (멱등, 청크 해시 협상으로 이미 저장된 청크를 한 번에 기록할 때 사용)
+     *
+     * @return 수신 결과 (하나라도 새로 기록되었는지 여부, 이번 기록으로 모든 청크가 처음 채워졌는지 여부)
+     */
+    @Transactional
+    public ChunkReceipt markChunksReceived(String contentId, BitSet chunks) {
+        UploadSessionEntity session = uploadSessionRepository.findForUpdate(contentId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload session not found: " + contentId));
+
+        BitSet received = BitSet.valueOf(session.getReceivedBitmap());
+        int before = received.cardinality();
+        received.or(chunks.get(0, session.getTotalChunks()));
+        boolean newlyReceived = received.cardinality() > before;
+        boolean firstCompletion = false;
+
+        if (newlyReceived) {
+            session.setReceivedBitmap(received.toByteArray());
+            session.setReceivedCount(received.cardinality());
+
+            if (!session.isCompleted() && session.getReceivedCount() >= session.getTotalChunks()) {
+                session.setCompleted(true);
+                firstCompletion = true;
+            }
+        }
+        session.setUpdatedAt(System.currentTimeMillis());
+        uploadSessionRepository.save(session);
+
+        return new ChunkReceipt(newlyReceived, firstCompletion, session.getReceivedCount(), session.getTotalChunks());
+    }
+
+    /**
+     * 직접 업로드 완료 기록 (모든 청크를 수신한 것으로 표시)
+     *
+     * @return 이번 호출로 처음 완료되었는지 여부
+     */
+    @Transactional
+    public boolean markCompleted(String contentId) {
+        UploadSessionEntity session = uploadSessionRepository.findForUpdate(contentId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload session not found: " + contentId));
+
+        if (session.isCompleted()) {
+            return false;
+        }
+
+        BitSet received = new BitSet();
+        received.set(0, session.getTotalChunks());
+        session.setReceivedBitmap(received.toByteArray());
+        session.setReceivedCount(session.getTotalChunks());
+        session.setCompleted(true);
+        session.setUpdatedAt(System.currentTimeMillis());
+        uploadSessionRepository.save(session);
+        return true;
+    }
+
+    /**
+     * 수신 청크 여부 확인
+     */
+    public boolean isChunkReceived(UploadSessionEntity session, int chunkIndex) {
+        return BitSet.valueOf(session.getReceivedBitmap()).get(chunkIndex);
+    }
+
+    /**
+     * 청크 길이가 협상된 크기와 맞는지 확인
+     * 마지막 청크를 제외하면 정확히 청크 크기여야 하고, 마지막 청크는 청크 크기 이하
+     */
+    public boolean isValidChunkLength(UploadSessionEntity session, int chunkIndex, long length) {
+        if (length < 0) {
+            return false;
+        }
+        if (chunkIndex < session.getTotalChunks() - 1) {
+            return length == session.getChunkSize();
+        }
+        return length <= session.getChunkSize();
+    }
+
+    /**
+     * 수신된 청크 인덱스 목록
+     */
+    public int[] receivedChunks(UploadSessionEntity session) {
+        return BitSet.valueOf(session.getReceivedBitmap()).stream().toArray();
+    }
+
+    private long negotiateChunkSize(long fileSize, Long requestedChunkSize) {
+        long chunkSize = requestedChunkSize != null && requestedChunkSize > 0 ? requestedChunkSize : defaultChunkSize;
+        chunkSize = Math.max(minChunkSize, Math.min(maxChunkSize, chunkSize));
+
+        // 최대 청크 수를 넘지 않도록 청크 크기 확대
+        long minimumForCount = (fileSize + MAX_TOTAL_CHUNKS - 1) / MAX_TOTAL_CHUNKS;
+        if (chunkSize < minimumForCount) {
+            if (minimumForCount > maxChunkSize) {
+                throw new IllegalArgumentException("File too large for chunked upload: " + fileSize);
+            }
+            chunkSize = minimumForCount;
+        }
+        return chunkSize;
+    }
+
+    private UploadSessionEntity saveNewSession(String contentId, String userId, String fileName,
+                                               String contentType, long fileSize, long chunkSize,
+                                               int totalChunks, String priority) {
+        if (totalChunks > MAX_TOTAL_CHUNKS) {
+            throw new IllegalArgumentException("Too many chunks: " + totalChunks);
+        }
+
+        UploadSessionEntity session = new UploadSessionEntity();
+        session.setContentId(contentId);
+        session.setUserId(userId);
+        session.setFileName(fileName);
+        session.setContentType(contentType);
+        session.setFileSize(fileSize);
+        session.setChunkSize(chunkSize);
+        session.setTotalChunks(totalChunks);
+        session.setPriority(priority);
+
+        log.info("Upload session created: contentId={}, chunkSize={}, totalChunks={}",
+                contentId, chunkSize, totalChunks);
+        return uploadSessionRepository.save(session);
+    }
+
+    /**
+     * 청크 수신 결과
+     */
+    public record ChunkReceipt(boolean newlyReceived, boolean firstCompletion, int receivedChunks, int totalChunks) {
+    }
+}
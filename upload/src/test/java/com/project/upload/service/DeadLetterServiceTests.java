@@ -0,0 +1,168 @@
+package com.project.upload.service;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.project.common.messaging.PublishConfirmException;
+import com.project.common.model.ContentStatus;
+import com.project.upload.dto.DeadLetterResult;
+import com.project.upload.entity.ContentStatusRepository;
+import com.project.upload.service.DeadLetterService.Filter;
+import com.project.upload.service.StatusService.StatusUpdate;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * DLQ 재처리 시 실패 상태 되돌리기 (내장 H2 상태 테이블)
+ */
+class DeadLetterServiceTests {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private StatusService statusService;
+    private PipelinePublisher pipelinePublisher;
+    private Channel channel;
+    private DeadLetterService deadLetterService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE content_status (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    content_id VARCHAR(50) NOT NULL UNIQUE,
+                    user_id VARCHAR(50) NOT NULL,
+                    file_name VARCHAR(255),
+                    status VARCHAR(30) NOT NULL,
+                    stage_rank INT NOT NULL,
+                    error_message VARCHAR(1000),
+                    access_url VARCHAR(1000),
+                    created_at BIGINT NOT NULL,
+                    updated_at BIGINT NOT NULL)
+                """);
+
+        StatusCache statusCache = new StatusCache(new SimpleMeterRegistry(), mock(PipelinePublisher.class),
+                100, 100, 300, false);
+        statusService = new StatusService(mock(ContentStatusRepository.class), mock(SimpMessagingTemplate.class),
+                jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(database)), statusCache);
+
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        channel = mock(Channel.class);
+        when(rabbitTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+        when(channel.basicGet(RabbitMQConstants.DLQ_QUEUE, false)).thenReturn(deadLetter("c1"), (GetResponse) null);
+
+        pipelinePublisher = mock(PipelinePublisher.class);
+        deadLetterService = new DeadLetterService(rabbitTemplate, pipelinePublisher, mock(MessageConverter.class),
+                statusService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void replayedFailedContentReachesCompleted() throws Exception {
+        // DLQ 로 보낼 때 기록된 실패 상태
+        apply(ContentStatus.FAILED, "processing failed");
+
+        DeadLetterResult result = deadLetterService.replay(new Filter("c1", null, null), 10);
+
+        assertThat(result.affected()).isEqualTo(1);
+        verify(channel).basicAck(1, false);
+        assertThat(row().get("STATUS")).isEqualTo(ContentStatus.VALIDATED.name());
+        assertThat(row().get("ERROR_MESSAGE")).isNull();
+
+        // 재처리된 메시지가 이후 단계를 거쳐 완료까지 진행
+        for (ContentStatus status : List.of(ContentStatus.PROCESSING, ContentStatus.PROCESSED,
+                ContentStatus.STORING, ContentStatus.STORED, ContentStatus.COMPLETED)) {
+            apply(status, null);
+        }
+        assertThat(row().get("STATUS")).isEqualTo(ContentStatus.COMPLETED.name());
+    }
+
+    @Test
+    void failedReplayRestoresFailedStatus() throws Exception {
+        apply(ContentStatus.FAILED, "processing failed");
+        doThrow(new PublishConfirmException("nack")).when(pipelinePublisher).publishAndWait(any(Outbound[].class));
+
+        DeadLetterResult result = deadLetterService.replay(new Filter("c1", null, null), 10);
+
+        assertThat(result.failed()).isEqualTo(1);
+        verify(channel).basicNack(1, false, true);
+        assertThat(row().get("STATUS")).isEqualTo(ContentStatus.FAILED.name());
+    }
+
+    @Test
+    void completedContentIsNotReset() {
+        apply(ContentStatus.COMPLETED, null);
+
+        deadLetterService.replay(new Filter("c1", null, null), 10);
+
+        assertThat(row().get("STATUS")).isEqualTo(ContentStatus.COMPLETED.name());
+    }
+
+    @Test
+    void replayStatusFollowsStageRoutingKey() {
+        assertThat(DeadLetterService.replayStatus(RabbitMQConstants.VALIDATION_ROUTING_KEY))
+                .isEqualTo(ContentStatus.UPLOADED);
+        assertThat(DeadLetterService.replayStatus(RabbitMQConstants.IMAGE_ROUTING_KEY))
+                .isEqualTo(ContentStatus.VALIDATED);
+        assertThat(DeadLetterService.replayStatus(
+                RabbitMQConstants.STORAGE_ROUTING_KEY + RabbitMQConstants.HIGH_LANE_SUFFIX))
+                .isEqualTo(ContentStatus.PROCESSED);
+        assertThat(DeadLetterService.replayStatus(RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY)).isNull();
+    }
+
+    private void apply(ContentStatus status, String errorMessage) {
+        statusService.applyStatusUpdates(List.of(
+                new StatusUpdate("c1", "u1", "a.png", status, errorMessage, null)));
+    }
+
+    private Map<String, Object> row() {
+        return jdbcTemplate.queryForMap("SELECT * FROM content_status WHERE content_id = ?", "c1");
+    }
+
+    private static GetResponse deadLetter(String contentId) {
+        AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder()
+                .headers(Map.of(
+                        RabbitMQConstants.X_CONTENT_ID, contentId,
+                        RabbitMQConstants.X_ORIGINAL_EXCHANGE, RabbitMQConstants.CONTENT_EXCHANGE,
+                        RabbitMQConstants.X_ORIGINAL_ROUTING_KEY, RabbitMQConstants.PROCESSING_ROUTING_KEY,
+                        RabbitMQConstants.X_RETRY_COUNT, RabbitMQConstants.MAX_RETRY_COUNT))
+                .build();
+        Envelope envelope = new Envelope(1, false, RabbitMQConstants.DLX_EXCHANGE, RabbitMQConstants.DLQ_ROUTING_KEY);
+        return new GetResponse(envelope, properties, new byte[]{1}, 0);
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.upload.service;
+
+import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.project.common.model.ContentStatus;
+import com.project.upload.dto.ContentStatusDTO;
+import com.project.upload.service.StatusCache.Invalidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class StatusCacheTests {
+
+    private PipelinePublisher pipelinePublisher;
+    private StatusCache statusCache;
+
+    @BeforeEach
+    void setUp() {
+        pipelinePublisher = mock(PipelinePublisher.class);
+        statusCache = new StatusCache(new SimpleMeterRegistry(), pipelinePublisher, 100, 100, 300, true);
+    }
+
+    @Test
+    void putKeepsLaterStageWhenSnapshotsArriveOutOfOrder() {
+        statusCache.put(status("c1", ContentStatus.STORED));
+        statusCache.put(status("c1", ContentStatus.PROCESSING));
+
+        assertThat(statusCache.getContent("c1", id -> null).getStatus()).isEqualTo(ContentStatus.STORED);
+    }
+
+    @Test
+    void remoteInvalidationEvictsContentAndUserHistory() {
+        statusCache.put(status("c1", ContentStatus.STORED));
+        statusCache.getUserHistory("u1", id -> List.of(status("c1", ContentStatus.STORED)));
+
+        statusCache.applyInvalidation(new Invalidation("other-instance", Set.of("c1"), Set.of("u1")));
+
+        assertThat(statusCache.getContent("c1", id -> status(id, ContentStatus.COMPLETED)).getStatus())
+                .isEqualTo(ContentStatus.COMPLETED);
+        assertThat(statusCache.getUserHistory("u1", id -> List.of())).isEmpty();
+    }
+
+    @Test
+    void ownInvalidationIsIgnored() {
+        statusCache.put(status("c1", ContentStatus.STORED));
+        statusCache.broadcastInvalidation(List.of("c1"), List.of("u1"));
+
+        ArgumentCaptor<Outbound> captor = ArgumentCaptor.forClass(Outbound.class);
+        verify(pipelinePublisher).publish(captor.capture());
+        assertThat(captor.getValue().exchange()).isEqualTo(RabbitMQConstants.STATUS_CACHE_EXCHANGE);
+
+        statusCache.applyInvalidation((Invalidation) captor.getValue().payload());
+
+        assertThat(statusCache.getContent("c1", id -> null).getStatus()).isEqualTo(ContentStatus.STORED);
+    }
+
+    private static ContentStatusDTO status(String contentId, ContentStatus status) {
+        ContentStatusDTO dto = new ContentStatusDTO();
+        dto.setContentId(contentId);
+        dto.setUserId("u1");
+        dto.setStatus(status);
+        dto.setCreatedAt(1L);
+        return dto;
+    }
+}
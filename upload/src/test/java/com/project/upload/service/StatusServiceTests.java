@@ -0,0 +1,130 @@
+package com.project.upload.service;
+
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.model.ContentStatus;
+import com.project.upload.entity.ContentStatusRepository;
+import com.project.upload.service.StatusService.StatusUpdate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 단계 순위 조건부 상태 반영 (내장 H2, 표준 MERGE 구문)
+ */
+class StatusServiceTests {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private StatusService statusService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE content_status (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    content_id VARCHAR(50) NOT NULL UNIQUE,
+                    user_id VARCHAR(50) NOT NULL,
+                    file_name VARCHAR(255),
+                    status VARCHAR(30) NOT NULL,
+                    stage_rank INT NOT NULL,
+                    error_message VARCHAR(1000),
+                    access_url VARCHAR(1000),
+                    created_at BIGINT NOT NULL,
+                    updated_at BIGINT NOT NULL)
+                """);
+
+        StatusCache statusCache = new StatusCache(new SimpleMeterRegistry(), mock(PipelinePublisher.class),
+                100, 100, 300, false);
+        statusService = new StatusService(mock(ContentStatusRepository.class), mock(SimpMessagingTemplate.class),
+                jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(database)), statusCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void batchUpsertInsertsThenOnlyAdvances() {
+        statusService.applyStatusUpdates(List.of(update("c1", ContentStatus.UPLOADED, null)));
+        statusService.applyStatusUpdates(List.of(update("c1", ContentStatus.STORED, "http://x/a")));
+        // 늦게 도착한 이전 단계 상태
+        statusService.applyStatusUpdates(List.of(update("c1", ContentStatus.PROCESSING, null)));
+
+        Map<String, Object> row = row("c1");
+        assertThat(row.get("STATUS")).isEqualTo(ContentStatus.STORED.name());
+        assertThat(row.get("STAGE_RANK")).isEqualTo(ContentStatus.STORED.getStageRank());
+        assertThat(row.get("ACCESS_URL")).isEqualTo("http://x/a");
+    }
+
+    @Test
+    void firstTerminalStatusWins() {
+        statusService.applyStatusUpdates(List.of(update("c1", ContentStatus.FAILED, "boom")));
+        statusService.applyStatusUpdates(List.of(update("c1", ContentStatus.COMPLETED, null)));
+
+        assertThat(row("c1").get("STATUS")).isEqualTo(ContentStatus.FAILED.name());
+    }
+
+    @Test
+    void conditionalUpdateIgnoresStaleStatus() {
+        assertThat(statusService.updateStatus("c2", "u1", "a.png", ContentStatus.VALIDATED, null, null)).isTrue();
+        assertThat(statusService.updateStatus("c2", "u1", "a.png", ContentStatus.UPLOADED, null, null)).isFalse();
+        assertThat(statusService.updateStatus("c2", "u1", "a.png", ContentStatus.STORING, null, null)).isTrue();
+
+        assertThat(row("c2").get("STATUS")).isEqualTo(ContentStatus.STORING.name());
+    }
+
+    @Test
+    void batchFailureIsPropagatedSoTheBatchIsNotAcknowledged() {
+        jdbcTemplate.execute("DROP TABLE content_status");
+
+        // 개별 처리로 대체해도 반영하지 못하면 예외를 전파해야 컨슈머가 배치를 재시도로 넘긴다
+        assertThatThrownBy(() -> statusService.applyStatusUpdates(List.of(
+                update("c1", ContentStatus.UPLOADED, null), update("c2", ContentStatus.UPLOADED, null))))
+                .isInstanceOf(DataAccessException.class);
+    }
+
+    @Test
+    void mergeKeepsHigherStageAndFillsMissingValues() {
+        StatusUpdate stored = new StatusUpdate("c1", null, null, ContentStatus.STORED, null, "http://x/a");
+        StatusUpdate processing = new StatusUpdate("c1", "u1", "a.png", ContentStatus.PROCESSING, null, null);
+
+        StatusUpdate merged = processing.merge(stored);
+
+        assertThat(merged.status()).isEqualTo(ContentStatus.STORED);
+        assertThat(merged.userId()).isEqualTo("u1");
+        assertThat(merged.fileName()).isEqualTo("a.png");
+        assertThat(merged.accessUrl()).isEqualTo("http://x/a");
+    }
+
+    private Map<String, Object> row(String contentId) {
+        return jdbcTemplate.queryForMap("SELECT * FROM content_status WHERE content_id = ?", contentId);
+    }
+
+    private static StatusUpdate update(String contentId, ContentStatus status, String value) {
+        return new StatusUpdate(contentId, "u1", "a.png", status,
+                status == ContentStatus.FAILED ? value : null,
+                status == ContentStatus.FAILED ? null : value);
+    }
+}
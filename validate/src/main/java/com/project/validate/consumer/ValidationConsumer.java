@@ -1,14 +1,19 @@
 package com.project.validate.consumer;
 
 import com.project.common.constants.RabbitMQConstants;
+import com.project.common.messaging.PipelinePublisher;
+import com.project.common.messaging.PipelinePublisher.Outbound;
+import com.project.common.messaging.ProcessingLane;
+import com.project.common.messaging.PublishConfirmException;
+import com.project.common.messaging.StageFailureException;
 import com.project.common.model.ContentMessage;
 import com.project.common.model.ContentStatus;
+import com.project.common.model.StatusEvent;
 import com.project.common.model.ValidationResult;
 import com.project.validate.service.ValidationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -17,71 +22,47 @@ import org.springframework.stereotype.Component;
 public class ValidationConsumer {
 
     private final ValidationService validationService;
-    private final RabbitTemplate rabbitTemplate;
+    private final PipelinePublisher pipelinePublisher;
 
     @RabbitListener(queues = RabbitMQConstants.VALIDATION_QUEUE)
+    @RabbitListener(id = "validationHighLane", queues = RabbitMQConstants.VALIDATION_HIGH_QUEUE,
+            concurrency = "${messaging.priority.high-lane.concurrency:2}",
+            autoStartup = "${messaging.priority.high-lane.enabled:false}")
     public void consumeValidationMessage(ContentMessage message) {
         log.info("Received validation request for content: {}", message.getId());
 
         try {
-            // 검증 상태 업데이트 메시지 발행
+            // 검증 상태 업데이트 메시지 발행 (진행 상태는 확인을 기다리지 않음)
             message.nextStage(ContentStatus.VALIDATING);
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                    message);
+            pipelinePublisher.publish(Outbound.status(StatusEvent.from(message)));
 
             // 파일 검증 수행
             ValidationResult validationResult = validationService.validateContent(message);
             boolean isValid = validationResult.isValid();
 
-            // 상태 업데이트 발행
+            // 상태 업데이트와 다음 단계(처리 서비스 또는 실패 알림)를 함께 발행
             if (isValid) {
                 message.nextStage(ContentStatus.VALIDATED);
+                // 파일 유형별 처리 레인으로 전달
+                ProcessingLane lane = ProcessingLane.forFileType(message.getFileType());
+                pipelinePublisher.transition(StatusEvent.from(message), lane.getRoutingKey(), message);
+                log.info("Validation passed, message sent to processing lane {}: {}", lane.getLaneName(), message.getId());
             } else {
                 message.withError(validationResult.getErrorMessage());
                 message.nextStage(ContentStatus.VALIDATION_FAILED);
-            }
-
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                    message);
-
-            // 다음 단계로 전달 또는 실패 알림
-            if (isValid) {
-                // 처리 서비스로 전달
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.PROCESSING_ROUTING_KEY,
-                        message);
-                log.info("Validation passed, message sent to processing: {}", message.getId());
-            } else {
-                // 검증 실패 시 알림 서비스로 전달
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConstants.CONTENT_EXCHANGE,
-                        RabbitMQConstants.NOTIFICATION_ROUTING_KEY,
-                        message);
+                pipelinePublisher.transition(StatusEvent.from(message),
+                        RabbitMQConstants.NOTIFICATION_ROUTING_KEY, message);
                 log.warn("Validation failed: {}, error: {}",
                         message.getId(), validationResult.getErrorMessage());
             }
+        } catch (PublishConfirmException e) {
+            // 발행이 확인되지 않으면 입력 메시지를 재전달 받아 다시 처리
+            log.error("Validation result not confirmed for content: {}", message.getId(), e);
+            throw e;
         } catch (Exception e) {
+            // 일시적 오류 (검사/저장소 오류 등)는 지연 큐로 재시도, 한도 초과 시 실패 상태와 알림 발행
             log.error("Error during validation for content: {}", message.getId(), e);
-
-            // 오류 상태로 업데이트
-            message.withError("Validation error: " + e.getMessage());
-
-            // 상태 업데이트 메시지 발행
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.STATUS_UPDATE_ROUTING_KEY,
-                    message);
-
-            // 알림 서비스로 메시지 발행
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConstants.CONTENT_EXCHANGE,
-                    RabbitMQConstants.NOTIFICATION_ROUTING_KEY,
-                    message);
+            throw StageFailureException.of(message, "Validation error: " + e.getMessage(), e);
         }
     }
 }
\ No newline at end of file
@@ -1,19 +1,28 @@
 package com.project.validate.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class AntiVirusService {
 
+    // 외부 검사 프로세스는 공용 subprocess 실행기에서만 띄워 동시 실행 수를 제한
+    private final TaskExecutor subprocessExecutor;
+
     @Value("${antivirus.enabled:false}")  // 기본값 false로 변경
     private boolean enabled;
 
@@ -31,47 +40,58 @@ public class AntiVirusService {
      *
      * @param filePath 검사할 파일 경로
      * @return 안전한 파일인지 여부 (true: 안전, false: 위험)
+     * @throws IOException 검사를 수행하지 못한 경우 (실행 실패, 시간 초과 - 호출자가 재시도)
      */
-    public boolean scanFile(String filePath) {
+    public boolean scanFile(String filePath) throws IOException {
         if (!enabled) {
             log.info("Antivirus scanning is disabled, skipping scan for: {}", filePath);
             return true;
         }
 
+        // 파일 존재 확인
+        Path path = Paths.get(filePath);
+        if (!Files.exists(path)) {
+            log.error("File not found for virus scan: {}", filePath);
+            return false;
+        }
+
         try {
-            // 파일 존재 확인
-            Path path = Paths.get(filePath);
-            if (!Files.exists(path)) {
-                log.error("File not found for virus scan: {}", filePath);
-                return false;
+            return CompletableFuture.supplyAsync(() -> runScan(filePath), subprocessExecutor).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
             }
+            throw new IOException("Antivirus scan failed for: " + filePath, e.getCause());
+        }
+    }
 
-            try {
-                // 외부 안티바이러스 명령 실행
-                ProcessBuilder pb = new ProcessBuilder(scanCommand, "--no-summary", filePath);
-                Process process = pb.start();
-
-                // 타임아웃 설정
-                boolean completed = process.waitFor(scanTimeoutSeconds, TimeUnit.SECONDS);
-                if (!completed) {
-                    process.destroyForcibly();
-                    log.error("Antivirus scan timed out for: {}", filePath);
-                    return true; // 타임아웃 시 안전하다고 가정
-                }
-
-                // 결과 확인 (대부분의 AV에서 0은 감염 없음, 1은 감염됨)
-                int exitCode = process.exitValue();
-                log.info("Antivirus scan completed for: {}, result: {}", filePath, exitCode == 0 ? "safe" : "infected");
-
-                return exitCode == 0;
-            } catch (IOException e) {
-                log.warn("Failed to execute clamscan - assuming file is safe: {}", e.getMessage());
-                return true; // 명령 실행 실패 시 안전하다고 가정
+    /**
+     * 외부 안티바이러스 명령 실행 (subprocess 실행기 스레드에서 호출)
+     */
+    private boolean runScan(String filePath) {
+        try {
+            // 외부 안티바이러스 명령 실행
+            ProcessBuilder pb = new ProcessBuilder(scanCommand, "--no-summary", filePath);
+            Process process = pb.start();
+
+            // 타임아웃 설정
+            boolean completed = process.waitFor(scanTimeoutSeconds, TimeUnit.SECONDS);
+            if (!completed) {
+                process.destroyForcibly();
+                throw new IOException("Antivirus scan timed out after " + scanTimeoutSeconds + "s: " + filePath);
             }
 
-        } catch (Exception e) {
-            log.error("Error during antivirus scan for file: {}", filePath, e);
-            return true; // 예외 발생 시 안전하다고 가정
+            // 결과 확인 (대부분의 AV에서 0은 감염 없음, 1은 감염됨)
+            int exitCode = process.exitValue();
+            log.info("Antivirus scan completed for: {}, result: {}", filePath, exitCode == 0 ? "safe" : "infected");
+
+            return exitCode == 0;
+        } catch (IOException e) {
+            // 검사하지 못한 파일을 안전하다고 가정하지 않음 (검증 단계에서 지연 재시도)
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("Antivirus scan interrupted: " + filePath, e));
         }
     }
 
@@ -80,8 +100,9 @@ public class AntiVirusService {
      *
      * @param data 검사할 바이트 배열
      * @return 안전한 데이터인지 여부 (true: 안전, false: 위험)
+     * @throws IOException 검사를 수행하지 못한 경우
      */
-    public boolean scanBytes(byte[] data) {
+    public boolean scanBytes(byte[] data) throws IOException {
         if (!enabled || data == null || data.length == 0) {
             return true;
         }
@@ -99,9 +120,6 @@ public class AntiVirusService {
             // 파일 스캔
 
             return scanFile(tempFile.toString());
-        } catch (Exception e) {
-            log.error("Error during antivirus scan for byte data", e);
-            return true; // 예외 발생 시 안전하다고 가정
         } finally {
             // 임시 파일 정리
             if (tempFile != null) {
@@ -1,5 +1,6 @@
 package com.project.validate.service;
 
+import com.project.common.claimcheck.PayloadTransport;
 import com.project.common.model.ContentMessage;
 import com.project.common.model.FileType;
 import com.project.common.model.ValidationResult;
@@ -27,14 +28,16 @@ public class ValidationService {
 
     private final Map<FileType, FileValidator> validatorMap;
     private final AntiVirusService antiVirusService;
+    private final PayloadTransport payloadTransport;
 
     /**
      * 콘텐츠 검증 수행
      *
      * @param message 검증할 콘텐츠 메시지
      * @return 검증 결과
+     * @throws IOException 콘텐츠를 읽거나 검사하지 못한 경우 (일시적 오류 - 호출자가 재시도)
      */
-    public ValidationResult validateContent(ContentMessage message) {
+    public ValidationResult validateContent(ContentMessage message) throws IOException {
         log.info("Validating content: {}, type: {}", message.getId(), message.getContentType());
 
         try {
@@ -74,7 +77,7 @@ public class ValidationService {
             log.info("Validation completed for content: {}, valid: {}", message.getId(), isValid);
             return result;
 
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             log.error("Error validating content: {}", message.getId(), e);
             return ValidationResult.invalid(message.getId(), "검증 중 오류 발생: " + e.getMessage());
         }
@@ -111,7 +114,7 @@ public class ValidationService {
                 result.setErrorMessage("임시 파일을 찾을 수 없습니다");
                 return false;
             }
-        } else if (message.getContentData() == null) {
+        } else if (!payloadTransport.hasPayload(message)) {
             result.addIssue(new ValidationIssue(
                     ValidationSeverity.FATAL,
                     "NO_CONTENT_DATA",
@@ -147,52 +150,39 @@ public class ValidationService {
     /**
      * 바이러스 검사 수행
      */
-    private boolean performAntiVirusScan(ContentMessage message, ValidationResult result) {
-        try {
-            boolean isSafe;
-
-            if (message.getSourcePath() != null) {
-                isSafe = antiVirusService.scanFile(message.getSourcePath());
-            } else if (message.getTempFilePath() != null) {
-                isSafe = antiVirusService.scanFile(message.getTempFilePath());
-            } else if (message.getContentData() != null) {
-                isSafe = antiVirusService.scanBytes(message.getContentData());
-            } else {
-                result.addIssue(new ValidationIssue(
-                        ValidationSeverity.FATAL,
-                        "SCAN_FAILED",
-                        "바이러스 검사를 수행할 수 없습니다",
-                        "검사할 콘텐츠 데이터가 없습니다"
-                ));
-                result.setValid(false);
-                result.setErrorMessage("바이러스 검사를 수행할 수 없습니다");
-                return false;
-            }
+    private boolean performAntiVirusScan(ContentMessage message, ValidationResult result) throws IOException {
+        boolean isSafe;
 
-            if (!isSafe) {
-                result.addIssue(new ValidationIssue(
-                        ValidationSeverity.FATAL,
-                        "VIRUS_DETECTED",
-                        "파일에서 악성 코드가 발견되었습니다",
-                        "보안상의 이유로 파일이 거부되었습니다"
-                ));
-                result.setValid(false);
-                result.setErrorMessage("파일에서 악성 코드가 발견되었습니다");
-                return false;
-            }
+        if (message.getSourcePath() != null) {
+            isSafe = antiVirusService.scanFile(message.getSourcePath());
+        } else if (message.getTempFilePath() != null) {
+            isSafe = antiVirusService.scanFile(message.getTempFilePath());
+        } else if (payloadTransport.hasPayload(message)) {
+            isSafe = antiVirusService.scanBytes(payloadTransport.readPayload(message));
+        } else {
+            result.addIssue(new ValidationIssue(
+                    ValidationSeverity.FATAL,
+                    "SCAN_FAILED",
+                    "바이러스 검사를 수행할 수 없습니다",
+                    "검사할 콘텐츠 데이터가 없습니다"
+            ));
+            result.setValid(false);
+            result.setErrorMessage("바이러스 검사를 수행할 수 없습니다");
+            return false;
+        }
 
-            return true;
-        } catch (Exception e) {
-            log.error("Error during virus scan for content: {}", message.getId(), e);
+        if (!isSafe) {
             result.addIssue(new ValidationIssue(
-                    ValidationSeverity.ERROR,
-                    "SCAN_ERROR",
-                    "바이러스 검사 중 오류가 발생했습니다",
-                    e.getMessage()
+                    ValidationSeverity.FATAL,
+                    "VIRUS_DETECTED",
+                    "파일에서 악성 코드가 발견되었습니다",
+                    "보안상의 이유로 파일이 거부되었습니다"
             ));
             result.setValid(false);
-            result.setErrorMessage("바이러스 검사 중 오류가 발생했습니다");
+            result.setErrorMessage("파일에서 악성 코드가 발견되었습니다");
             return false;
         }
+
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,10 @@
 package com.project.validate.validator;
 
+import com.project.common.claimcheck.PayloadTransport;
 import com.project.common.model.ContentMessage;
 import com.project.common.model.ValidationResult;
 import com.project.common.model.ValidationResult.ValidationSeverity;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -21,8 +23,11 @@ import static com.project.common.model.ValidationResult.*;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ImageValidator implements FileValidator {
 
+    private final PayloadTransport payloadTransport;
+
     @Value("${validation.image.max-width:8000}")
     private int maxWidth;
 
@@ -53,8 +58,8 @@ public class ImageValidator implements FileValidator {
                 image = ImageIO.read(new File(message.getSourcePath()));
             } else if (message.getTempFilePath() != null) {
                 image = ImageIO.read(new File(message.getTempFilePath()));
-            } else if (message.getContentData() != null) {
-                image = ImageIO.read(new ByteArrayInputStream(message.getContentData()));
+            } else if (payloadTransport.hasPayload(message)) {
+                image = ImageIO.read(new ByteArrayInputStream(payloadTransport.readPayload(message)));
             } else {
                 result.addIssue(new ValidationIssue(
                         ValidationSeverity.FATAL,
@@ -105,7 +110,7 @@ public class ImageValidator implements FileValidator {
             } else if (message.getTempFilePath() != null) {
                 fileSizeBytes = Files.size(Paths.get(message.getTempFilePath()));
             } else {
-                fileSizeBytes = message.getContentData().length;
+                fileSizeBytes = payloadTransport.payloadLength(message);
             }
 
             long maxSizeBytes = maxSizeMb * 1024L * 1024L;